@@ -0,0 +1,460 @@
+package com.example.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 두 서비스를 로컬에서 띄우고 요청 혼합 워크로드의 꼬리 지연 시간을 측정하는 종단 간 부하 테스트
+ * 실행: ./gradlew e2eLoadTest (bootJar 빌드 -> 서비스 기동 -> 데이터 준비 -> 측정 -> 보고서 -> 서비스 종료)
+ *
+ * 요청은 목표 속도(rate)에 맞춰 정해진 발송 예정 시각에 보내는 open 모델이다.
+ * 응답 시간은 실제 발송 시각이 아니라 발송 예정 시각부터 재므로 드라이버가 밀려도 지연이 숨겨지지 않는다 (coordinated omission 보정).
+ * 실제 발송 시각부터 잰 서비스 시간을 함께 기록해 두 값의 차이가 크거나, 발송 지연/동시 요청 상한 초과가 있으면 보고서에 표시한다.
+ *
+ * 옵션 (--key=value, ./gradlew e2eLoadTest -PloadTestArgs="--rate=500 --duration=120"):
+ *   users             준비할 사용자 수, 기본 100
+ *   orders            준비할 주문 수, 기본 1000 (사용자에게 고르게 분배)
+ *   rate              초당 요청 수, 기본 200
+ *   warmup            워밍업 시간(초), 기본 10
+ *   duration          측정 시간(초), 기본 60
+ *   timeout           요청 타임아웃(초), 기본 10
+ *   max-in-flight     동시 요청 상한 (초과 시 발송하지 않고 drop으로 집계), 기본 2000
+ *   mix               요청 종류별 비중, 기본 createOrder:20,listUserOrders:30,count:20,total:20,patchStatus:10
+ *   external          true면 서비스를 띄우지 않고 user-service-url/order-service-url 로 실행 중인 서비스를 사용
+ *   user-service-jar  user-service bootJar 경로 (Gradle 태스크가 전달)
+ *   order-service-jar order-service bootJar 경로 (Gradle 태스크가 전달)
+ *   report-dir        JSON 보고서 경로, 기본 build/reports/e2e-load-test
+ */
+public class E2ELoadTest {
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+    private static final int BULK_CHUNK_SIZE = 1000;
+    private static final int SEED_CONCURRENCY = 50;
+
+    /** 응답 시간 p99가 서비스 시간 p99보다 이 비율 이상 크면 coordinated omission 표시 */
+    private static final double OMISSION_RATIO = 1.1;
+    private static final long OMISSION_MIN_GAP_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    public static void main(String[] args) throws Exception {
+        Options options = Options.parse(args);
+        HttpClient client = Http.newClient();
+
+        List<ServiceProcess> processes = new ArrayList<>();
+        Thread shutdown = new Thread(() -> stopAll(processes));
+        Runtime.getRuntime().addShutdownHook(shutdown);
+        try {
+            String userServiceUrl = options.userServiceUrl();
+            String orderServiceUrl = options.orderServiceUrl();
+            if (!options.external()) {
+                Path logDir = Path.of("build", "e2e-load-test");
+                System.out.println("서비스 기동 중 (로그: " + logDir.toAbsolutePath() + ")");
+                ServiceProcess userService = ServiceProcess.start("user-service", options.userServiceJar(), 8081, logDir,
+                        List.of("--app.order-service.url=http://localhost:8082"));
+                processes.add(userService);
+                ServiceProcess orderService = ServiceProcess.start("order-service", options.orderServiceJar(), 8082, logDir,
+                        List.of());
+                processes.add(orderService);
+                userService.awaitHealthy(client, options.startupTimeout());
+                orderService.awaitHealthy(client, options.startupTimeout());
+                userServiceUrl = userService.baseUrl();
+                orderServiceUrl = orderService.baseUrl();
+            }
+
+            Operation.Targets targets = seed(client, userServiceUrl, orderServiceUrl, options);
+            System.out.printf("워밍업 %d초 + 측정 %d초, 목표 %d req/s, 구성 %s%n",
+                    options.warmup().toSeconds(), options.duration().toSeconds(), options.rate(), options.mix());
+
+            RunResult result = run(client, targets, options);
+            print(options, result);
+            writeReport(options, result);
+        } finally {
+            stopAll(processes);
+            Runtime.getRuntime().removeShutdownHook(shutdown);
+        }
+    }
+
+    /**
+     * 사용자 N명과 주문 M건 생성 (사용자는 병렬 등록, 주문은 일괄 등록 API 사용)
+     */
+    private static Operation.Targets seed(HttpClient client, String userServiceUrl, String orderServiceUrl,
+                                          Options options) throws InterruptedException, IOException {
+        long started = System.nanoTime();
+        String runId = Long.toString(System.currentTimeMillis());
+        long[] userIds = new long[options.users()];
+        Semaphore permits = new Semaphore(SEED_CONCURRENCY);
+        LongAdder failures = new LongAdder();
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < userIds.length; i++) {
+                int index = i;
+                permits.acquire();
+                workers.submit(() -> {
+                    try {
+                        String user = Http.post(client, userServiceUrl + "/api/v1/users",
+                                "{\"name\":\"e2e-" + index + "\",\"email\":\"e2e-" + runId + "-" + index + "@example.com\"}");
+                        userIds[index] = Http.extractId(user);
+                    } catch (Exception e) {
+                        failures.increment();
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        }
+        if (failures.sum() > 0) {
+            throw new IllegalStateException("사용자 준비 실패: " + failures.sum() + "건");
+        }
+
+        List<Long> orderIds = new ArrayList<>(options.orders());
+        for (int offset = 0; offset < options.orders(); offset += BULK_CHUNK_SIZE) {
+            int size = Math.min(BULK_CHUNK_SIZE, options.orders() - offset);
+            StringBuilder body = new StringBuilder("{\"orders\":[");
+            for (int i = 0; i < size; i++) {
+                if (i > 0) {
+                    body.append(',');
+                }
+                body.append("{\"userId\":").append(userIds[(offset + i) % userIds.length])
+                        .append(",\"productName\":\"e2e-").append(offset + i)
+                        .append("\",\"quantity\":1,\"price\":").append(1000 + (offset + i) % 9000).append('}');
+            }
+            body.append("]}");
+            orderIds.addAll(Http.extractOrderIds(Http.post(client, orderServiceUrl + "/api/v1/orders/bulk", body.toString())));
+        }
+        if (orderIds.size() < options.orders()) {
+            throw new IllegalStateException("주문 준비 실패: " + (options.orders() - orderIds.size()) + "건");
+        }
+
+        System.out.printf("데이터 준비 완료 - 사용자 %d명, 주문 %d건 (%.1f초)%n",
+                userIds.length, orderIds.size(), (System.nanoTime() - started) / 1e9);
+        return new Operation.Targets(userServiceUrl, orderServiceUrl, userIds,
+                orderIds.stream().mapToLong(Long::longValue).toArray());
+    }
+
+    /**
+     * 목표 속도로 요청을 발송 (워밍업 구간에 예정된 요청은 집계하지 않는다)
+     */
+    private static RunResult run(HttpClient client, Operation.Targets targets, Options options) {
+        Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new OperationStats());
+        }
+        Histogram dispatchLag = new Histogram(HIGHEST_TRACKABLE_NANOS, 3);
+        Semaphore inFlight = new Semaphore(options.maxInFlight());
+        double intervalNanos = 1e9 / options.rate();
+
+        long start = System.nanoTime();
+        long measureStart = start + options.warmup().toNanos();
+        long end = measureStart + options.duration().toNanos();
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            for (long i = 0; ; i++) {
+                long intended = start + (long) (i * intervalNanos);
+                if (intended >= end) {
+                    break;
+                }
+                long now;
+                while ((now = System.nanoTime()) < intended) {
+                    LockSupport.parkNanos(intended - now);
+                }
+
+                boolean measured = intended >= measureStart;
+                if (measured) {
+                    dispatchLag.recordValue(Math.min(now - intended, HIGHEST_TRACKABLE_NANOS));
+                }
+                Operation operation = options.mix().next(random);
+                OperationStats operationStats = stats.get(operation);
+                if (!inFlight.tryAcquire()) {
+                    if (measured) {
+                        operationStats.dropped.increment();
+                    }
+                    continue;
+                }
+                workers.submit(() -> {
+                    try {
+                        execute(client, operation.build(targets, ThreadLocalRandom.current(), options.timeout()),
+                                intended, measured ? operationStats : null);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+        return new RunResult(stats, dispatchLag, options.duration());
+    }
+
+    private static void execute(HttpClient client, HttpRequest request, long intended, OperationStats stats) {
+        long sent = System.nanoTime();
+        int status;
+        try {
+            status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException e) {
+            status = -1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        long done = System.nanoTime();
+        if (stats != null) {
+            stats.record(done - intended, done - sent, status);
+        }
+    }
+
+    private static void print(Options options, RunResult result) {
+        double seconds = result.duration().toNanos() / 1e9;
+        System.out.println();
+        System.out.printf("[%s] 목표 %d req/s, 측정 %d초 (지연 시간 단위 ms, 발송 예정 시각 기준)%n",
+                options.label(), options.rate(), result.duration().toSeconds());
+        System.out.printf("%-15s %9s %10s %7s %7s %7s %9s %9s %9s %9s %12s  %s%n",
+                "요청", "요청 수", "처리량", "오류", "4xx", "drop", "p50", "p99", "p99.9", "max", "서비스 p99", "");
+
+        long total = 0;
+        for (Map.Entry<Operation, OperationStats> entry : result.stats().entrySet()) {
+            OperationStats stats = entry.getValue();
+            Histogram response = stats.responseTime;
+            if (response.getTotalCount() == 0 && stats.dropped.sum() == 0) {
+                continue;
+            }
+            total += response.getTotalCount();
+            System.out.printf("%-15s %9d %10.1f %7d %7d %7d %9.2f %9.2f %9.2f %9.2f %12.2f  %s%n",
+                    entry.getKey().key(),
+                    response.getTotalCount(),
+                    response.getTotalCount() / seconds,
+                    stats.errors.sum(),
+                    stats.clientErrors.sum(),
+                    stats.dropped.sum(),
+                    toMillis(response.getValueAtPercentile(50)),
+                    toMillis(response.getValueAtPercentile(99)),
+                    toMillis(response.getValueAtPercentile(99.9)),
+                    toMillis(response.getMaxValue()),
+                    toMillis(stats.serviceTime.getValueAtPercentile(99)),
+                    stats.omissionSuspected() ? "CO 의심" : "");
+        }
+        System.out.printf("전체 처리량 %.1f req/s%n", total / seconds);
+
+        Histogram lag = result.dispatchLag();
+        System.out.printf("발송 지연 p99 %.2fms, max %.2fms%n",
+                toMillis(lag.getValueAtPercentile(99)), toMillis(lag.getMaxValue()));
+        if (result.omissionSuspected(options)) {
+            System.out.println("경고: 드라이버가 목표 속도를 유지하지 못했거나 동시 요청 상한을 넘었습니다. "
+                    + "closed 모델이었다면 이 구간의 지연이 측정되지 않았을 것이므로 (coordinated omission) "
+                    + "응답 시간과 서비스 시간의 차이를 함께 확인하세요.");
+        }
+    }
+
+    /**
+     * 결과를 JSON으로 저장 (실행 간 비교용)
+     */
+    private static void writeReport(Options options, RunResult result) throws IOException {
+        StringBuilder json = new StringBuilder();
+        json.append("{\n");
+        json.append("  \"label\": \"").append(options.label()).append("\",\n");
+        json.append("  \"rate\": ").append(options.rate()).append(",\n");
+        json.append("  \"durationSeconds\": ").append(result.duration().toSeconds()).append(",\n");
+        json.append("  \"users\": ").append(options.users()).append(",\n");
+        json.append("  \"orders\": ").append(options.orders()).append(",\n");
+        json.append("  \"dispatchLagP99Ms\": ").append(format(toMillis(result.dispatchLag().getValueAtPercentile(99)))).append(",\n");
+        json.append("  \"omissionSuspected\": ").append(result.omissionSuspected(options)).append(",\n");
+        json.append("  \"endpoints\": [");
+        boolean first = true;
+        double seconds = result.duration().toNanos() / 1e9;
+        for (Map.Entry<Operation, OperationStats> entry : result.stats().entrySet()) {
+            OperationStats stats = entry.getValue();
+            Histogram response = stats.responseTime;
+            if (!first) {
+                json.append(',');
+            }
+            first = false;
+            json.append("\n    {");
+            json.append("\"name\": \"").append(entry.getKey().key()).append("\", ");
+            json.append("\"endpoint\": \"").append(entry.getKey().endpoint()).append("\", ");
+            json.append("\"requests\": ").append(response.getTotalCount()).append(", ");
+            json.append("\"throughput\": ").append(format(response.getTotalCount() / seconds)).append(", ");
+            json.append("\"errors\": ").append(stats.errors.sum()).append(", ");
+            json.append("\"clientErrors\": ").append(stats.clientErrors.sum()).append(", ");
+            json.append("\"dropped\": ").append(stats.dropped.sum()).append(", ");
+            json.append("\"p50Ms\": ").append(format(toMillis(response.getValueAtPercentile(50)))).append(", ");
+            json.append("\"p99Ms\": ").append(format(toMillis(response.getValueAtPercentile(99)))).append(", ");
+            json.append("\"p999Ms\": ").append(format(toMillis(response.getValueAtPercentile(99.9)))).append(", ");
+            json.append("\"maxMs\": ").append(format(toMillis(response.getMaxValue()))).append(", ");
+            json.append("\"serviceP99Ms\": ").append(format(toMillis(stats.serviceTime.getValueAtPercentile(99)))).append(", ");
+            json.append("\"omissionSuspected\": ").append(stats.omissionSuspected()).append('}');
+        }
+        json.append("\n  ]\n}\n");
+
+        Path reportDir = options.reportDir();
+        Files.createDirectories(reportDir);
+        Path report = reportDir.resolve(options.label() + ".json");
+        Files.writeString(report, json);
+        System.out.println("보고서: " + report.toAbsolutePath());
+    }
+
+    private static void stopAll(List<ServiceProcess> processes) {
+        for (int i = processes.size() - 1; i >= 0; i--) {
+            try {
+                processes.get(i).close();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        processes.clear();
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1e6;
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.3f", value);
+    }
+
+    /**
+     * 요청 종류별 집계 (응답 시간은 발송 예정 시각 기준, 서비스 시간은 실제 발송 시각 기준)
+     */
+    private static final class OperationStats {
+
+        private final Histogram responseTime = new ConcurrentHistogram(HIGHEST_TRACKABLE_NANOS, 3);
+        private final Histogram serviceTime = new ConcurrentHistogram(HIGHEST_TRACKABLE_NANOS, 3);
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder clientErrors = new LongAdder();
+        private final LongAdder dropped = new LongAdder();
+
+        void record(long responseNanos, long serviceNanos, int status) {
+            responseTime.recordValue(Math.min(responseNanos, HIGHEST_TRACKABLE_NANOS));
+            serviceTime.recordValue(Math.min(serviceNanos, HIGHEST_TRACKABLE_NANOS));
+            if (status < 0 || status >= 500) {
+                errors.increment();
+            } else if (status >= 400) {
+                clientErrors.increment();
+            }
+        }
+
+        boolean omissionSuspected() {
+            if (dropped.sum() > 0) {
+                return true;
+            }
+            long response = responseTime.getValueAtPercentile(99);
+            long service = serviceTime.getValueAtPercentile(99);
+            return response - service > OMISSION_MIN_GAP_NANOS && response > service * OMISSION_RATIO;
+        }
+    }
+
+    private record RunResult(Map<Operation, OperationStats> stats, Histogram dispatchLag, Duration duration) {
+
+        /**
+         * 발송 지연이 요청 간격을 넘었거나 drop / 종류별 CO 의심이 하나라도 있으면 true
+         */
+        boolean omissionSuspected(Options options) {
+            long intervalNanos = (long) (1e9 / options.rate());
+            return dispatchLag.getValueAtPercentile(99) > Math.max(intervalNanos, OMISSION_MIN_GAP_NANOS)
+                    || stats.values().stream().anyMatch(OperationStats::omissionSuspected);
+        }
+    }
+
+    /**
+     * 요청 종류별 비중 (가중치 누적 합으로 무작위 선택)
+     */
+    private record Mix(Operation[] operations, int[] cumulativeWeights) {
+
+        static Mix parse(String value) {
+            Map<Operation, Integer> weights = new LinkedHashMap<>();
+            for (String part : value.split(",")) {
+                String[] pair = part.trim().split(":");
+                if (pair.length != 2) {
+                    throw new IllegalArgumentException("mix는 name:weight 목록이어야 합니다: " + value);
+                }
+                int weight = Integer.parseInt(pair[1].trim());
+                if (weight > 0) {
+                    weights.put(Operation.of(pair[0].trim()), weight);
+                }
+            }
+            if (weights.isEmpty()) {
+                throw new IllegalArgumentException("mix에 비중이 0보다 큰 요청이 없습니다: " + value);
+            }
+
+            Operation[] operations = weights.keySet().toArray(Operation[]::new);
+            int[] cumulative = new int[operations.length];
+            int sum = 0;
+            for (int i = 0; i < operations.length; i++) {
+                sum += weights.get(operations[i]);
+                cumulative[i] = sum;
+            }
+            return new Mix(operations, cumulative);
+        }
+
+        Operation next(ThreadLocalRandom random) {
+            int pick = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+            for (int i = 0; i < cumulativeWeights.length; i++) {
+                if (pick < cumulativeWeights[i]) {
+                    return operations[i];
+                }
+            }
+            return operations[operations.length - 1];
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder builder = new StringBuilder();
+            int previous = 0;
+            for (int i = 0; i < operations.length; i++) {
+                if (i > 0) {
+                    builder.append(',');
+                }
+                builder.append(operations[i].key()).append(':').append(cumulativeWeights[i] - previous);
+                previous = cumulativeWeights[i];
+            }
+            return builder.toString();
+        }
+    }
+
+    private record Options(String userServiceUrl, String orderServiceUrl, boolean external,
+                           Path userServiceJar, Path orderServiceJar, Duration startupTimeout,
+                           int users, int orders, int rate, Duration warmup, Duration duration, Duration timeout,
+                           int maxInFlight, Mix mix, Path reportDir, String label) {
+
+        static Options parse(String[] args) {
+            Args values = new Args(args);
+            Options options = new Options(
+                    values.get("user-service-url", "http://localhost:8081"),
+                    values.get("order-service-url", "http://localhost:8082"),
+                    values.getBoolean("external", false),
+                    Path.of(values.get("user-service-jar", "../user-service/build/libs/demo-0.0.1-SNAPSHOT.jar")),
+                    Path.of(values.get("order-service-jar", "../order-service/build/libs/demo-0.0.1-SNAPSHOT.jar")),
+                    values.getSeconds("startup-timeout", 120),
+                    values.getInt("users", 100),
+                    values.getInt("orders", 1000),
+                    values.getInt("rate", 200),
+                    values.getSeconds("warmup", 10),
+                    values.getSeconds("duration", 60),
+                    values.getSeconds("timeout", 10),
+                    values.getInt("max-in-flight", 2000),
+                    Mix.parse(values.get("mix", "createOrder:20,listUserOrders:30,count:20,total:20,patchStatus:10")),
+                    Path.of(values.get("report-dir", "build/reports/e2e-load-test")),
+                    values.get("label", "e2e"));
+            if (options.users() < 1 || options.orders() < 1 || options.rate() < 1 || options.maxInFlight() < 1) {
+                throw new IllegalArgumentException("users, orders, rate, max-in-flight 는 1 이상이어야 합니다");
+            }
+            return options;
+        }
+    }
+}
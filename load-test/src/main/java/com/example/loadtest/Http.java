@@ -0,0 +1,74 @@
+package com.example.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 부하 테스트용 HTTP 유틸리티 (JSON은 필요한 ID만 정규식으로 꺼낸다)
+ */
+final class Http {
+
+    private static final Pattern ID_PATTERN = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+    private static final Pattern ORDER_ID_PATTERN = Pattern.compile("\"orderId\"\\s*:\\s*(\\d+)");
+
+    private Http() {
+    }
+
+    /**
+     * HTTP/1.1 클라이언트 (요청 처리는 가상 스레드)
+     */
+    static HttpClient newClient() {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    /**
+     * JSON POST (준비 단계용, 실패하면 예외)
+     */
+    static String post(HttpClient client, String url, String body) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 400) {
+            throw new IllegalStateException("준비 요청 실패 - " + url + " " + response.statusCode() + ": " + response.body());
+        }
+        return response.body();
+    }
+
+    /**
+     * 응답의 첫 번째 "id" 값
+     */
+    static long extractId(String json) {
+        Matcher matcher = ID_PATTERN.matcher(json);
+        if (!matcher.find()) {
+            throw new IllegalStateException("응답에서 ID를 찾을 수 없습니다: " + json);
+        }
+        return Long.parseLong(matcher.group(1));
+    }
+
+    /**
+     * 일괄 생성 응답의 모든 "orderId" 값
+     */
+    static List<Long> extractOrderIds(String json) {
+        List<Long> ids = new ArrayList<>();
+        Matcher matcher = ORDER_ID_PATTERN.matcher(json);
+        while (matcher.find()) {
+            ids.add(Long.parseLong(matcher.group(1)));
+        }
+        return ids;
+    }
+}
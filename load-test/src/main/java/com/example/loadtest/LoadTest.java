@@ -0,0 +1,168 @@
+package com.example.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 동시 연결 수별 처리량/지연 시간 측정 드라이버
+ * 사용자 한 명과 주문 한 건을 만든 뒤 GET /api/v1/users/{id}/orders 를 호출한다.
+ * (user-service JDBC 조회 + order-service Feign 호출 + order-service JDBC 조회)
+ *
+ * 연결마다 가상 스레드 하나가 응답을 받은 뒤 다음 요청을 보내는 closed 모델이다.
+ * 서버가 느려지면 요청 수도 함께 줄어들기 때문에 지연 시간은 서버 모드 간 상대 비교용으로만 본다.
+ *
+ * 비교 방법:
+ * 1. 두 서비스를 기본 모드로 실행 (./gradlew bootRun) 후 ./gradlew run --args="--label=platform"
+ * 2. 두 서비스를 가상 스레드 모드로 실행 (./gradlew bootRun -PvirtualThreads) 후 ./gradlew run --args="--label=virtual"
+ *
+ * Feign 전송 계층 비교 (user-service -> order-service 호출):
+ * 1. user-service를 기본 설정(연결 풀)으로 실행 후 ./gradlew run --args="--label=hc5-pool"
+ * 2. user-service를 --spring.cloud.openfeign.httpclient.hc5.enabled=false 로 실행 후 ./gradlew run --args="--label=url-connection"
+ * 3. 두 서비스를 --spring.profiles.active=h2c 로 실행 후 ./gradlew run --args="--label=h2c"
+ * 실행 중 /actuator/metrics/http.client.pool.reuse.ratio, http.client.pool.lease 로 풀 상태를 함께 확인한다.
+ *
+ * 엔드포인트별 꼬리 지연 시간을 open 모델로 측정하려면 E2ELoadTest (./gradlew e2eLoadTest) 를 사용한다.
+ *
+ * 옵션 (--key=value):
+ *   user-service-url  기본 http://localhost:8081
+ *   order-service-url 기본 http://localhost:8082
+ *   concurrency       동시 연결 수 목록, 기본 1000,10000
+ *   warmup            단계별 워밍업 시간(초), 기본 10
+ *   duration          단계별 측정 시간(초), 기본 30
+ *   timeout           요청 타임아웃(초), 기본 30
+ *   label             결과 표에 붙일 이름
+ */
+public class LoadTest {
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    public static void main(String[] args) throws Exception {
+        Options options = Options.parse(args);
+
+        HttpClient client = Http.newClient();
+
+        long userId = prepare(client, options);
+        URI target = URI.create(options.userServiceUrl() + "/api/v1/users/" + userId + "/orders");
+        System.out.printf("대상: GET %s%n", target);
+
+        List<Result> results = new ArrayList<>();
+        for (int concurrency : options.concurrency()) {
+            System.out.printf("동시 연결 %d - 워밍업 %d초%n", concurrency, options.warmup().toSeconds());
+            run(client, target, concurrency, options.warmup(), options.timeout());
+
+            System.out.printf("동시 연결 %d - 측정 %d초%n", concurrency, options.duration().toSeconds());
+            results.add(run(client, target, concurrency, options.duration(), options.timeout()));
+        }
+
+        print(options.label(), results);
+    }
+
+    /**
+     * 테스트용 사용자와 주문 생성 (사용자 ID 반환)
+     */
+    private static long prepare(HttpClient client, Options options) throws IOException, InterruptedException {
+        String email = "load-test-" + System.currentTimeMillis() + "@example.com";
+        String user = Http.post(client, options.userServiceUrl() + "/api/v1/users",
+                "{\"name\":\"load-test\",\"email\":\"" + email + "\"}");
+        long userId = Http.extractId(user);
+
+        Http.post(client, options.orderServiceUrl() + "/api/v1/orders",
+                "{\"userId\":" + userId + ",\"productName\":\"load-test\",\"quantity\":1,\"price\":1000}");
+        return userId;
+    }
+
+    /**
+     * 지정한 동시 연결 수로 일정 시간 동안 요청을 보내고 결과를 집계
+     */
+    private static Result run(HttpClient client, URI target, int concurrency, Duration duration, Duration timeout)
+            throws InterruptedException {
+        Histogram histogram = new ConcurrentHistogram(HIGHEST_TRACKABLE_NANOS, 3);
+        LongAdder errors = new LongAdder();
+        HttpRequest request = HttpRequest.newBuilder(target).timeout(timeout).GET().build();
+
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                workers.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        long begin = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() >= 400) {
+                                errors.increment();
+                            }
+                        } catch (IOException e) {
+                            errors.increment();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                        histogram.recordValue(Math.min(System.nanoTime() - begin, HIGHEST_TRACKABLE_NANOS));
+                    }
+                });
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+
+        return new Result(concurrency, histogram, errors.sum(), elapsed);
+    }
+
+    private static void print(String label, List<Result> results) {
+        System.out.println();
+        System.out.printf("[%s]%n", label);
+        System.out.printf("%10s %12s %10s %14s %10s %10s %10s%n",
+                "동시연결", "요청 수", "오류", "처리량(req/s)", "p50(ms)", "p99(ms)", "max(ms)");
+        for (Result result : results) {
+            Histogram histogram = result.histogram();
+            System.out.printf("%10d %12d %10d %14.1f %10.1f %10.1f %10.1f%n",
+                    result.concurrency(),
+                    histogram.getTotalCount(),
+                    result.errors(),
+                    histogram.getTotalCount() / (result.elapsedNanos() / 1e9),
+                    toMillis(histogram.getValueAtPercentile(50)),
+                    toMillis(histogram.getValueAtPercentile(99)),
+                    toMillis(histogram.getMaxValue()));
+        }
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1e6;
+    }
+
+    private record Result(int concurrency, Histogram histogram, long errors, long elapsedNanos) {
+    }
+
+    private record Options(String userServiceUrl, String orderServiceUrl, int[] concurrency,
+                           Duration warmup, Duration duration, Duration timeout, String label) {
+
+        static Options parse(String[] args) {
+            Args values = new Args(args);
+            return new Options(
+                    values.get("user-service-url", "http://localhost:8081"),
+                    values.get("order-service-url", "http://localhost:8082"),
+                    Arrays.stream(values.get("concurrency", "1000,10000").split(","))
+                            .map(String::trim)
+                            .mapToInt(Integer::parseInt)
+                            .toArray(),
+                    values.getSeconds("warmup", 10),
+                    values.getSeconds("duration", 30),
+                    values.getSeconds("timeout", 30),
+                    values.get("label", "default"));
+        }
+    }
+}
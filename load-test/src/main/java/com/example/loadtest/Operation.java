@@ -0,0 +1,101 @@
+package com.example.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 워크로드 구성 요청 종류
+ */
+enum Operation {
+
+    CREATE_ORDER("createOrder", "POST /api/v1/orders") {
+        @Override
+        HttpRequest.Builder request(Targets targets, ThreadLocalRandom random) {
+            String body = "{\"userId\":" + targets.randomUserId(random)
+                    + ",\"productName\":\"load-test\",\"quantity\":" + (1 + random.nextInt(5))
+                    + ",\"price\":" + (1000 + random.nextInt(9000)) + "}";
+            return HttpRequest.newBuilder(URI.create(targets.orderServiceUrl() + "/api/v1/orders"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body));
+        }
+    },
+    LIST_USER_ORDERS("listUserOrders", "GET /api/v1/users/{id}/orders") {
+        @Override
+        HttpRequest.Builder request(Targets targets, ThreadLocalRandom random) {
+            return HttpRequest.newBuilder(URI.create(
+                    targets.userServiceUrl() + "/api/v1/users/" + targets.randomUserId(random) + "/orders")).GET();
+        }
+    },
+    COUNT("count", "GET /api/v1/orders/count/user/{userId}") {
+        @Override
+        HttpRequest.Builder request(Targets targets, ThreadLocalRandom random) {
+            return HttpRequest.newBuilder(URI.create(
+                    targets.orderServiceUrl() + "/api/v1/orders/count/user/" + targets.randomUserId(random))).GET();
+        }
+    },
+    TOTAL("total", "GET /api/v1/orders/total/user/{userId}") {
+        @Override
+        HttpRequest.Builder request(Targets targets, ThreadLocalRandom random) {
+            return HttpRequest.newBuilder(URI.create(
+                    targets.orderServiceUrl() + "/api/v1/orders/total/user/" + targets.randomUserId(random))).GET();
+        }
+    },
+    PATCH_STATUS("patchStatus", "PATCH /api/v1/orders/{id}/status") {
+        @Override
+        HttpRequest.Builder request(Targets targets, ThreadLocalRandom random) {
+            String status = STATUSES[random.nextInt(STATUSES.length)];
+            return HttpRequest.newBuilder(URI.create(targets.orderServiceUrl() + "/api/v1/orders/"
+                            + targets.randomOrderId(random) + "/status?status=" + status))
+                    .method("PATCH", HttpRequest.BodyPublishers.noBody());
+        }
+    };
+
+    private static final String[] STATUSES = {"PENDING", "CONFIRMED", "SHIPPED", "DELIVERED"};
+
+    private final String key;
+    private final String endpoint;
+
+    Operation(String key, String endpoint) {
+        this.key = key;
+        this.endpoint = endpoint;
+    }
+
+    abstract HttpRequest.Builder request(Targets targets, ThreadLocalRandom random);
+
+    HttpRequest build(Targets targets, ThreadLocalRandom random, Duration timeout) {
+        return request(targets, random).timeout(timeout).build();
+    }
+
+    String key() {
+        return key;
+    }
+
+    String endpoint() {
+        return endpoint;
+    }
+
+    static Operation of(String key) {
+        for (Operation operation : values()) {
+            if (operation.key.equals(key)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 요청 종류입니다: " + key);
+    }
+
+    /**
+     * 요청 대상 (서비스 주소와 준비 단계에서 만든 사용자/주문 ID)
+     */
+    record Targets(String userServiceUrl, String orderServiceUrl, long[] userIds, long[] orderIds) {
+
+        long randomUserId(ThreadLocalRandom random) {
+            return userIds[random.nextInt(userIds.length)];
+        }
+
+        long randomOrderId(ThreadLocalRandom random) {
+            return orderIds[random.nextInt(orderIds.length)];
+        }
+    }
+}
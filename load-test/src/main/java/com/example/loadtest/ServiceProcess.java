@@ -0,0 +1,96 @@
+package com.example.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로컬에서 띄운 서비스 프로세스 (bootJar 실행, 로그는 파일로 남긴다)
+ */
+final class ServiceProcess implements AutoCloseable {
+
+    private final String name;
+    private final String baseUrl;
+    private final Path logFile;
+    private final Process process;
+
+    private ServiceProcess(String name, String baseUrl, Path logFile, Process process) {
+        this.name = name;
+        this.baseUrl = baseUrl;
+        this.logFile = logFile;
+        this.process = process;
+    }
+
+    /**
+     * 현재 JVM과 같은 java로 bootJar 실행 (H2 인메모리 DB, 로그는 WARN 이상만)
+     */
+    static ServiceProcess start(String name, Path jar, int port, Path logDir, List<String> extraArgs) throws IOException {
+        if (!Files.isRegularFile(jar)) {
+            throw new IllegalStateException(name + " 실행 파일이 없습니다: " + jar + " (bootJar를 먼저 실행하세요)");
+        }
+        Files.createDirectories(logDir);
+        Path logFile = logDir.resolve(name + ".log");
+
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-Xmx512m");
+        command.add("-jar");
+        command.add(jar.toAbsolutePath().toString());
+        command.add("--server.port=" + port);
+        command.add("--spring.jpa.show-sql=false");
+        command.add("--logging.level.root=WARN");
+        command.add("--logging.level.com.example.demo=WARN");
+        command.addAll(extraArgs);
+
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(logFile.toFile())
+                .start();
+        return new ServiceProcess(name, "http://localhost:" + port, logFile, process);
+    }
+
+    /**
+     * /actuator/health 가 200을 반환할 때까지 대기
+     */
+    void awaitHealthy(HttpClient client, Duration timeout) throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/health"))
+                .timeout(Duration.ofSeconds(2))
+                .GET()
+                .build();
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException(name + " 프로세스가 종료되었습니다 (로그: " + logFile + ")");
+            }
+            try {
+                if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // 아직 포트가 열리지 않음
+            }
+            TimeUnit.MILLISECONDS.sleep(500);
+        }
+        throw new IllegalStateException(name + " 기동 대기 시간 초과 (로그: " + logFile + ")");
+    }
+
+    String baseUrl() {
+        return baseUrl;
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(30, TimeUnit.SECONDS)) {
+            process.destroyForcibly();
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.OrderRequest;
+import com.example.demo.dto.OrderResponse;
+import com.example.demo.entity.Order;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * 주문 요청 처리 경로의 CPU 작업 벤치마크
+ * 엔티티 -> DTO 변환, Lombok 빌더, Jackson 직렬화/역직렬화, Bean Validation 검증
+ */
+@State(Scope.Benchmark)
+public class OrderHotPathBenchmark {
+    
+    private Order order;
+    private OrderResponse response;
+    private OrderRequest validRequest;
+    private OrderRequest invalidRequest;
+    private byte[] requestJson;
+    
+    private ObjectWriter responseWriter;
+    private ObjectReader requestReader;
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    
+    @Setup
+    public void setup() throws IOException {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 12, 30, 15, 123_000_000);
+        order = Order.builder()
+                .id(1234L)
+                .userId(42L)
+                .productName("무선 키보드")
+                .quantity(3)
+                .price(new BigDecimal("45900.00"))
+                .status(Order.OrderStatus.CONFIRMED)
+                .createdAt(createdAt)
+                .updatedAt(createdAt.plusMinutes(5))
+                .build();
+        response = OrderService.convertToResponseDto(order);
+        
+        validRequest = OrderRequest.builder()
+                .userId(42L)
+                .productName("무선 키보드")
+                .quantity(3)
+                .price(new BigDecimal("45900.00"))
+                .build();
+        invalidRequest = OrderRequest.builder()
+                .productName("")
+                .quantity(0)
+                .price(BigDecimal.ZERO)
+                .build();
+        
+        // Spring Boot 기본 ObjectMapper와 같은 설정 (JavaTimeModule, 날짜는 ISO 문자열)
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        responseWriter = objectMapper.writerFor(OrderResponse.class);
+        requestReader = objectMapper.readerFor(OrderRequest.class);
+        requestJson = objectMapper.writeValueAsBytes(validRequest);
+        
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+    }
+    
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+    
+    @Benchmark
+    public OrderResponse convertToResponseDto() {
+        return OrderService.convertToResponseDto(order);
+    }
+    
+    @Benchmark
+    public Order buildEntity() {
+        return Order.builder()
+                .userId(validRequest.getUserId())
+                .productName(validRequest.getProductName())
+                .quantity(validRequest.getQuantity())
+                .price(validRequest.getPrice())
+                .status(Order.OrderStatus.PENDING)
+                .build();
+    }
+    
+    @Benchmark
+    public byte[] serializeResponse() throws IOException {
+        return responseWriter.writeValueAsBytes(response);
+    }
+    
+    @Benchmark
+    public OrderRequest deserializeRequest() throws IOException {
+        return requestReader.readValue(requestJson);
+    }
+    
+    @Benchmark
+    public Set<ConstraintViolation<OrderRequest>> validateValidRequest() {
+        return validator.validate(validRequest);
+    }
+    
+    @Benchmark
+    public Set<ConstraintViolation<OrderRequest>> validateInvalidRequest() {
+        return validator.validate(invalidRequest);
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.demo.service;
+
+import com.example.demo.DemoApplication;
+import com.example.demo.dto.OrderResponse;
+import com.example.demo.entity.Order;
+import com.example.demo.repository.OrderRepository;
+import com.example.demo.repository.OrderSpecifications;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * 조회 경로 벤치마크 - 엔티티 로드 후 DTO 변환 vs DTO 생성자 프로젝션
+ * H2 인메모리 DB로 컨텍스트를 띄우고 서비스와 같은 읽기 전용 트랜잭션 안에서 조회한다.
+ * gc.alloc.rate.norm(연산당 할당량)에 엔티티 인스턴스, 영속성 컨텍스트 등록, 로드 이벤트 처리 비용이 함께 드러난다.
+ */
+@State(Scope.Benchmark)
+public class OrderReadPathBenchmark {
+    
+    private static final int USER_COUNT = 100;
+    private static final int ORDERS_PER_USER = 20;
+    private static final int PAGE_SIZE = 20;
+    
+    private ConfigurableApplicationContext context;
+    private OrderRepository orderRepository;
+    private TransactionTemplate readOnlyTransaction;
+    
+    private Long orderId;
+    private Long userId;
+    
+    @Setup
+    public void setup() {
+        context = new SpringApplicationBuilder(DemoApplication.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:read-path-benchmark",
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.format_sql=false",
+                        "spring.jpa.properties.hibernate.generate_statistics=false",
+                        "logging.level.root=WARN",
+                        "logging.level.com.example.demo=WARN",
+                        // user-service 없이 실행
+                        "app.user-projection.enabled=false")
+                .run();
+        orderRepository = context.getBean(OrderRepository.class);
+        PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+        
+        List<Order> orders = new TransactionTemplate(transactionManager).execute(status -> orderRepository.saveAll(
+                IntStream.range(0, USER_COUNT * ORDERS_PER_USER)
+                        .mapToObj(i -> Order.builder()
+                                .userId((long) (i % USER_COUNT) + 1)
+                                .productName("상품" + i)
+                                .quantity(1 + i % 5)
+                                .price(BigDecimal.valueOf(1000 + i))
+                                .status(Order.OrderStatus.PENDING)
+                                .build())
+                        .toList()));
+        orderId = orders.get(orders.size() / 2).getId();
+        userId = orders.get(0).getUserId();
+        
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+    
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+    
+    @Benchmark
+    public OrderResponse findByIdEntity() {
+        return readOnlyTransaction.execute(status ->
+                OrderService.convertToResponseDto(orderRepository.findById(orderId).orElseThrow()));
+    }
+    
+    @Benchmark
+    public OrderResponse findByIdProjection() {
+        return readOnlyTransaction.execute(status -> orderRepository.findResponseById(orderId).orElseThrow());
+    }
+    
+    @Benchmark
+    public List<OrderResponse> findByUserIdEntity() {
+        return readOnlyTransaction.execute(status -> orderRepository
+                .findAll(OrderSpecifications.hasUserId(userId), Sort.by("id"))
+                .stream()
+                .map(OrderService::convertToResponseDto)
+                .toList());
+    }
+    
+    @Benchmark
+    public List<OrderResponse> findByUserIdProjection() {
+        return readOnlyTransaction.execute(status -> orderRepository.findResponsesByUserId(userId));
+    }
+    
+    @Benchmark
+    public List<OrderResponse> pageEntity() {
+        return readOnlyTransaction.execute(status -> orderRepository.findBy(Specification.<Order>allOf(), query -> query
+                        .sortBy(Sort.by(Sort.Direction.DESC, "id"))
+                        .limit(PAGE_SIZE + 1)
+                        .all())
+                .stream()
+                .map(OrderService::convertToResponseDto)
+                .toList());
+    }
+    
+    @Benchmark
+    public List<OrderResponse> pageProjection() {
+        return readOnlyTransaction.execute(status -> orderRepository.findResponses(Specification.<Order>allOf(), PAGE_SIZE + 1));
+    }
+}
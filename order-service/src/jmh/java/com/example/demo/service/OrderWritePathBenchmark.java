@@ -0,0 +1,131 @@
+package com.example.demo.service;
+
+import com.example.demo.DemoApplication;
+import com.example.demo.dto.OrderResponse;
+import com.example.demo.entity.Order;
+import com.example.demo.metrics.StatementCountingInspector;
+import com.example.demo.repository.OrderRepository;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.function.Supplier;
+
+/**
+ * 상태 변경 경로 벤치마크 - 엔티티 조회 + 더티 체킹 vs 조건부 UPDATE + 프로젝션 조회
+ * 매 호출마다 CONFIRMED/SHIPPED를 번갈아 바꾸므로 항상 실제 변경이 일어난다.
+ * 연산당 SQL 수는 측정 스레드에서 실행된 SQL만 세어 보조 지표(statements / operations)로 보고하고,
+ * 연산당 할당량은 gc 프로파일러(gc.alloc.rate.norm)로 확인한다.
+ */
+@State(Scope.Benchmark)
+public class OrderWritePathBenchmark {
+    
+    private ConfigurableApplicationContext context;
+    private OrderRepository orderRepository;
+    private TransactionTemplate transaction;
+    
+    private Long orderId;
+    private boolean shipped;
+    
+    /**
+     * 반복(iteration)별 SQL 수 / 연산 수 (둘을 나누면 연산당 SQL 수)
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class SqlCounters {
+        
+        public long statements;
+        public long operations;
+        
+        @Setup(Level.Iteration)
+        public void reset() {
+            statements = 0;
+            operations = 0;
+        }
+    }
+    
+    @Setup
+    public void setup() {
+        context = new SpringApplicationBuilder(DemoApplication.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:write-path-benchmark",
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.format_sql=false",
+                        "logging.level.root=WARN",
+                        "logging.level.com.example.demo=WARN",
+                        // user-service 없이 실행
+                        "app.user-projection.enabled=false",
+                        // 측정 중 다른 스레드에서 SQL을 실행하는 백그라운드 작업 비활성
+                        "app.order-rollup.enabled=false",
+                        "app.order-search.enabled=false",
+                        "app.order-stats.rebuild-cron=-",
+                        "app.order-archive.cron=-",
+                        "app.status-counter.reconcile-interval-ms=86400000")
+                .run();
+        orderRepository = context.getBean(OrderRepository.class);
+        transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        
+        orderId = transaction.execute(status -> orderRepository.save(Order.builder()
+                .userId(1L)
+                .productName("상품")
+                .quantity(1)
+                .price(BigDecimal.valueOf(1000))
+                .status(Order.OrderStatus.CONFIRMED)
+                .build()).getId());
+    }
+    
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+    
+    @Benchmark
+    public OrderResponse entityUpdate(SqlCounters counters) {
+        Order.OrderStatus target = nextStatus();
+        return counted(counters, () -> transaction.execute(status -> {
+            Order order = orderRepository.findById(orderId).orElseThrow();
+            order.setStatus(target);
+            return OrderService.convertToResponseDto(orderRepository.save(order));
+        }));
+    }
+    
+    @Benchmark
+    public OrderResponse conditionalUpdate(SqlCounters counters) {
+        Order.OrderStatus target = nextStatus();
+        return counted(counters, () -> transaction.execute(status -> {
+            orderRepository.updateStatusIfChanged(orderId, target, LocalDateTime.now());
+            return orderRepository.findStatusRowById(orderId).orElseThrow().toResponse();
+        }));
+    }
+    
+    /**
+     * 측정 스레드에서 실행된 SQL만 집계
+     */
+    private static <T> T counted(SqlCounters counters, Supplier<T> operation) {
+        StatementCountingInspector.begin();
+        try {
+            return operation.get();
+        } finally {
+            counters.statements += StatementCountingInspector.end();
+            counters.operations++;
+        }
+    }
+    
+    private Order.OrderStatus nextStatus() {
+        shipped = !shipped;
+        return shipped ? Order.OrderStatus.SHIPPED : Order.OrderStatus.CONFIRMED;
+    }
+}
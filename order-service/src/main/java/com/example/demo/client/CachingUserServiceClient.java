@@ -0,0 +1,114 @@
+package com.example.demo.client;
+
+import com.example.demo.config.UserCacheProperties;
+import com.example.demo.dto.UserEventResponse;
+import com.example.demo.dto.UserResponse;
+import com.example.demo.exception.ResourceNotFoundException;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자 조회 캐시
+ * Feign 클라이언트 앞단에서 사용자 ID 단위로 조회 결과를 캐시한다.
+ * 존재하지 않는 사용자(404)도 짧은 시간 동안 캐시하며, 오래된 항목은 백그라운드에서 갱신한다.
+ * 캐시 미스는 UserBatchLoader를 거쳐 배치 조회로 병합된다.
+ */
+@Component
+@Primary
+@Slf4j
+public class CachingUserServiceClient implements UserServiceClient {
+    
+    private final UserServiceClient delegate;
+    private final AsyncLoadingCache<Long, Optional<UserResponse>> cache;
+    
+    public CachingUserServiceClient(@Qualifier("resilientUserServiceClient") UserServiceClient delegate,
+                                    UserBatchLoader userBatchLoader,
+                                    UserCacheProperties properties,
+                                    MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfter(new UserExpiry(properties))
+                .refreshAfterWrite(properties.getRefreshAfter())
+                .recordStats()
+                .buildAsync((id, executor) -> userBatchLoader.load(id));
+        
+        // cache.gets(hit/miss), cache.evictions, cache.size 등
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), "userLookup");
+    }
+    
+    @Override
+    public UserResponse getUserById(Long id) {
+        return join(cache.get(id))
+                .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다. ID: " + id));
+    }
+    
+    @Override
+    public List<UserResponse> getUsersByIds(List<Long> ids) {
+        return join(cache.getAll(ids)).values()
+                .stream()
+                .flatMap(Optional::stream)
+                .collect(Collectors.toList());
+    }
+    
+    @Override
+    public List<UserEventResponse> getUserEvents(Long after, int limit) {
+        return delegate.getUserEvents(after, limit);
+    }
+    
+    /**
+     * 로딩 실패 시 원래 예외를 그대로 전달 (실패한 결과는 캐시되지 않음)
+     */
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+    
+    /**
+     * 존재 여부에 따라 만료 시간을 다르게 적용
+     */
+    private static class UserExpiry implements Expiry<Long, Optional<UserResponse>> {
+        
+        private final long ttlNanos;
+        private final long negativeTtlNanos;
+        
+        UserExpiry(UserCacheProperties properties) {
+            this.ttlNanos = properties.getTtl().toNanos();
+            this.negativeTtlNanos = properties.getNegativeTtl().toNanos();
+        }
+        
+        @Override
+        public long expireAfterCreate(Long key, Optional<UserResponse> value, long currentTime) {
+            return value.isPresent() ? ttlNanos : negativeTtlNanos;
+        }
+        
+        @Override
+        public long expireAfterUpdate(Long key, Optional<UserResponse> value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+        
+        @Override
+        public long expireAfterRead(Long key, Optional<UserResponse> value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
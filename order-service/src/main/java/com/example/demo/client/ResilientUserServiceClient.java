@@ -0,0 +1,82 @@
+package com.example.demo.client;
+
+import com.example.demo.config.ResilienceProperties;
+import com.example.demo.dto.UserEventResponse;
+import com.example.demo.dto.UserResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import feign.FeignException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 보호된 user-service 클라이언트
+ * Feign 클라이언트를 서킷 브레이커와 동시 호출 제한으로 감싸고, 호출할 수 없으면 사용자별 마지막 정상 응답을 반환한다.
+ * 호출 흐름: CachingUserServiceClient -> UserBatchLoader -> ResilientUserServiceClient -> Feign
+ */
+@Component
+public class ResilientUserServiceClient implements UserServiceClient {
+    
+    private static final String CLIENT_NAME = "user-service";
+    
+    private final UserServiceClient delegate;
+    private final ResilientExecutor executor;
+    private final Cache<Long, UserResponse> lastKnownGood;
+    
+    public ResilientUserServiceClient(@Qualifier("userServiceFeignClient") UserServiceClient delegate,
+                                      ResilienceProperties properties,
+                                      CircuitBreakerRegistry circuitBreakerRegistry,
+                                      BulkheadRegistry bulkheadRegistry,
+                                      MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.executor = new ResilientExecutor(CLIENT_NAME, circuitBreakerRegistry, bulkheadRegistry, meterRegistry);
+        this.lastKnownGood = Caffeine.newBuilder()
+                .maximumSize(properties.getLastKnownGoodSize())
+                .build();
+    }
+    
+    @Override
+    public UserResponse getUserById(Long id) {
+        try {
+            return executor.execute(() -> {
+                UserResponse user = delegate.getUserById(id);
+                lastKnownGood.put(id, user);
+                return user;
+            }, () -> lastKnownGood.getIfPresent(id));
+        } catch (FeignException.NotFound e) {
+            lastKnownGood.invalidate(id);
+            throw e;
+        }
+    }
+    
+    /**
+     * 여러 사용자 일괄 조회 (호출할 수 없으면 요청한 사용자 모두의 마지막 응답이 있을 때만 대체)
+     * 일부만 대체하면 빠진 사용자가 "없는 사용자"로 처리되므로 그 경우에는 호출 불가로 응답한다.
+     */
+    @Override
+    public List<UserResponse> getUsersByIds(List<Long> ids) {
+        return executor.execute(() -> {
+            List<UserResponse> users = delegate.getUsersByIds(ids);
+            users.forEach(user -> lastKnownGood.put(user.getId(), user));
+            return users;
+        }, () -> {
+            Set<Long> distinctIds = new HashSet<>(ids);
+            Map<Long, UserResponse> known = lastKnownGood.getAllPresent(distinctIds);
+            return known.size() == distinctIds.size() ? new ArrayList<>(known.values()) : null;
+        });
+    }
+    
+    @Override
+    public List<UserEventResponse> getUserEvents(Long after, int limit) {
+        return executor.execute(() -> delegate.getUserEvents(after, limit), () -> null);
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.demo.client;
+
+import com.example.demo.config.UserBatchProperties;
+import com.example.demo.dto.UserResponse;
+import feign.FeignException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자 조회 요청 병합기
+ * 짧은 시간(window) 안에 들어온 단건 조회를 모아 user-service 배치 조회 한 번으로 처리한다.
+ * 대기 중인 요청이 최대 배치 크기에 도달하면 window를 기다리지 않고 바로 보낸다.
+ */
+@Component
+@Slf4j
+public class UserBatchLoader {
+    
+    private final UserServiceClient delegate;
+    private final UserBatchProperties properties;
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService executor;
+    
+    private final ReentrantLock lock = new ReentrantLock();
+    private Map<Long, CompletableFuture<Optional<UserResponse>>> pending = new HashMap<>();
+    private long generation;
+    
+    public UserBatchLoader(@Qualifier("resilientUserServiceClient") UserServiceClient delegate,
+                           UserBatchProperties properties,
+                           @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.delegate = delegate;
+        this.properties = properties;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("user-batch-timer-"));
+        // 배치 조회는 Feign 호출 동안 블로킹되므로 가상 스레드 모드에서는 가상 스레드로 실행
+        this.executor = virtualThreads
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("user-batch-", 0).factory())
+                : Executors.newCachedThreadPool(new CustomizableThreadFactory("user-batch-"));
+    }
+    
+    /**
+     * 사용자 조회 (없는 사용자는 빈 값)
+     */
+    public CompletableFuture<Optional<UserResponse>> load(Long id) {
+        if (!properties.isEnabled()) {
+            return CompletableFuture.supplyAsync(() -> loadOne(id), executor);
+        }
+        
+        CompletableFuture<Optional<UserResponse>> future;
+        Map<Long, CompletableFuture<Optional<UserResponse>>> fullBatch = null;
+        
+        lock.lock();
+        try {
+            future = pending.get(id);
+            if (future == null) {
+                future = new CompletableFuture<>();
+                pending.put(id, future);
+                
+                if (pending.size() == 1) {
+                    long scheduledGeneration = generation;
+                    scheduler.schedule(() -> flush(scheduledGeneration),
+                            properties.getWindow().toNanos(), TimeUnit.NANOSECONDS);
+                }
+                if (pending.size() >= properties.getMaxBatchSize()) {
+                    fullBatch = takePending();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        
+        if (fullBatch != null) {
+            dispatch(fullBatch);
+        }
+        return future;
+    }
+    
+    /**
+     * window 만료 시 대기 중인 요청 전송 (이미 꽉 차서 보낸 배치의 타이머면 무시)
+     */
+    private void flush(long scheduledGeneration) {
+        Map<Long, CompletableFuture<Optional<UserResponse>>> batch;
+        lock.lock();
+        try {
+            if (scheduledGeneration != generation || pending.isEmpty()) {
+                return;
+            }
+            batch = takePending();
+        } finally {
+            lock.unlock();
+        }
+        dispatch(batch);
+    }
+    
+    private Map<Long, CompletableFuture<Optional<UserResponse>>> takePending() {
+        Map<Long, CompletableFuture<Optional<UserResponse>>> batch = pending;
+        pending = new HashMap<>();
+        generation++;
+        return batch;
+    }
+    
+    private void dispatch(Map<Long, CompletableFuture<Optional<UserResponse>>> batch) {
+        executor.execute(() -> {
+            try {
+                List<UserResponse> users = delegate.getUsersByIds(new ArrayList<>(batch.keySet()));
+                Map<Long, UserResponse> usersById = users.stream()
+                        .collect(Collectors.toMap(UserResponse::getId, Function.identity(), (a, b) -> a));
+                batch.forEach((id, future) -> future.complete(Optional.ofNullable(usersById.get(id))));
+                log.debug("사용자 배치 조회 완료 - 요청 {}건, 조회 {}건", batch.size(), users.size());
+            } catch (Exception e) {
+                log.warn("사용자 배치 조회 실패 - {}건, 오류: {}", batch.size(), e.getMessage());
+                batch.values().forEach(future -> future.completeExceptionally(e));
+            }
+        });
+    }
+    
+    /**
+     * 단건 조회 (404는 빈 값)
+     */
+    private Optional<UserResponse> loadOne(Long id) {
+        try {
+            return Optional.of(delegate.getUserById(id));
+        } catch (FeignException.NotFound e) {
+            return Optional.empty();
+        }
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+        executor.shutdown();
+    }
+}
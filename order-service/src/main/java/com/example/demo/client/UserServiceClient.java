@@ -1,13 +1,30 @@
 package com.example.demo.client;
 
+import com.example.demo.dto.UserEventResponse;
 import com.example.demo.dto.UserResponse;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 
-@FeignClient(name = "user-service", url = "http://localhost:8081")
+import java.util.List;
+
+// 호출부에서는 캐시가 적용된 CachingUserServiceClient(@Primary)가 주입된다
+@FeignClient(name = "user-service", url = "http://localhost:8081", qualifiers = "userServiceFeignClient", primary = false)
 public interface UserServiceClient {
     
     @GetMapping("/api/v1/users/{id}")
     UserResponse getUserById(@PathVariable("id") Long id);
+    
+    /**
+     * 여러 사용자 일괄 조회 (없는 ID는 결과에서 제외)
+     */
+    @GetMapping("/api/v1/users/batch")
+    List<UserResponse> getUsersByIds(@RequestParam("ids") List<Long> ids);
+    
+    /**
+     * 사용자 변경 이벤트 피드 조회
+     */
+    @GetMapping("/api/v1/users/events")
+    List<UserEventResponse> getUserEvents(@RequestParam("after") Long after, @RequestParam("limit") int limit);
 }
@@ -0,0 +1,61 @@
+package com.example.demo.config;
+
+import com.example.demo.client.InstrumentedConnectionManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.openfeign.clientconfig.HttpClient5FeignConfiguration;
+import org.springframework.cloud.openfeign.support.FeignHttpClientProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.URI;
+
+/**
+ * Feign 클라이언트 전송 계층 설정 (Apache HttpClient 5 연결 풀)
+ * 연결 풀 빈을 직접 등록하면 Spring Cloud OpenFeign의 기본 풀 대신 사용된다.
+ * spring.cloud.openfeign.httpclient.hc5.enabled=false 이면 Feign 기본 HttpURLConnection 클라이언트로 돌아간다.
+ */
+@Configuration
+@Slf4j
+@ConditionalOnProperty(value = "spring.cloud.openfeign.httpclient.hc5.enabled", havingValue = "true", matchIfMissing = true)
+public class FeignHttpClientConfig {
+    
+    private static final String POOL_NAME = "feign";
+    
+    @Bean
+    public HttpClientConnectionManager feignConnectionManager(FeignHttpClientProperties feignProperties,
+                                                              HttpClientProperties properties,
+                                                              MeterRegistry meterRegistry) {
+        InstrumentedConnectionManager connectionManager = new InstrumentedConnectionManager(POOL_NAME, meterRegistry);
+        connectionManager.setMaxTotal(feignProperties.getMaxConnections());
+        connectionManager.setDefaultMaxPerRoute(feignProperties.getMaxConnectionsPerRoute());
+        connectionManager.setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(feignProperties.getConnectionTimeout()))
+                .setTimeToLive(TimeValue.of(feignProperties.getTimeToLive(), feignProperties.getTimeToLiveUnit()))
+                .build());
+        properties.getMaxConnectionsPerRoute().forEach((url, max) -> {
+            connectionManager.setMaxPerRoute(new HttpRoute(HttpHost.create(URI.create(url))), max);
+            log.info("Feign 경로별 최대 연결 수 설정 - {}: {}", url, max);
+        });
+        
+        // httpcomponents.httpclient.pool.* (전체/가용/대여 중/대기 중 연결 수)
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, POOL_NAME).bindTo(meterRegistry);
+        return connectionManager;
+    }
+    
+    /**
+     * 유휴 연결 정리 (TTL이 지난 연결은 기본 설정에서 이미 정리됨)
+     */
+    @Bean
+    public HttpClient5FeignConfiguration.HttpClientBuilderCustomizer idleConnectionEvictionCustomizer(HttpClientProperties properties) {
+        return builder -> builder.evictIdleConnections(TimeValue.ofMilliseconds(properties.getIdleTimeout().toMillis()));
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.demo.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "app.order-archive")
+public class OrderArchiveProperties {
+    
+    // 마지막 변경 이후 이 기간이 지난 DELIVERED/CANCELLED 주문을 보관 테이블로 옮긴다
+    private Duration retention = Duration.ofDays(90);
+    
+    // 한 트랜잭션에서 옮길 최대 주문 수
+    private int batchSize = 1000;
+    
+    // 배치 사이 대기 시간 (운영 트래픽과 복제 지연에 여유를 주기 위한 조절값)
+    private Duration batchDelay = Duration.ofMillis(200);
+    
+    // 한 번 실행에서 처리할 최대 배치 수 (남은 주문은 다음 실행에서 처리)
+    private int maxBatchesPerRun = 500;
+}
@@ -0,0 +1,32 @@
+package com.example.demo.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "app.order-rollup")
+public class OrderRollupProperties {
+    
+    // 시계열 집계 작업 실행 여부
+    private boolean enabled = true;
+    
+    // 변경된 주문 확인 주기 (밀리초)
+    private long pollIntervalMs = 5000;
+    
+    // 현재 시각에서 이 시간만큼 이전까지 변경된 주문만 반영 (늦게 커밋되는 트랜잭션의 변경을 놓치지 않기 위한 여유)
+    private Duration safetyLag = Duration.ofSeconds(10);
+    
+    // 이미 반영한 위치 뒤에 늦게 커밋된 변경을 다시 확인하는 주기 (밀리초)
+    private long reconcileIntervalMs = 300000;
+    
+    // 현재 시각에서 이 시간 이내에 변경된 주문의 구간을 다시 계산 (이보다 늦게 커밋된 변경은 반영되지 않는다)
+    private Duration reconcileWindow = Duration.ofHours(1);
+    
+    // 한 트랜잭션에서 읽을 변경 주문 수
+    private int batchSize = 1000;
+    
+    // 한 번에 조회할 수 있는 최대 구간 수 (예: 1년은 DAY 365, HOUR 8760)
+    private int maxBuckets = 10000;
+}
@@ -0,0 +1,18 @@
+package com.example.demo.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "app.order-search")
+public class OrderSearchProperties {
+    
+    // 시작 시 상품명 검색 색인을 만들지 여부 (false면 검색 API가 503)
+    private boolean enabled = true;
+    
+    // 검색어 토큰 하나가 접두사로 펼칠 수 있는 최대 색인어 수 (넘으면 400, 너무 짧은 검색어 방지)
+    private int maxPrefixExpansions = 10000;
+    
+    // 색인 반영에 실패한 주문을 다시 읽는 주기 (밀리초)
+    private long retryIntervalMs = 5000;
+}
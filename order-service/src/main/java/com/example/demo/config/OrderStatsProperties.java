@@ -0,0 +1,12 @@
+package com.example.demo.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "app.order-stats")
+public class OrderStatsProperties {
+    
+    // 재구축 시 한 트랜잭션에서 처리할 사용자 수
+    private int rebuildBatchSize = 500;
+}
@@ -0,0 +1,15 @@
+package com.example.demo.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "app.order-status-bulk")
+public class OrderStatusBulkProperties {
+    
+    // 한 트랜잭션에서 상태를 바꿀 최대 주문 수
+    private int chunkSize = 500;
+    
+    // 조회 후 UPDATE 전에 다른 요청이 상태를 바꿔 결과가 어긋났을 때 청크를 다시 시도하는 최대 횟수
+    private int maxAttempts = 3;
+}
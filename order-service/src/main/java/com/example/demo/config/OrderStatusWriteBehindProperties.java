@@ -0,0 +1,29 @@
+package com.example.demo.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "app.order-status-write-behind")
+public class OrderStatusWriteBehindProperties {
+    
+    // 상태 변경을 큐에 모아 비동기로 반영할지 여부 (true면 PATCH /{id}/status 가 202 Accepted 반환)
+    private boolean enabled = false;
+    
+    // 대기 큐 크기 (가득 차면 offerTimeout 동안 기다린 뒤 503)
+    private int queueCapacity = 10000;
+    
+    // 한 번에 반영할 최대 변경 수
+    private int flushSize = 500;
+    
+    // 첫 변경 이후 다른 변경을 기다리는 최대 시간
+    private Duration flushInterval = Duration.ofMillis(50);
+    
+    // 큐가 가득 찼을 때 요청 스레드가 기다리는 최대 시간
+    private Duration offerTimeout = Duration.ofMillis(100);
+    
+    // 종료 시 남은 변경을 반영하기 위해 기다리는 최대 시간
+    private Duration shutdownTimeout = Duration.ofSeconds(30);
+}
@@ -0,0 +1,26 @@
+package com.example.demo.config;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Data
+@Validated
+@ConfigurationProperties(prefix = "app.user-batch")
+public class UserBatchProperties {
+    
+    // 단건 조회 요청을 모아 배치 조회로 보낼지 여부
+    private boolean enabled = true;
+    
+    // 첫 요청 이후 다른 요청을 기다리는 시간
+    private Duration window = Duration.ofMillis(5);
+    
+    // 한 번의 배치 조회에 담을 최대 사용자 수 (user-service 배치 조회 제한 100명을 넘으면 시작 시 실패)
+    @Min(1)
+    @Max(100)
+    private int maxBatchSize = 100;
+}
@@ -0,0 +1,23 @@
+package com.example.demo.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "app.user-cache")
+public class UserCacheProperties {
+    
+    // 최대 캐시 항목 수 (초과 시 사용 빈도가 낮은 항목부터 제거)
+    private long maximumSize = 10_000;
+    
+    // 존재하는 사용자 캐시 유지 시간
+    private Duration ttl = Duration.ofMinutes(5);
+    
+    // 존재하지 않는 사용자(404) 캐시 유지 시간
+    private Duration negativeTtl = Duration.ofSeconds(10);
+    
+    // 저장 후 이 시간이 지난 항목은 다음 조회 시 백그라운드에서 갱신
+    private Duration refreshAfter = Duration.ofMinutes(1);
+}
@@ -0,0 +1,18 @@
+package com.example.demo.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "app.user-projection")
+public class UserProjectionProperties {
+    
+    // 이벤트 피드 폴링 여부
+    private boolean enabled = true;
+    
+    // 한 번에 가져올 이벤트 수
+    private int batchSize = 500;
+    
+    // 프로젝션에 없는 사용자(아직 동기화 전)일 때 user-service로 확인할지 여부
+    private boolean fallbackToRemote = true;
+}
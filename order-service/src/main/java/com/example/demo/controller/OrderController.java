@@ -1,16 +1,34 @@
 package com.example.demo.controller;
 
+import com.example.demo.dto.BulkOrderRequest;
+import com.example.demo.dto.BulkOrderResponse;
+import com.example.demo.dto.BulkStatusChangeRequest;
+import com.example.demo.dto.BulkStatusChangeResponse;
+import com.example.demo.dto.OrderAnalyticsResponse;
+import com.example.demo.dto.CursorPageResponse;
 import com.example.demo.dto.OrderRequest;
 import com.example.demo.dto.OrderResponse;
+import com.example.demo.dto.OrderSearchCondition;
 import com.example.demo.entity.Order;
+import com.example.demo.entity.OrderRollup;
+import com.example.demo.service.OrderRollupService;
 import com.example.demo.service.OrderService;
+import com.example.demo.service.OrderStatusBulkService;
+import com.example.demo.service.OrderStatusWriteBehind;
+import com.example.demo.service.UserOrderStatsService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -21,17 +39,52 @@ import java.util.List;
 public class OrderController {
 
     private final OrderService orderService;
+    private final UserOrderStatsService userOrderStatsService;
+    private final OrderStatusWriteBehind orderStatusWriteBehind;
+    private final OrderStatusBulkService orderStatusBulkService;
+    private final OrderRollupService orderRollupService;
 
     /**
-     * 모든 주문 조회
+     * 주문 목록 조회 (커서 기반 페이지네이션, 보관 주문 포함)
+     * 예: GET /api/v1/orders?userId=1&status=PENDING&createdFrom=2025-01-01T00:00:00&cursor=120&size=50
      */
     @GetMapping
-    public ResponseEntity<List<OrderResponse>> getAllOrders() {
-        log.info("GET /api/v1/orders - 모든 주문 조회 요청");
-        List<OrderResponse> orders = orderService.getAllOrders();
+    public ResponseEntity<CursorPageResponse<OrderResponse>> getAllOrders(
+            @ModelAttribute OrderSearchCondition condition,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size) {
+        log.info("GET /api/v1/orders - 주문 목록 조회 요청: {}, 커서 {}, 크기 {}", condition, cursor, size);
+        CursorPageResponse<OrderResponse> orders = orderService.getOrders(condition, cursor, size);
         return ResponseEntity.ok(orders);
     }
 
+    /**
+     * 상품명 검색 (토큰별 접두사 일치, 커서 기반 페이지네이션)
+     * 예: GET /api/v1/orders/search?q=무선 키보&status=PENDING&userId=1&cursor=120&size=50
+     */
+    @GetMapping("/search")
+    public ResponseEntity<CursorPageResponse<OrderResponse>> searchOrders(
+            @RequestParam String q,
+            @RequestParam(required = false) Order.OrderStatus status,
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size) {
+        log.info("GET /api/v1/orders/search - 상품명 검색 요청: {}, 상태 {}, 사용자 ID {}, 커서 {}, 크기 {}", q, status, userId, cursor, size);
+        CursorPageResponse<OrderResponse> orders = orderService.searchOrders(q, status, userId, cursor, size);
+        return ResponseEntity.ok(orders);
+    }
+
+    /**
+     * 전체 주문 내보내기 (NDJSON 스트리밍, 보관 주문 포함)
+     */
+    @GetMapping("/export")
+    public void exportOrders(HttpServletResponse response) throws IOException {
+        log.info("GET /api/v1/orders/export - 주문 내보내기 요청");
+        response.setContentType("application/x-ndjson");
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        orderService.exportOrders(response.getOutputStream());
+    }
+
     /**
      * ID로 주문 조회
      */
@@ -63,7 +116,17 @@ public class OrderController {
     }
 
     /**
-     * 주문 정보 수정
+     * 주문 일괄 생성 (항목별 성공/실패 결과 반환)
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkOrderResponse> createOrders(@Valid @RequestBody BulkOrderRequest requestDto) {
+        log.info("POST /api/v1/orders/bulk - 주문 일괄 생성 요청: {}건", requestDto.getOrders().size());
+        BulkOrderResponse response = orderService.createOrders(requestDto);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 주문 정보 수정 (보관된 주문은 409)
      */
     @PutMapping("/{id}")
     public ResponseEntity<OrderResponse> updateOrder(
@@ -75,19 +138,36 @@ public class OrderController {
     }
 
     /**
-     * 주문 상태 변경
+     * 주문 상태 변경 (보관된 주문은 이미 같은 상태면 그대로 반환, 아니면 409)
+     * write-behind 모드(app.order-status-write-behind.enabled)에서는 큐에 넣고 202 Accepted를 바로 반환한다.
      */
     @PatchMapping("/{id}/status")
     public ResponseEntity<OrderResponse> updateOrderStatus(
             @PathVariable Long id,
             @RequestParam Order.OrderStatus status) {
         log.info("PATCH /api/v1/orders/{}/status - 주문 상태 변경 요청: {}", id, status);
+        if (orderStatusWriteBehind.isEnabled()) {
+            orderStatusWriteBehind.submit(id, status);
+            return ResponseEntity.accepted().build();
+        }
         OrderResponse updatedOrder = orderService.updateOrderStatus(id, status);
         return ResponseEntity.ok(updatedOrder);
     }
 
     /**
-     * 주문 삭제
+     * 주문 상태 일괄 변경 (ID 목록 또는 userId/currentStatus 조건, 변경/건너뜀/없음 건수 반환)
+     * 예: {"userId": 1, "currentStatus": "SHIPPED", "targetStatus": "DELIVERED"}
+     * 충돌이 재시도 후에도 계속되면 409와 함께 그때까지 커밋된 청크의 건수를 details로 반환한다.
+     */
+    @PatchMapping("/bulk/status")
+    public ResponseEntity<BulkStatusChangeResponse> updateOrderStatuses(@Valid @RequestBody BulkStatusChangeRequest requestDto) {
+        log.info("PATCH /api/v1/orders/bulk/status - 주문 상태 일괄 변경 요청: {}", requestDto.getTargetStatus());
+        BulkStatusChangeResponse response = orderStatusBulkService.changeStatus(requestDto);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 주문 삭제 (이미 취소되어 보관된 주문은 변경 없이 204, 다른 상태로 보관된 주문은 409)
      */
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteOrder(@PathVariable Long id) {
@@ -120,9 +200,33 @@ public class OrderController {
      * 사용자별 총 주문 금액 조회
      */
     @GetMapping("/total/user/{userId}")
-    public ResponseEntity<Double> getTotalAmountByUserId(@PathVariable Long userId) {
+    public ResponseEntity<BigDecimal> getTotalAmountByUserId(@PathVariable Long userId) {
         log.info("GET /api/v1/orders/total/user/{} - 사용자별 총 주문 금액 조회 요청", userId);
-        Double totalAmount = orderService.getTotalAmountByUserId(userId);
+        BigDecimal totalAmount = orderService.getTotalAmountByUserId(userId);
         return ResponseEntity.ok(totalAmount);
     }
+
+    /**
+     * 구간별 주문 수/매출 시계열 조회 (미리 계산한 order_rollup 조회, 반영 지연은 app.order-rollup 설정 참고)
+     * 예: GET /api/v1/orders/analytics?from=2025-01-01T00:00:00&to=2026-01-01T00:00:00&granularity=DAY
+     */
+    @GetMapping("/analytics")
+    public ResponseEntity<OrderAnalyticsResponse> getOrderAnalytics(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "HOUR") OrderRollup.Granularity granularity) {
+        log.info("GET /api/v1/orders/analytics - 주문 시계열 조회 요청: {} ~ {}, 단위 {}", from, to, granularity);
+        OrderAnalyticsResponse response = orderRollupService.getSeries(granularity, from, to);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 사용자별 주문 집계 재구축 (재구축한 사용자 수 반환)
+     */
+    @PostMapping("/stats/rebuild")
+    public ResponseEntity<Long> rebuildOrderStats() {
+        log.info("POST /api/v1/orders/stats/rebuild - 사용자별 주문 집계 재구축 요청");
+        long rebuilt = userOrderStatsService.rebuild();
+        return ResponseEntity.ok(rebuilt);
+    }
 }
@@ -0,0 +1,22 @@
+package com.example.demo.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkOrderRequest {
+    
+    // 항목별 유효성 검증은 서비스에서 수행하고 결과를 항목별로 돌려준다
+    @NotEmpty(message = "주문 목록은 필수입니다")
+    @Size(max = 1000, message = "한 번에 최대 1000건까지 등록할 수 있습니다")
+    private List<OrderRequest> orders;
+}
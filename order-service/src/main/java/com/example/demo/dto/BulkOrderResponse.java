@@ -0,0 +1,33 @@
+package com.example.demo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkOrderResponse {
+    
+    private int requested;
+    private int succeeded;
+    private int failed;
+    private List<ItemResult> results;
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ItemResult {
+        
+        // 요청 목록에서의 위치 (0부터)
+        private int index;
+        private boolean success;
+        private Long orderId;
+        private String error;
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.demo.dto;
+
+import com.example.demo.entity.Order;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusChangeRequest {
+    
+    // 대상 주문 ID 목록 (userId/currentStatus 조건과 함께 쓸 수 없음)
+    @Size(max = 10000, message = "한 번에 최대 10000건까지 변경할 수 있습니다")
+    private List<Long> ids;
+    
+    // 조건으로 대상 지정 (둘 중 하나 이상)
+    private Long userId;
+    
+    private Order.OrderStatus currentStatus;
+    
+    @NotNull(message = "변경할 상태는 필수입니다")
+    private Order.OrderStatus targetStatus;
+}
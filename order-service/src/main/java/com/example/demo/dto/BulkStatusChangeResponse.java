@@ -0,0 +1,26 @@
+package com.example.demo.dto;
+
+import com.example.demo.entity.Order;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusChangeResponse {
+    
+    private Order.OrderStatus targetStatus;
+    
+    // 요청한 ID 수 (조건 지정 시 조건에 맞은 주문 수)
+    private long requested;
+    
+    private long updated;
+    
+    // 주문은 있지만 현재 상태에서 targetStatus로 바꿀 수 없어 건너뛴 수 (이미 같은 상태 포함)
+    private long skipped;
+    
+    private long notFound;
+}
@@ -0,0 +1,45 @@
+package com.example.demo.dto;
+
+import com.example.demo.entity.Order;
+import com.example.demo.entity.OrderRollup;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderAnalyticsResponse {
+    
+    private OrderRollup.Granularity granularity;
+    private LocalDateTime from;
+    private LocalDateTime to;
+    
+    // 주문이 있는 구간만 시간순으로 포함
+    private List<Bucket> buckets;
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Bucket {
+        
+        // 구간 시작 시각 (주문 생성 시각 기준)
+        private LocalDateTime bucketStart;
+        
+        private long orderCount;
+        
+        // 구간에 생성된 주문의 현재 상태별 수
+        private Map<Order.OrderStatus, Long> countByStatus;
+        
+        // 취소 제외 주문 금액 합계
+        private BigDecimal revenue;
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.demo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserEventResponse {
+    
+    private Long eventId;
+    private Long userId;
+    private String eventType;
+    private String status;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,26 @@
+package com.example.demo.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 이벤트 피드 소비 위치
+ */
+@Entity
+@Table(name = "event_consumer_offset")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventConsumerOffset {
+
+    @Id
+    @Column(name = "consumer_name", length = 50)
+    private String consumerName;
+
+    @Column(name = "last_event_id", nullable = false)
+    private Long lastEventId;
+}
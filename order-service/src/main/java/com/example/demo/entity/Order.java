@@ -14,6 +14,8 @@ import org.hibernate.annotations.UpdateTimestamp;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Set;
 
 @Entity
 @Table(name = "orders")
@@ -23,8 +25,16 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class Order {
 
+    // 테이블 기반 pooled-lo 할당: 50개 단위로 ID를 미리 받아 insert를 JDBC 배치로 묶을 수 있다
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "order_id_generator")
+    @TableGenerator(
+            name = "order_id_generator",
+            table = "id_generator",
+            pkColumnName = "sequence_name",
+            valueColumnName = "next_val",
+            pkColumnValue = "orders",
+            allocationSize = 50)
     private Long id;
 
     @NotNull(message = "사용자 ID는 필수입니다")
@@ -50,6 +60,13 @@ public class Order {
     @Column(nullable = false)
     private OrderStatus status;
 
+    // 조건부 상태 변경 UPDATE가 남기는 변경 전 상태 (V5 마이그레이션)
+    // MySQL에는 UPDATE ... RETURNING이 없어서 변경 이벤트의 변경 전 상태를 UPDATE 한 문장 안에서 이 컬럼에 옮겨 두고,
+    // 같은 트랜잭션의 다음 SELECT(findStatusRowById)로 변경 후 값과 함께 읽는다. 상태 변경 직후에만 의미가 있고 이력 용도가 아니다.
+    @Enumerated(EnumType.STRING)
+    @Column(name = "previous_status")
+    private OrderStatus previousStatus;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -64,5 +81,18 @@ public class Order {
         SHIPPED,
         DELIVERED,
         CANCELLED;
+        
+        /**
+         * 이 상태로 바꿀 수 있는 변경 전 상태 (일괄 상태 변경의 UPDATE 조건으로 사용)
+         */
+        public Set<OrderStatus> allowedFrom() {
+            return switch (this) {
+                case PENDING -> EnumSet.noneOf(OrderStatus.class);
+                case CONFIRMED -> EnumSet.of(PENDING);
+                case SHIPPED -> EnumSet.of(CONFIRMED);
+                case DELIVERED -> EnumSet.of(SHIPPED);
+                case CANCELLED -> EnumSet.of(PENDING, CONFIRMED);
+            };
+        }
     }
 }
@@ -0,0 +1,90 @@
+package com.example.demo.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 주문 시계열 집계 (생성 시각 구간 x 현재 상태)
+ * 집계 작업만 쓰고, 분석 조회는 주문 테이블 대신 이 테이블의 PK 범위만 읽는다.
+ */
+@Entity
+@Table(name = "order_rollup")
+@IdClass(OrderRollup.Key.class)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderRollup {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 10)
+    private Granularity granularity;
+
+    @Id
+    @Column(name = "bucket_start")
+    private LocalDateTime bucketStart;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private Order.OrderStatus status;
+
+    @Column(name = "order_count", nullable = false)
+    private long orderCount;
+
+    // 가격 x 수량 합계
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal amount;
+
+    public enum Granularity {
+        MINUTE(ChronoUnit.MINUTES),
+        HOUR(ChronoUnit.HOURS),
+        DAY(ChronoUnit.DAYS);
+
+        private final ChronoUnit unit;
+
+        Granularity(ChronoUnit unit) {
+            this.unit = unit;
+        }
+
+        /**
+         * 시각이 속한 구간의 시작 시각
+         */
+        public LocalDateTime truncate(LocalDateTime time) {
+            return time.truncatedTo(unit);
+        }
+
+        /**
+         * 다음 구간의 시작 시각
+         */
+        public LocalDateTime next(LocalDateTime bucketStart) {
+            return bucketStart.plus(1, unit);
+        }
+
+        /**
+         * 구간 시작 시각 범위 [from, to) 안의 구간 수
+         */
+        public long between(LocalDateTime from, LocalDateTime to) {
+            return unit.between(from, to);
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+
+        private Granularity granularity;
+        private LocalDateTime bucketStart;
+        private Order.OrderStatus status;
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.demo.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 시계열 집계 작업이 마지막으로 반영한 주문 변경 위치 (updated_at, id 순)
+ */
+@Entity
+@Table(name = "order_rollup_watermark")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderRollupWatermark {
+
+    @Id
+    @Column(length = 50)
+    private String name;
+
+    // 비어 있으면 아직 반영한 변경이 없음 (처음부터 읽는다)
+    @Column(name = "last_updated_at")
+    private LocalDateTime lastUpdatedAt;
+
+    @Column(name = "last_order_id", nullable = false)
+    private Long lastOrderId;
+}
@@ -0,0 +1,44 @@
+package com.example.demo.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * user-service 사용자 상태의 로컬 사본
+ * 주문 생성/수정 시 사용자 검증을 원격 호출 없이 PK 조회로 처리하기 위해 사용한다.
+ */
+@Entity
+@Table(name = "user_projection")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserProjection {
+
+    public static final String ACTIVE = "ACTIVE";
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(nullable = false, length = 20)
+    private String status;
+
+    // 마지막으로 반영한 이벤트 ID (중복/역순 이벤트 무시용)
+    @Column(name = "last_event_id", nullable = false)
+    private Long lastEventId;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public boolean isActive() {
+        return ACTIVE.equals(status);
+    }
+}
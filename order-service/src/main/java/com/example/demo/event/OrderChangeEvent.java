@@ -0,0 +1,34 @@
+package com.example.demo.event;
+
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * 주문 변경 이벤트
+ * 주문을 변경한 트랜잭션 안에서 발행되므로 동기 리스너는 같은 트랜잭션에서 함께 커밋/롤백된다.
+ * 일괄 처리는 변경 목록을 한 이벤트로 묶어 발행한다.
+ */
+@Value
+public class OrderChangeEvent {
+    
+    List<OrderChange> changes;
+    
+    public static OrderChangeEvent created(OrderSnapshot after) {
+        return new OrderChangeEvent(List.of(new OrderChange(null, after)));
+    }
+    
+    public static OrderChangeEvent changed(OrderSnapshot before, OrderSnapshot after) {
+        return new OrderChangeEvent(List.of(new OrderChange(before, after)));
+    }
+    
+    /**
+     * 단일 주문 변경 (생성이면 before가 null)
+     */
+    @Value
+    public static class OrderChange {
+        
+        OrderSnapshot before;
+        OrderSnapshot after;
+    }
+}
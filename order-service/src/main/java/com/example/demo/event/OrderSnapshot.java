@@ -0,0 +1,47 @@
+package com.example.demo.event;
+
+import com.example.demo.entity.Order;
+import lombok.Builder;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 변경 전/후 주문 상태
+ */
+@Value
+@Builder(toBuilder = true)
+public class OrderSnapshot {
+    
+    Long id;
+    Long userId;
+    String productName;
+    Integer quantity;
+    BigDecimal price;
+    Order.OrderStatus status;
+    LocalDateTime createdAt;
+    
+    public static OrderSnapshot of(Order order) {
+        return OrderSnapshot.builder()
+                .id(order.getId())
+                .userId(order.getUserId())
+                .productName(order.getProductName())
+                .quantity(order.getQuantity())
+                .price(order.getPrice())
+                .status(order.getStatus())
+                .createdAt(order.getCreatedAt())
+                .build();
+    }
+    
+    /**
+     * 주문 금액 (가격 x 수량)
+     */
+    public BigDecimal getAmount() {
+        return price.multiply(BigDecimal.valueOf(quantity));
+    }
+    
+    public boolean isCancelled() {
+        return status == Order.OrderStatus.CANCELLED;
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.demo.exception;
+
+/**
+ * 보관된 주문을 변경하려 할 때 발생하는 예외 (409, 보관 주문은 조회만 가능)
+ */
+public class ArchivedOrderException extends RuntimeException {
+    
+    public ArchivedOrderException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.demo.exception;
+
+import com.example.demo.dto.BulkStatusChangeResponse;
+
+/**
+ * 주문 상태 일괄 변경 중 다른 요청과의 충돌이 재시도 후에도 계속될 때 발생하는 예외 (409)
+ * 앞선 청크는 이미 커밋되었으므로 그때까지의 결과를 함께 전달한다.
+ */
+public class BulkStatusConflictException extends RuntimeException {
+    
+    private final BulkStatusChangeResponse partial;
+    
+    public BulkStatusConflictException(String message, BulkStatusChangeResponse partial, Throwable cause) {
+        super(message, cause);
+        this.partial = partial;
+    }
+    
+    public BulkStatusChangeResponse getPartial() {
+        return partial;
+    }
+}
@@ -1,6 +1,8 @@
 package com.example.demo.exception;
 
+import com.example.demo.dto.BulkStatusChangeResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -10,6 +12,7 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 @RestControllerAdvice
@@ -41,6 +44,102 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(errorResponse);
     }
     
+    /**
+     * 리소스 없음 예외 처리
+     */
+    @ExceptionHandler(ResourceNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleResourceNotFoundException(ResourceNotFoundException ex) {
+        log.error("리소스 없음: {}", ex.getMessage());
+        
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.NOT_FOUND.value())
+                .error("Not Found")
+                .message(ex.getMessage())
+                .build();
+        
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+    }
+    
+    /**
+     * 보관 주문 변경 예외 처리
+     */
+    @ExceptionHandler(ArchivedOrderException.class)
+    public ResponseEntity<ErrorResponse> handleArchivedOrderException(ArchivedOrderException ex) {
+        log.warn("보관 주문 변경 요청: {}", ex.getMessage());
+        
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.CONFLICT.value())
+                .error("Conflict")
+                .message(ex.getMessage())
+                .build();
+        
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+    
+    /**
+     * 주문 상태 일괄 변경 충돌 예외 처리 (이미 커밋된 청크의 결과를 details로 전달)
+     */
+    @ExceptionHandler(BulkStatusConflictException.class)
+    public ResponseEntity<ErrorResponse> handleBulkStatusConflictException(BulkStatusConflictException ex) {
+        log.warn("주문 상태 일괄 변경 충돌: {}", ex.getMessage());
+        
+        BulkStatusChangeResponse partial = ex.getPartial();
+        Map<String, String> details = new LinkedHashMap<>();
+        details.put("targetStatus", String.valueOf(partial.getTargetStatus()));
+        details.put("requested", String.valueOf(partial.getRequested()));
+        details.put("updated", String.valueOf(partial.getUpdated()));
+        details.put("skipped", String.valueOf(partial.getSkipped()));
+        details.put("notFound", String.valueOf(partial.getNotFound()));
+        
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.CONFLICT.value())
+                .error("Conflict")
+                .message(ex.getMessage())
+                .details(details)
+                .build();
+        
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+    
+    /**
+     * 의존 서비스 호출 불가 예외 처리
+     */
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleServiceUnavailableException(ServiceUnavailableException ex) {
+        log.error("의존 서비스 호출 불가: {}", ex.getMessage());
+        
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .error("Service Unavailable")
+                .message(ex.getMessage())
+                .build();
+        
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+    }
+    
+    /**
+     * 대기열 포화 예외 처리 (Retry-After 헤더로 재시도 시점 안내)
+     */
+    @ExceptionHandler(QueueFullException.class)
+    public ResponseEntity<ErrorResponse> handleQueueFullException(QueueFullException ex) {
+        log.warn("대기열 포화: {}", ex.getMessage());
+        
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .error("Service Unavailable")
+                .message(ex.getMessage())
+                .build();
+        
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(errorResponse);
+    }
+    
     /**
      * 런타임 예외 처리
      */
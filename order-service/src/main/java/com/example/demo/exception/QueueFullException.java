@@ -0,0 +1,11 @@
+package com.example.demo.exception;
+
+/**
+ * 비동기 처리 대기열이 가득 차서 요청을 받을 수 없을 때 발생하는 예외 (503, 잠시 후 재시도)
+ */
+public class QueueFullException extends RuntimeException {
+    
+    public QueueFullException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.demo.exception;
+
+/**
+ * 조회 대상이 존재하지 않을 때 발생하는 예외 (404)
+ */
+public class ResourceNotFoundException extends RuntimeException {
+    
+    public ResourceNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.demo.exception;
+
+/**
+ * 의존 서비스를 호출할 수 없을 때 발생하는 예외 (503)
+ * 타임아웃, 5xx 응답, 서킷 브레이커 차단, 동시 호출 한도 초과를 포함한다.
+ */
+public class ServiceUnavailableException extends RuntimeException {
+    
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+    
+    public ServiceUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
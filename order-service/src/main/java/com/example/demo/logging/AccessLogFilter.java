@@ -0,0 +1,57 @@
+package com.example.demo.logging;
+
+import com.example.demo.config.LoggingProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청당 접근 로그 한 건 (메서드, 경로 템플릿, 상태 코드, 처리 시간)
+ * 요청 내부 로그의 샘플링 여부도 여기서 정한다 (app.logging.sample-rate).
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class AccessLogFilter extends OncePerRequestFilter {
+    
+    private static final Logger ACCESS_LOG = LoggerFactory.getLogger("access-log");
+    
+    private final LoggingProperties loggingProperties;
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        LogSampling.begin(loggingProperties.getSampleRate());
+        int status = HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+        try {
+            filterChain.doFilter(request, response);
+            status = response.getStatus();
+        } finally {
+            LogSampling.end();
+            if (loggingProperties.isAccessLog()) {
+                long durationMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+                Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                ACCESS_LOG.atInfo()
+                        .addKeyValue("method", request.getMethod())
+                        .addKeyValue("uri", pattern != null ? pattern : "UNKNOWN")
+                        .addKeyValue("path", request.getRequestURI())
+                        .addKeyValue("status", status)
+                        .addKeyValue("durationMs", durationMicros / 1000.0)
+                        .log("{} {} {} {}ms", request.getMethod(), request.getRequestURI(), status, durationMicros / 1000.0);
+            }
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.demo.logging;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 요청 단위 로그 샘플링 결정
+ * 요청 하나의 로그는 모두 남기거나 모두 버린다 (요청 밖의 로그는 샘플링하지 않음).
+ */
+public final class LogSampling {
+    
+    private static final ThreadLocal<Boolean> SAMPLED = new ThreadLocal<>();
+    
+    private LogSampling() {
+    }
+    
+    /**
+     * 현재 요청의 샘플링 여부 결정 (rate: 0.0 ~ 1.0)
+     */
+    static void begin(double rate) {
+        SAMPLED.set(rate >= 1.0 || ThreadLocalRandom.current().nextDouble() < rate);
+    }
+    
+    static void end() {
+        SAMPLED.remove();
+    }
+    
+    /**
+     * 요청 처리 중이 아니면 null
+     */
+    static Boolean current() {
+        return SAMPLED.get();
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.demo.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+/**
+ * 큐 적재/유실 수를 집계하는 비동기 어펜더
+ * neverBlock=true 이면 큐가 찼을 때 요청 스레드를 막지 않고 이벤트를 버린다.
+ * 큐 사용량이 discardingThreshold를 넘으면 INFO 이하 이벤트도 버린다 (WARN 이상은 유지).
+ */
+public class MeteredAsyncAppender extends AsyncAppender {
+    
+    @Override
+    public void start() {
+        super.start();
+        if (isStarted()) {
+            LoggingMetrics.register(this);
+        }
+    }
+    
+    @Override
+    protected void append(ILoggingEvent event) {
+        int remaining = getRemainingCapacity();
+        if (remaining == 0 || (remaining < getDiscardingThreshold() && isDiscardable(event))) {
+            LoggingMetrics.DROPPED.increment();
+        } else {
+            LoggingMetrics.APPENDED.increment();
+        }
+        super.append(event);
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.demo.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * 요청 단위 SQL 실행 횟수 집계
+ * StatementCountFilter가 요청을 시작할 때 현재 스레드의 집계를 열고, 끝날 때 횟수를 가져간다.
+ * 집계를 열지 않은 스레드(스케줄 작업 등)에서 실행된 SQL은 집계하지 않는다 (벤치마크도 측정 스레드에서 직접 열고 닫는다).
+ */
+public class StatementCountingInspector implements StatementInspector {
+    
+    private static final ThreadLocal<int[]> COUNTER = new ThreadLocal<>();
+    
+    @Override
+    public String inspect(String sql) {
+        int[] counter = COUNTER.get();
+        if (counter != null) {
+            counter[0]++;
+        }
+        return sql;
+    }
+    
+    public static void begin() {
+        COUNTER.set(new int[1]);
+    }
+    
+    /**
+     * 집계 종료 후 실행 횟수 반환
+     */
+    public static int end() {
+        int[] counter = COUNTER.get();
+        COUNTER.remove();
+        return counter != null ? counter[0] : 0;
+    }
+}
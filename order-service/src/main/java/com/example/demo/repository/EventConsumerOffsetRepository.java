@@ -0,0 +1,9 @@
+package com.example.demo.repository;
+
+import com.example.demo.entity.EventConsumerOffset;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface EventConsumerOffsetRepository extends JpaRepository<EventConsumerOffset, String> {
+}
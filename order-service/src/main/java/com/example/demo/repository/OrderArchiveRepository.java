@@ -0,0 +1,114 @@
+package com.example.demo.repository;
+
+import com.example.demo.dto.OrderResponse;
+import com.example.demo.entity.Order;
+import com.example.demo.entity.OrderArchive;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+@Repository
+public interface OrderArchiveRepository extends JpaRepository<OrderArchive, Long> {
+    
+    // ID로 보관 주문 조회 (OrderResponse 생성자 프로젝션)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL")
+    })
+    @Query("SELECT new com.example.demo.dto.OrderResponse(a.id, a.userId, a.productName, a.quantity, a.price, " +
+           "a.status, a.createdAt, a.updatedAt) FROM OrderArchive a WHERE a.id = :id")
+    Optional<OrderResponse> findResponseById(Long id);
+    
+    // 사용자 ID로 보관 주문 목록 조회 (OrderResponse 생성자 프로젝션)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL")
+    })
+    @Query("SELECT new com.example.demo.dto.OrderResponse(a.id, a.userId, a.productName, a.quantity, a.price, " +
+           "a.status, a.createdAt, a.updatedAt) FROM OrderArchive a WHERE a.userId = :userId ORDER BY a.id")
+    List<OrderResponse> findResponsesByUserId(Long userId);
+    
+    // ID 목록으로 보관 주문 조회 (OrderResponse 생성자 프로젝션, 상품명 검색 결과 조회용)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL")
+    })
+    @Query("SELECT new com.example.demo.dto.OrderResponse(a.id, a.userId, a.productName, a.quantity, a.price, " +
+           "a.status, a.createdAt, a.updatedAt) FROM OrderArchive a WHERE a.id IN :ids")
+    List<OrderResponse> findResponsesByIds(Collection<Long> ids);
+    
+    // 전체 보관 주문 스트리밍 조회 (내보내기용, OrderResponse 생성자 프로젝션이라 영속성 컨텍스트에 엔티티를 올리지 않음)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.example.demo.dto.OrderResponse(a.id, a.userId, a.productName, a.quantity, a.price, " +
+           "a.status, a.createdAt, a.updatedAt) FROM OrderArchive a ORDER BY a.id")
+    Stream<OrderResponse> streamAllResponses();
+    
+    // 상품명 검색 색인 적재용 스트리밍 조회 (색인에 필요한 컬럼만)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.example.demo.repository.OrderSearchRow(a.id, a.userId, a.productName, a.status, " +
+           "a.updatedAt) FROM OrderArchive a")
+    Stream<OrderSearchRow> streamSearchRows();
+    
+    // ID 목록으로 상품명 검색 색인 행 조회 (커밋된 변경의 현재 값을 다시 읽어 색인 갱신)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT new com.example.demo.repository.OrderSearchRow(a.id, a.userId, a.productName, a.status, " +
+           "a.updatedAt) FROM OrderArchive a WHERE a.id IN :ids")
+    List<OrderSearchRow> findSearchRowsByIds(Collection<Long> ids);
+    
+    // 보관 대상 주문 복사 (orders의 조건을 다시 확인하고 조건에 맞는 행만 복사)
+    @Modifying
+    @Query("INSERT INTO OrderArchive (id, userId, productName, quantity, price, status, previousStatus, " +
+           "createdAt, updatedAt, archivedAt) " +
+           "SELECT o.id, o.userId, o.productName, o.quantity, o.price, o.status, o.previousStatus, " +
+           "o.createdAt, o.updatedAt, local datetime FROM Order o " +
+           "WHERE o.id IN :ids AND o.status IN :statuses AND o.updatedAt < :cutoff")
+    int copyFromOrders(Collection<Long> ids, Collection<Order.OrderStatus> statuses, LocalDateTime cutoff);
+    
+    // ID 순 보관 주문 위치 조회 (시계열 집계 최초 실행 시 보관 주문 구간 채우기용)
+    @Query("SELECT new com.example.demo.repository.OrderChangeMark(a.id, a.createdAt, a.updatedAt) FROM OrderArchive a " +
+           "WHERE a.id > :afterId ORDER BY a.id")
+    List<OrderChangeMark> findMarksAfter(Long afterId, Limit limit);
+    
+    // 생성 시각 구간 안 보관 주문의 상태별 수/금액 (시계열 집계 재계산용) - [status, count, amount]
+    @Query("SELECT a.status, COUNT(a), SUM(a.price * a.quantity) FROM OrderArchive a " +
+           "WHERE a.createdAt >= :from AND a.createdAt < :to GROUP BY a.status")
+    List<Object[]> sumByStatusCreatedBetween(LocalDateTime from, LocalDateTime to);
+    
+    // 상태별 보관 주문 수 조회
+    @Query("SELECT COUNT(a) FROM OrderArchive a WHERE a.status = :status")
+    long countByStatus(Order.OrderStatus status);
+    
+    // 상태별 보관 주문 수 일괄 조회 (상태 카운터 보정용) - [status, count]
+    @Query("SELECT a.status, COUNT(a) FROM OrderArchive a GROUP BY a.status")
+    List<Object[]> countGroupByStatus();
+    
+    // 보관 주문이 있는 사용자 ID를 순서대로 조회 (집계 재구축용 keyset)
+    @Query("SELECT DISTINCT a.userId FROM OrderArchive a WHERE a.userId > :afterUserId ORDER BY a.userId")
+    List<Long> findUserIdsAfter(Long afterUserId, Limit limit);
+    
+    // 사용자별 보관 주문 수 조회 (집계 재구축용) - [userId, count]
+    @Query("SELECT a.userId, COUNT(a) FROM OrderArchive a WHERE a.userId IN :userIds GROUP BY a.userId")
+    List<Object[]> countByUserIds(Collection<Long> userIds);
+    
+    // 사용자별 특정 상태 제외 보관 주문 금액 조회 (집계 재구축용) - [userId, amount]
+    @Query("SELECT a.userId, SUM(a.price * a.quantity) FROM OrderArchive a " +
+           "WHERE a.userId IN :userIds AND a.status <> :excludedStatus GROUP BY a.userId")
+    List<Object[]> sumAmountByUserIds(Collection<Long> userIds, Order.OrderStatus excludedStatus);
+}
@@ -0,0 +1,9 @@
+package com.example.demo.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 변경된 주문 위치 (시계열 집계 작업이 다시 계산할 구간을 찾는 데 필요한 컬럼만 조회)
+ */
+public record OrderChangeMark(Long id, LocalDateTime createdAt, LocalDateTime updatedAt) {
+}
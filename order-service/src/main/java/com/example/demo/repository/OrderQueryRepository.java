@@ -0,0 +1,23 @@
+package com.example.demo.repository;
+
+import com.example.demo.dto.OrderResponse;
+import com.example.demo.entity.Order;
+import com.example.demo.entity.OrderArchive;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * 조회 조건(Specification)을 그대로 쓰는 DTO 프로젝션 조회
+ */
+public interface OrderQueryRepository {
+    
+    // 조건에 맞는 주문을 ID 내림차순으로 최대 limit건 조회 (엔티티를 만들지 않고 OrderResponse로 바로 매핑)
+    List<OrderResponse> findResponses(Specification<Order> spec, int limit);
+    
+    // 조건에 맞는 보관 주문을 ID 내림차순으로 최대 limit건 조회 (OrderResponse로 바로 매핑)
+    List<OrderResponse> findArchivedResponses(Specification<OrderArchive> spec, int limit);
+    
+    // 조건에 맞는 주문 ID만 ID 내림차순으로 최대 limit건 조회 (일괄 상태 변경 대상 keyset 조회)
+    List<Long> findIds(Specification<Order> spec, int limit);
+}
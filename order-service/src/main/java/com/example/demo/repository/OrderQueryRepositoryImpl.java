@@ -0,0 +1,79 @@
+package com.example.demo.repository;
+
+import com.example.demo.dto.OrderResponse;
+import com.example.demo.entity.Order;
+import com.example.demo.entity.OrderArchive;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.FlushMode;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+public class OrderQueryRepositoryImpl implements OrderQueryRepository {
+    
+    private final EntityManager entityManager;
+    
+    @Override
+    public List<OrderResponse> findResponses(Specification<Order> spec, int limit) {
+        return findResponses(Order.class, spec, limit);
+    }
+    
+    @Override
+    public List<OrderResponse> findArchivedResponses(Specification<OrderArchive> spec, int limit) {
+        return findResponses(OrderArchive.class, spec, limit);
+    }
+    
+    // 주문과 보관 주문은 OrderResponse에 필요한 속성 이름이 같으므로 같은 프로젝션으로 조회한다
+    private <T> List<OrderResponse> findResponses(Class<T> entityType, Specification<T> spec, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<OrderResponse> query = cb.createQuery(OrderResponse.class);
+        Root<T> root = query.from(entityType);
+        
+        query.select(cb.construct(OrderResponse.class,
+                root.get("id"),
+                root.get("userId"),
+                root.get("productName"),
+                root.get("quantity"),
+                root.get("price"),
+                root.get("status"),
+                root.get("createdAt"),
+                root.get("updatedAt")));
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(cb.desc(root.get("id")));
+        
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .setHint(HibernateHints.HINT_FLUSH_MODE, FlushMode.MANUAL)
+                .getResultList();
+    }
+    
+    @Override
+    public List<Long> findIds(Specification<Order> spec, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Order> root = query.from(Order.class);
+        
+        query.select(root.get("id"));
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(cb.desc(root.get("id")));
+        
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .setHint(HibernateHints.HINT_FLUSH_MODE, FlushMode.MANUAL)
+                .getResultList();
+    }
+}
@@ -1,30 +1,159 @@
 package com.example.demo.repository;
 
+import com.example.demo.dto.OrderResponse;
 import com.example.demo.entity.Order;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface OrderRepository extends JpaRepository<Order, Long> {
+public interface OrderRepository extends JpaRepository<Order, Long>, JpaSpecificationExecutor<Order>, OrderQueryRepository {
     
-    // 사용자 ID로 주문 목록 조회
-    List<Order> findByUserId(Long userId);
+    // ID로 주문 조회 (OrderResponse 생성자 프로젝션 - 영속성 컨텍스트에 엔티티를 올리지 않음)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL")
+    })
+    @Query("SELECT new com.example.demo.dto.OrderResponse(o.id, o.userId, o.productName, o.quantity, o.price, " +
+           "o.status, o.createdAt, o.updatedAt) FROM Order o WHERE o.id = :id")
+    Optional<OrderResponse> findResponseById(Long id);
     
-    // 사용자 ID와 상태로 주문 목록 조회
-    List<Order> findByUserIdAndStatus(Long userId, Order.OrderStatus status);
+    // 사용자 ID로 주문 목록 조회 (OrderResponse 생성자 프로젝션)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL")
+    })
+    @Query("SELECT new com.example.demo.dto.OrderResponse(o.id, o.userId, o.productName, o.quantity, o.price, " +
+           "o.status, o.createdAt, o.updatedAt) FROM Order o WHERE o.userId = :userId ORDER BY o.id")
+    List<OrderResponse> findResponsesByUserId(Long userId);
+    
+    // ID 목록으로 주문 조회 (OrderResponse 생성자 프로젝션, 상품명 검색 결과 조회용)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL")
+    })
+    @Query("SELECT new com.example.demo.dto.OrderResponse(o.id, o.userId, o.productName, o.quantity, o.price, " +
+           "o.status, o.createdAt, o.updatedAt) FROM Order o WHERE o.id IN :ids")
+    List<OrderResponse> findResponsesByIds(Collection<Long> ids);
+    
+    // 상품명 검색 색인 적재용 스트리밍 조회 (색인에 필요한 컬럼만)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.example.demo.repository.OrderSearchRow(o.id, o.userId, o.productName, o.status, " +
+           "o.updatedAt) FROM Order o")
+    Stream<OrderSearchRow> streamSearchRows();
+    
+    // ID 목록으로 상품명 검색 색인 행 조회 (커밋된 변경의 현재 값을 다시 읽어 색인 갱신)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT new com.example.demo.repository.OrderSearchRow(o.id, o.userId, o.productName, o.status, " +
+           "o.updatedAt) FROM Order o WHERE o.id IN :ids")
+    List<OrderSearchRow> findSearchRowsByIds(Collection<Long> ids);
+    
+    // 전체 주문 스트리밍 조회 (내보내기용)
+    // forward-only 커서로 fetch size 단위씩 읽는다. MySQL은 URL에 useCursorFetch=true 가 있어야 fetch size가 적용된다.
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT o FROM Order o ORDER BY o.id")
+    Stream<Order> streamAll();
+    
+    // 상태 일괄 변경 대상 잠금 조회 (ID 순서로 잠가 교착 방지)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM Order o WHERE o.id IN :ids ORDER BY o.id")
+    List<Order> findAllForUpdate(Collection<Long> ids);
+    
+    // 상태 일괄 변경 (bulk update는 @UpdateTimestamp가 적용되지 않으므로 updatedAt을 직접 설정)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Order o SET o.previousStatus = o.status, o.status = :status, o.updatedAt = :updatedAt WHERE o.id IN :ids")
+    int updateStatusByIds(Collection<Long> ids, Order.OrderStatus status, LocalDateTime updatedAt);
+    
+    // 조건부 상태 변경 (이미 같은 상태면 0) - 엔티티를 읽지 않고 UPDATE 한 번으로 변경 전 상태를 previousStatus에 남긴다
+    @Modifying
+    @Query("UPDATE Order o SET o.previousStatus = o.status, o.status = :status, o.updatedAt = :updatedAt " +
+           "WHERE o.id = :id AND o.status <> :status")
+    int updateStatusIfChanged(Long id, Order.OrderStatus status, LocalDateTime updatedAt);
+    
+    // 상태 변경 직후 주문 상태 조회 (OrderStatusRow 생성자 프로젝션)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"))
+    @Query("SELECT new com.example.demo.repository.OrderStatusRow(o.id, o.userId, o.productName, o.quantity, o.price, " +
+           "o.status, o.previousStatus, o.createdAt, o.updatedAt) FROM Order o WHERE o.id = :id")
+    Optional<OrderStatusRow> findStatusRowById(Long id);
+    
+    // 일괄 상태 변경 대상 주문 상태 잠금 조회 (OrderStatusRow 생성자 프로젝션, ID 순서로 잠가 교착 방지)
+    // 청크 트랜잭션이 끝날 때까지 다른 요청이 상태를 바꾸지 못하므로 읽은 상태가 곧 UPDATE가 바꾸는 행이다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"))
+    @Query("SELECT new com.example.demo.repository.OrderStatusRow(o.id, o.userId, o.productName, o.quantity, o.price, " +
+           "o.status, o.previousStatus, o.createdAt, o.updatedAt) FROM Order o WHERE o.id IN :ids ORDER BY o.id")
+    List<OrderStatusRow> findStatusRowsForUpdate(Collection<Long> ids);
+    
+    // 변경 전 상태가 fromStatus인 주문만 상태 변경 (허용된 전이인지는 WHERE 조건으로 DB가 판단)
+    @Modifying
+    @Query("UPDATE Order o SET o.previousStatus = o.status, o.status = :status, o.updatedAt = :updatedAt " +
+           "WHERE o.id IN :ids AND o.status = :fromStatus")
+    int updateStatusByIdsFrom(Collection<Long> ids, Order.OrderStatus fromStatus, Order.OrderStatus status,
+                              LocalDateTime updatedAt);
+    
+    // 보관 대상 주문 ID를 순서대로 조회 (보관 작업용 keyset)
+    @Query("SELECT o.id FROM Order o WHERE o.status IN :statuses AND o.updatedAt < :cutoff AND o.id > :afterId ORDER BY o.id")
+    List<Long> findArchivableIds(Collection<Order.OrderStatus> statuses, LocalDateTime cutoff, Long afterId, Limit limit);
+    
+    // 보관 테이블로 복사한 주문 삭제 (복사와 같은 조건을 다시 확인)
+    @Modifying
+    @Query("DELETE FROM Order o WHERE o.id IN :ids AND o.status IN :statuses AND o.updatedAt < :cutoff")
+    int deleteArchived(Collection<Long> ids, Collection<Order.OrderStatus> statuses, LocalDateTime cutoff);
+    
+    // (updated_at, id) 위치 이후 변경된 주문 순차 조회 (시계열 집계 작업용, idx_orders_updated_at)
+    @Query("SELECT new com.example.demo.repository.OrderChangeMark(o.id, o.createdAt, o.updatedAt) FROM Order o " +
+           "WHERE (o.updatedAt > :afterUpdatedAt OR (o.updatedAt = :afterUpdatedAt AND o.id > :afterId)) " +
+           "AND o.updatedAt <= :upTo ORDER BY o.updatedAt, o.id")
+    List<OrderChangeMark> findChangedAfter(LocalDateTime afterUpdatedAt, Long afterId, LocalDateTime upTo, Limit limit);
+    
+    // upTo 까지 변경된 주문을 처음부터 순차 조회 (시계열 집계 위치가 아직 없을 때)
+    @Query("SELECT new com.example.demo.repository.OrderChangeMark(o.id, o.createdAt, o.updatedAt) FROM Order o " +
+           "WHERE o.updatedAt <= :upTo ORDER BY o.updatedAt, o.id")
+    List<OrderChangeMark> findChangedUpTo(LocalDateTime upTo, Limit limit);
+    
+    // 생성 시각 구간 안 주문의 상태별 수/금액 (시계열 집계 재계산용, idx_orders_created_at) - [status, count, amount]
+    @Query("SELECT o.status, COUNT(o), SUM(o.price * o.quantity) FROM Order o " +
+           "WHERE o.createdAt >= :from AND o.createdAt < :to GROUP BY o.status")
+    List<Object[]> sumByStatusCreatedBetween(LocalDateTime from, LocalDateTime to);
     
     // 상태별 주문 수 조회
     @Query("SELECT COUNT(o) FROM Order o WHERE o.status = :status")
     long countByStatus(Order.OrderStatus status);
     
-    // 사용자별 주문 수 조회
-    @Query("SELECT COUNT(o) FROM Order o WHERE o.userId = :userId")
-    long countByUserId(Long userId);
+    // 상태별 주문 수 일괄 조회 (상태 카운터 보정용) - [status, count]
+    @Query("SELECT o.status, COUNT(o) FROM Order o GROUP BY o.status")
+    List<Object[]> countGroupByStatus();
+    
+    // 주문이 있는 사용자 ID를 순서대로 조회 (집계 재구축용 keyset)
+    @Query("SELECT DISTINCT o.userId FROM Order o WHERE o.userId > :afterUserId ORDER BY o.userId")
+    List<Long> findUserIdsAfter(Long afterUserId, Limit limit);
+    
+    // 사용자별 주문 수 조회 (집계 재구축용) - [userId, count]
+    @Query("SELECT o.userId, COUNT(o) FROM Order o WHERE o.userId IN :userIds GROUP BY o.userId")
+    List<Object[]> countByUserIds(Collection<Long> userIds);
     
-    // 사용자별 총 주문 금액 조회
-    @Query("SELECT SUM(o.price * o.quantity) FROM Order o WHERE o.userId = :userId AND o.status != 'CANCELLED'")
-    Double getTotalAmountByUserId(Long userId);
+    // 사용자별 특정 상태 제외 총 주문 금액 조회 (집계 재구축용) - [userId, amount]
+    @Query("SELECT o.userId, SUM(o.price * o.quantity) FROM Order o " +
+           "WHERE o.userId IN :userIds AND o.status <> :excludedStatus GROUP BY o.userId")
+    List<Object[]> sumAmountByUserIds(Collection<Long> userIds, Order.OrderStatus excludedStatus);
 }
@@ -0,0 +1,37 @@
+package com.example.demo.repository;
+
+import com.example.demo.entity.OrderRollup;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface OrderRollupRepository extends JpaRepository<OrderRollup, OrderRollup.Key> {
+    
+    // 구간 범위 조회 (PK 앞부분 범위 스캔, OrderRollupRow 생성자 프로젝션)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL")
+    })
+    @Query("SELECT new com.example.demo.repository.OrderRollupRow(r.bucketStart, r.status, r.orderCount, r.amount) " +
+           "FROM OrderRollup r WHERE r.granularity = :granularity AND r.bucketStart >= :from AND r.bucketStart < :to " +
+           "ORDER BY r.bucketStart")
+    List<OrderRollupRow> findRows(OrderRollup.Granularity granularity, LocalDateTime from, LocalDateTime to);
+    
+    // 하위 단위 구간 합계 (시간/일 구간 재계산용) - [status, count, amount]
+    @Query("SELECT r.status, SUM(r.orderCount), SUM(r.amount) FROM OrderRollup r " +
+           "WHERE r.granularity = :granularity AND r.bucketStart >= :from AND r.bucketStart < :to GROUP BY r.status")
+    List<Object[]> sumByStatus(OrderRollup.Granularity granularity, LocalDateTime from, LocalDateTime to);
+    
+    // 구간 하나의 집계 삭제 (다시 계산한 값으로 교체하기 전)
+    @Modifying
+    @Query("DELETE FROM OrderRollup r WHERE r.granularity = :granularity AND r.bucketStart = :bucketStart")
+    int deleteBucket(OrderRollup.Granularity granularity, LocalDateTime bucketStart);
+}
@@ -0,0 +1,12 @@
+package com.example.demo.repository;
+
+import com.example.demo.entity.Order;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 시계열 집계 한 행 (분석 조회용 생성자 프로젝션)
+ */
+public record OrderRollupRow(LocalDateTime bucketStart, Order.OrderStatus status, long orderCount, BigDecimal amount) {
+}
@@ -0,0 +1,19 @@
+package com.example.demo.repository;
+
+import com.example.demo.entity.OrderRollupWatermark;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface OrderRollupWatermarkRepository extends JpaRepository<OrderRollupWatermark, String> {
+    
+    // 위치 잠금 조회 (여러 인스턴스가 동시에 집계하지 않도록 집계 트랜잭션 동안 잠근다)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT w FROM OrderRollupWatermark w WHERE w.name = :name")
+    Optional<OrderRollupWatermark> findForUpdate(String name);
+}
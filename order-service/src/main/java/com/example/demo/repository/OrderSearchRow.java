@@ -0,0 +1,13 @@
+package com.example.demo.repository;
+
+import com.example.demo.entity.Order;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상품명 검색 색인 적재용 주문 행 (색인에 필요한 컬럼만 생성자 프로젝션으로 조회)
+ * updatedAt은 늦게 도착한 이전 값이 색인을 덮어쓰지 않도록 비교하는 데 쓴다.
+ */
+public record OrderSearchRow(Long id, Long userId, String productName, Order.OrderStatus status,
+                             LocalDateTime updatedAt) {
+}
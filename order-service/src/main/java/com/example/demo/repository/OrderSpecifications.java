@@ -0,0 +1,42 @@
+package com.example.demo.repository;
+
+import com.example.demo.entity.Order;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 목록 조회 조건
+ * 값이 있는 조건만 조합해서 사용하므로 각 조건은 해당 컬럼 인덱스를 그대로 탈 수 있다.
+ * 보관 주문(OrderArchive)도 같은 속성 이름을 쓰므로 같은 조건으로 조회한다.
+ */
+public final class OrderSpecifications {
+    
+    private OrderSpecifications() {
+    }
+    
+    // 커서(이전 페이지 마지막 ID) 이후 항목 - PK 기반 keyset
+    public static <T> Specification<T> idLessThan(Long cursor) {
+        return (root, query, cb) -> cb.lessThan(root.<Long>get("id"), cursor);
+    }
+    
+    // idx_orders_user_id, idx_orders_archive_user_id
+    public static <T> Specification<T> hasUserId(Long userId) {
+        return (root, query, cb) -> cb.equal(root.get("userId"), userId);
+    }
+    
+    // idx_orders_status, idx_orders_archive_status
+    public static <T> Specification<T> hasStatus(Order.OrderStatus status) {
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+    
+    // idx_orders_created_at
+    public static <T> Specification<T> createdAtFrom(LocalDateTime from) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.<LocalDateTime>get("createdAt"), from);
+    }
+    
+    // idx_orders_created_at
+    public static <T> Specification<T> createdAtBefore(LocalDateTime to) {
+        return (root, query, cb) -> cb.lessThan(root.<LocalDateTime>get("createdAt"), to);
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.demo.repository;
+
+import com.example.demo.dto.OrderResponse;
+import com.example.demo.entity.Order;
+import com.example.demo.event.OrderSnapshot;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 상태 변경 직후 주문 상태 (엔티티 대신 생성자 프로젝션으로 조회)
+ * previousStatus는 같은 트랜잭션에서 방금 실행한 조건부 UPDATE가 남긴 변경 전 상태다.
+ * UPDATE가 반환할 수 있는 것은 변경 건수뿐이므로 응답과 변경 이벤트에 필요한 값은 이 조회로 한 번 더 읽는다 (UPDATE + SELECT 두 문장).
+ * 먼저 SELECT ... FOR UPDATE로 읽고 UPDATE해도 두 문장이지만, 그러면 "이미 같은 상태" 판단을 애플리케이션이 해야 한다.
+ */
+public record OrderStatusRow(Long id, Long userId, String productName, Integer quantity, BigDecimal price,
+                             Order.OrderStatus status, Order.OrderStatus previousStatus,
+                             LocalDateTime createdAt, LocalDateTime updatedAt) {
+    
+    public OrderSnapshot after() {
+        return OrderSnapshot.builder()
+                .id(id)
+                .userId(userId)
+                .productName(productName)
+                .quantity(quantity)
+                .price(price)
+                .status(status)
+                .createdAt(createdAt)
+                .build();
+    }
+    
+    public OrderSnapshot before() {
+        return after().toBuilder().status(previousStatus).build();
+    }
+    
+    public OrderResponse toResponse() {
+        return OrderResponse.builder()
+                .id(id)
+                .userId(userId)
+                .productName(productName)
+                .quantity(quantity)
+                .price(price)
+                .status(status)
+                .createdAt(createdAt)
+                .updatedAt(updatedAt)
+                .build();
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.demo.repository;
+
+import com.example.demo.entity.UserOrderStats;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface UserOrderStatsRepository extends JpaRepository<UserOrderStats, Long>, UserOrderStatsUpsertRepository {
+    
+    // 재구축 대상 집계 행 잠금 조회
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM UserOrderStats s WHERE s.userId IN :userIds")
+    List<UserOrderStats> findAllForUpdate(Collection<Long> userIds);
+}
@@ -0,0 +1,13 @@
+package com.example.demo.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 주문 집계 upsert (DB별 구문을 쓰는 네이티브 쿼리)
+ */
+public interface UserOrderStatsUpsertRepository {
+    
+    // 집계 행이 없으면 증감분으로 생성, 있으면 증감 (호출한 트랜잭션 안에서 문장 하나로 처리)
+    void upsertDelta(Long userId, long countDelta, BigDecimal amountDelta, LocalDateTime now);
+}
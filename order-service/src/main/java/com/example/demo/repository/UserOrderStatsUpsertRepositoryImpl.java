@@ -0,0 +1,50 @@
+package com.example.demo.repository;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@RequiredArgsConstructor
+public class UserOrderStatsUpsertRepositoryImpl implements UserOrderStatsUpsertRepository {
+    
+    // MySQL: 중복 키면 같은 문장에서 증감
+    private static final String MYSQL_UPSERT =
+            "INSERT INTO user_order_stats (user_id, order_count, total_amount, updated_at) VALUES (?1, ?2, ?3, ?4) " +
+            "ON DUPLICATE KEY UPDATE order_count = order_count + VALUES(order_count), " +
+            "total_amount = total_amount + VALUES(total_amount), updated_at = VALUES(updated_at)";
+    
+    // H2 (개발용): 표준 MERGE
+    private static final String MERGE_UPSERT =
+            "MERGE INTO user_order_stats t USING (SELECT CAST(?1 AS BIGINT) AS user_id, CAST(?2 AS BIGINT) AS order_count, " +
+            "CAST(?3 AS DECIMAL(19,2)) AS total_amount, CAST(?4 AS TIMESTAMP) AS updated_at) s " +
+            "ON t.user_id = s.user_id " +
+            "WHEN MATCHED THEN UPDATE SET order_count = t.order_count + s.order_count, " +
+            "total_amount = t.total_amount + s.total_amount, updated_at = s.updated_at " +
+            "WHEN NOT MATCHED THEN INSERT (user_id, order_count, total_amount, updated_at) " +
+            "VALUES (s.user_id, s.order_count, s.total_amount, s.updated_at)";
+    
+    private final EntityManager entityManager;
+    
+    @Override
+    public void upsertDelta(Long userId, long countDelta, BigDecimal amountDelta, LocalDateTime now) {
+        entityManager.createNativeQuery(upsertSql())
+                .setParameter(1, userId)
+                .setParameter(2, countDelta)
+                .setParameter(3, amountDelta)
+                .setParameter(4, now)
+                .executeUpdate();
+    }
+    
+    private String upsertSql() {
+        Dialect dialect = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices()
+                .getDialect();
+        return dialect instanceof MySQLDialect ? MYSQL_UPSERT : MERGE_UPSERT;
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.demo.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 종료 주문 정기 보관 (app.order-archive.cron 이 "-"이면 비활성)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrderArchiveJob {
+    
+    private final OrderArchiveService orderArchiveService;
+    
+    @Scheduled(cron = "${app.order-archive.cron:-}")
+    public void archive() {
+        try {
+            orderArchiveService.archive();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("주문 보관 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.demo.service;
+
+import com.example.demo.config.OrderArchiveProperties;
+import com.example.demo.entity.Order;
+import com.example.demo.repository.OrderArchiveRepository;
+import com.example.demo.repository.OrderRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 종료 상태 주문 보관
+ * 보관 기간이 지난 DELIVERED/CANCELLED 주문을 batchSize 단위로 orders_archive 로 옮긴다.
+ * 배치마다 INSERT ... SELECT 와 DELETE 를 한 트랜잭션에서 실행하고, 배치 사이에는 batchDelay 만큼 쉬어 운영 트래픽에 주는 부하를 제한한다.
+ *
+ * 주문을 옮겨도 주문 수/금액 집계와 상태별 카운터는 보관 주문을 포함한 값 그대로이므로 변경 이벤트는 발행하지 않는다.
+ */
+@Service
+@Slf4j
+public class OrderArchiveService {
+    
+    private static final Set<Order.OrderStatus> TERMINAL_STATUSES =
+            EnumSet.of(Order.OrderStatus.DELIVERED, Order.OrderStatus.CANCELLED);
+    
+    private final OrderRepository orderRepository;
+    private final OrderArchiveRepository orderArchiveRepository;
+    private final OrderArchiveProperties properties;
+    private final TransactionTemplate requiresNewTemplate;
+    private final Counter archived;
+    private final Counter conflicts;
+    
+    public OrderArchiveService(OrderRepository orderRepository,
+                               OrderArchiveRepository orderArchiveRepository,
+                               OrderArchiveProperties properties,
+                               PlatformTransactionManager transactionManager,
+                               MeterRegistry meterRegistry) {
+        this.orderRepository = orderRepository;
+        this.orderArchiveRepository = orderArchiveRepository;
+        this.properties = properties;
+        this.requiresNewTemplate = new TransactionTemplate(transactionManager);
+        this.requiresNewTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        
+        this.archived = Counter.builder("orders.archive.moved")
+                .description("보관 테이블로 옮긴 주문 수")
+                .register(meterRegistry);
+        this.conflicts = Counter.builder("orders.archive.conflicts")
+                .description("복사 후 삭제 건수가 달라 롤백한 배치 수 (다음 실행에서 다시 처리)")
+                .register(meterRegistry);
+    }
+    
+    /**
+     * 보관 기간이 지난 종료 주문 보관 (옮긴 주문 수 반환)
+     * 배치에서 충돌이 나면 해당 배치만 롤백하고 다음 ID부터 계속한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long archive() throws InterruptedException {
+        LocalDateTime cutoff = LocalDateTime.now().minus(properties.getRetention());
+        log.info("주문 보관 시작 - 기준 시각: {}", cutoff);
+        
+        long moved = 0;
+        long afterId = 0L;
+        for (int batch = 0; batch < properties.getMaxBatchesPerRun(); batch++) {
+            List<Long> ids = orderRepository.findArchivableIds(TERMINAL_STATUSES, cutoff, afterId,
+                    Limit.of(properties.getBatchSize()));
+            if (ids.isEmpty()) {
+                break;
+            }
+            afterId = ids.get(ids.size() - 1);
+            
+            try {
+                Integer count = requiresNewTemplate.execute(status -> archiveBatch(ids, cutoff));
+                moved += count;
+                archived.increment(count);
+            } catch (ArchiveConflictException e) {
+                conflicts.increment();
+                log.warn("주문 보관 배치 롤백 - {} (마지막 ID: {})", e.getMessage(), afterId);
+            }
+            log.debug("주문 보관 진행 - {}건 (마지막 ID: {})", moved, afterId);
+            
+            Thread.sleep(properties.getBatchDelay().toMillis());
+        }
+        
+        log.info("주문 보관 완료 - {}건", moved);
+        return moved;
+    }
+    
+    /**
+     * 배치 보관: 조건을 다시 확인하며 복사한 뒤 같은 조건으로 삭제, 두 건수가 다르면 롤백
+     */
+    private int archiveBatch(List<Long> ids, LocalDateTime cutoff) {
+        int copied = orderArchiveRepository.copyFromOrders(ids, TERMINAL_STATUSES, cutoff);
+        int deleted = orderRepository.deleteArchived(ids, TERMINAL_STATUSES, cutoff);
+        if (copied != deleted) {
+            throw new ArchiveConflictException("복사 " + copied + "건, 삭제 " + deleted + "건");
+        }
+        return deleted;
+    }
+    
+    /**
+     * 복사와 삭제 사이에 다른 요청이 주문을 바꿈 (배치 트랜잭션 롤백용)
+     */
+    private static class ArchiveConflictException extends RuntimeException {
+        
+        ArchiveConflictException(String message) {
+            super(message);
+        }
+    }
+}
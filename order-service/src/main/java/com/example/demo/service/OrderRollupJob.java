@@ -0,0 +1,39 @@
+package com.example.demo.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 변경된 주문을 주기적으로 읽어 시계열 집계에 반영하고, 늦게 커밋된 변경을 주기적으로 다시 확인
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(prefix = "app.order-rollup", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class OrderRollupJob {
+    
+    private final OrderRollupService orderRollupService;
+    
+    @Scheduled(fixedDelayString = "${app.order-rollup.poll-interval-ms:5000}")
+    public void catchUp() {
+        try {
+            orderRollupService.catchUp();
+        } catch (Exception e) {
+            log.warn("주문 시계열 집계 반영 실패: {}", e.getMessage());
+        }
+    }
+    
+    // safetyLag보다 늦게 커밋되어 지나간 위치 뒤에 나타난 변경을 반영
+    @Scheduled(fixedDelayString = "${app.order-rollup.reconcile-interval-ms:300000}",
+               initialDelayString = "${app.order-rollup.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        try {
+            orderRollupService.reconcile();
+        } catch (Exception e) {
+            log.warn("주문 시계열 집계 재확인 실패: {}", e.getMessage());
+        }
+    }
+}
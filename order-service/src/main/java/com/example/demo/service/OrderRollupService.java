@@ -0,0 +1,304 @@
+package com.example.demo.service;
+
+import com.example.demo.config.OrderRollupProperties;
+import com.example.demo.dto.OrderAnalyticsResponse;
+import com.example.demo.entity.Order;
+import com.example.demo.entity.OrderRollup;
+import com.example.demo.entity.OrderRollupWatermark;
+import com.example.demo.repository.OrderArchiveRepository;
+import com.example.demo.repository.OrderChangeMark;
+import com.example.demo.repository.OrderRepository;
+import com.example.demo.repository.OrderRollupRepository;
+import com.example.demo.repository.OrderRollupRow;
+import com.example.demo.repository.OrderRollupWatermarkRepository;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * 주문 시계열 집계 (분/시간/일 구간별 상태별 주문 수와 금액)
+ * 주문 생성 시각 구간마다 그 구간에 생성된 주문의 현재 상태별 수/금액을 order_rollup 에 미리 계산해 둔다.
+ *
+ * 집계는 주문 쓰기 트랜잭션이 아니라 별도 작업이 updated_at 위치(watermark)를 따라가며 갱신한다.
+ * 모든 주문 쓰기가 같은 구간 행을 갱신하면 그 행이 잠금 경합 지점이 되기 때문이다.
+ * 변경된 주문이 속한 분 구간은 주문/보관 테이블에서 다시 계산하고(idx_orders_created_at 범위), 시간/일 구간은 하위 구간 집계를 합산한다.
+ * 구간을 통째로 다시 계산하므로 같은 변경을 두 번 반영해도 결과가 같다.
+ *
+ * updated_at은 커밋 전에 애플리케이션 시계로 찍히므로, safetyLag보다 늦게 커밋된 변경은 이미 지나간 위치 뒤에 나타난다.
+ * 이런 변경은 reconcile()이 최근 reconcileWindow 안에 변경된 주문의 구간을 주기적으로 다시 계산해서 반영한다.
+ */
+@Service
+@Slf4j
+@Transactional(readOnly = true)
+public class OrderRollupService {
+    
+    private static final String WATERMARK_NAME = "orders";
+    
+    private final OrderRepository orderRepository;
+    private final OrderArchiveRepository orderArchiveRepository;
+    private final OrderRollupRepository orderRollupRepository;
+    private final OrderRollupWatermarkRepository watermarkRepository;
+    private final EntityManager entityManager;
+    private final OrderRollupProperties properties;
+    private final TransactionTemplate requiresNewTemplate;
+    
+    public OrderRollupService(OrderRepository orderRepository,
+                              OrderArchiveRepository orderArchiveRepository,
+                              OrderRollupRepository orderRollupRepository,
+                              OrderRollupWatermarkRepository watermarkRepository,
+                              EntityManager entityManager,
+                              OrderRollupProperties properties,
+                              PlatformTransactionManager transactionManager) {
+        this.orderRepository = orderRepository;
+        this.orderArchiveRepository = orderArchiveRepository;
+        this.orderRollupRepository = orderRollupRepository;
+        this.watermarkRepository = watermarkRepository;
+        this.entityManager = entityManager;
+        this.properties = properties;
+        this.requiresNewTemplate = new TransactionTemplate(transactionManager);
+        this.requiresNewTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+    
+    /**
+     * 구간별 주문 수/금액 조회 (from, to는 구간 경계로 넓혀서 조회)
+     */
+    public OrderAnalyticsResponse getSeries(OrderRollup.Granularity granularity, LocalDateTime from, LocalDateTime to) {
+        LocalDateTime start = granularity.truncate(from);
+        LocalDateTime end = granularity.truncate(to);
+        if (end.isBefore(to)) {
+            end = granularity.next(end);
+        }
+        if (!start.isBefore(end)) {
+            throw new RuntimeException("조회 시작 시각은 끝 시각보다 이전이어야 합니다");
+        }
+        long bucketCount = granularity.between(start, end);
+        if (bucketCount > properties.getMaxBuckets()) {
+            throw new RuntimeException("조회 구간이 너무 많습니다 (" + bucketCount + "개, 최대 "
+                    + properties.getMaxBuckets() + "개). 더 큰 단위를 사용하세요");
+        }
+        
+        Map<LocalDateTime, OrderAnalyticsResponse.Bucket> buckets = new LinkedHashMap<>();
+        for (OrderRollupRow row : orderRollupRepository.findRows(granularity, start, end)) {
+            OrderAnalyticsResponse.Bucket bucket = buckets.computeIfAbsent(row.bucketStart(), bucketStart ->
+                    OrderAnalyticsResponse.Bucket.builder()
+                            .bucketStart(bucketStart)
+                            .countByStatus(new EnumMap<>(Order.OrderStatus.class))
+                            .revenue(BigDecimal.ZERO)
+                            .build());
+            bucket.setOrderCount(bucket.getOrderCount() + row.orderCount());
+            bucket.getCountByStatus().put(row.status(), row.orderCount());
+            if (row.status() != Order.OrderStatus.CANCELLED) {
+                bucket.setRevenue(bucket.getRevenue().add(row.amount()));
+            }
+        }
+        
+        return OrderAnalyticsResponse.builder()
+                .granularity(granularity)
+                .from(start)
+                .to(end)
+                .buckets(new ArrayList<>(buckets.values()))
+                .build();
+    }
+    
+    /**
+     * 밀린 주문 변경을 배치 단위로 반영 (반영한 변경 주문 수 반환)
+     * 배치마다 별도 트랜잭션에서 watermark 행을 잠그므로 여러 인스턴스가 실행해도 한 번에 하나만 반영한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long catchUp() {
+        ensureWatermark();
+        
+        long processed = 0;
+        while (true) {
+            Integer count = requiresNewTemplate.execute(status -> applyBatch());
+            processed += count;
+            if (count < properties.getBatchSize()) {
+                break;
+            }
+        }
+        if (processed > 0) {
+            log.debug("주문 시계열 집계 반영 - 변경 주문 {}건", processed);
+        }
+        return processed;
+    }
+    
+    /**
+     * 최근 reconcileWindow 안에 변경된 주문의 구간을 다시 계산 (다시 확인한 변경 주문 수 반환)
+     * catchUp이 이미 지나간 위치보다 앞선 updated_at으로 늦게 커밋된 변경을 반영한다.
+     * 이미 반영한 위치까지만 읽고, 배치마다 watermark 행을 잠가 catchUp과 번갈아 실행된다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long reconcile() {
+        LocalDateTime afterUpdatedAt = LocalDateTime.now().minus(properties.getReconcileWindow());
+        long afterId = 0L;
+        long processed = 0;
+        while (true) {
+            LocalDateTime fromUpdatedAt = afterUpdatedAt;
+            long fromId = afterId;
+            List<OrderChangeMark> marks = requiresNewTemplate.execute(status -> reconcileBatch(fromUpdatedAt, fromId));
+            if (marks.isEmpty()) {
+                break;
+            }
+            processed += marks.size();
+            OrderChangeMark last = marks.get(marks.size() - 1);
+            afterUpdatedAt = last.updatedAt();
+            afterId = last.id();
+            if (marks.size() < properties.getBatchSize()) {
+                break;
+            }
+        }
+        if (processed > 0) {
+            log.debug("주문 시계열 집계 재확인 - 변경 주문 {}건", processed);
+        }
+        return processed;
+    }
+    
+    private List<OrderChangeMark> reconcileBatch(LocalDateTime afterUpdatedAt, long afterId) {
+        OrderRollupWatermark watermark = watermarkRepository.findForUpdate(WATERMARK_NAME).orElse(null);
+        if (watermark == null || watermark.getLastUpdatedAt() == null) {
+            return List.of();
+        }
+        
+        List<OrderChangeMark> marks = orderRepository.findChangedAfter(afterUpdatedAt, afterId,
+                watermark.getLastUpdatedAt(), Limit.of(properties.getBatchSize()));
+        if (!marks.isEmpty()) {
+            recompute(marks);
+        }
+        return marks;
+    }
+    
+    private int applyBatch() {
+        OrderRollupWatermark watermark = watermarkRepository.findForUpdate(WATERMARK_NAME)
+                .orElseThrow(() -> new IllegalStateException("주문 시계열 집계 위치가 없습니다"));
+        
+        // 커밋이 늦는 트랜잭션의 변경을 건너뛰지 않도록 safetyLag 이전 변경까지만 읽는다
+        LocalDateTime upTo = LocalDateTime.now().minus(properties.getSafetyLag());
+        // 시작 위치가 비어 있으면 (최초 실행) 처음부터 읽는다
+        List<OrderChangeMark> marks = watermark.getLastUpdatedAt() == null
+                ? orderRepository.findChangedUpTo(upTo, Limit.of(properties.getBatchSize()))
+                : orderRepository.findChangedAfter(watermark.getLastUpdatedAt(), watermark.getLastOrderId(), upTo,
+                        Limit.of(properties.getBatchSize()));
+        if (marks.isEmpty()) {
+            return 0;
+        }
+        
+        recompute(marks);
+        
+        OrderChangeMark last = marks.get(marks.size() - 1);
+        watermark.setLastUpdatedAt(last.updatedAt());
+        watermark.setLastOrderId(last.id());
+        return marks.size();
+    }
+    
+    /**
+     * 주문이 속한 분 구간을 다시 계산하고, 이어서 해당 시간/일 구간을 하위 구간 합으로 다시 계산
+     */
+    private void recompute(Collection<OrderChangeMark> marks) {
+        TreeSet<LocalDateTime> minutes = marks.stream()
+                .map(OrderChangeMark::createdAt)
+                .filter(Objects::nonNull)
+                .map(OrderRollup.Granularity.MINUTE::truncate)
+                .collect(Collectors.toCollection(TreeSet::new));
+        for (LocalDateTime minute : minutes) {
+            LocalDateTime next = OrderRollup.Granularity.MINUTE.next(minute);
+            List<Object[]> rows = new ArrayList<>(orderRepository.sumByStatusCreatedBetween(minute, next));
+            rows.addAll(orderArchiveRepository.sumByStatusCreatedBetween(minute, next));
+            replaceBucket(OrderRollup.Granularity.MINUTE, minute, rows);
+        }
+        
+        TreeSet<LocalDateTime> hours = rollUp(minutes, OrderRollup.Granularity.MINUTE, OrderRollup.Granularity.HOUR);
+        rollUp(hours, OrderRollup.Granularity.HOUR, OrderRollup.Granularity.DAY);
+    }
+    
+    /**
+     * 하위 구간이 바뀐 상위 구간을 하위 구간 합계로 다시 계산 (다시 계산한 상위 구간 반환)
+     */
+    private TreeSet<LocalDateTime> rollUp(TreeSet<LocalDateTime> changed, OrderRollup.Granularity source,
+                                          OrderRollup.Granularity target) {
+        TreeSet<LocalDateTime> buckets = changed.stream()
+                .map(target::truncate)
+                .collect(Collectors.toCollection(TreeSet::new));
+        for (LocalDateTime bucket : buckets) {
+            replaceBucket(target, bucket, orderRollupRepository.sumByStatus(source, bucket, target.next(bucket)));
+        }
+        return buckets;
+    }
+    
+    /**
+     * 구간 집계 교체 - rows: [status, count, amount] (같은 상태가 여러 번 나오면 합산)
+     */
+    private void replaceBucket(OrderRollup.Granularity granularity, LocalDateTime bucketStart, List<Object[]> rows) {
+        orderRollupRepository.deleteBucket(granularity, bucketStart);
+        
+        Map<Order.OrderStatus, OrderRollup> merged = new EnumMap<>(Order.OrderStatus.class);
+        for (Object[] row : rows) {
+            Order.OrderStatus status = (Order.OrderStatus) row[0];
+            long count = ((Number) row[1]).longValue();
+            BigDecimal amount = row[2] != null ? (BigDecimal) row[2] : BigDecimal.ZERO;
+            OrderRollup rollup = merged.computeIfAbsent(status, key -> OrderRollup.builder()
+                    .granularity(granularity)
+                    .bucketStart(bucketStart)
+                    .status(key)
+                    .amount(BigDecimal.ZERO)
+                    .build());
+            rollup.setOrderCount(rollup.getOrderCount() + count);
+            rollup.setAmount(rollup.getAmount().add(amount));
+        }
+        merged.values().forEach(entityManager::persist);
+    }
+    
+    /**
+     * 최초 실행이면 watermark 행을 만들고 보관 주문 구간을 채운다 (별도 트랜잭션)
+     * 시작 위치는 비워 두고 (처음부터), 첫 배치를 반영할 때 실제 주문의 updated_at으로 채운다.
+     * 이미 보관된 주문은 updated_at 위치로 찾을 수 없으므로 이때 한 번만 ID 순으로 훑는다.
+     * 동시에 다른 인스턴스가 만들었으면 PK 충돌로 롤백되고 그쪽 결과를 쓴다.
+     */
+    private void ensureWatermark() {
+        if (watermarkRepository.existsById(WATERMARK_NAME)) {
+            return;
+        }
+        try {
+            requiresNewTemplate.executeWithoutResult(status -> {
+                watermarkRepository.saveAndFlush(OrderRollupWatermark.builder()
+                        .name(WATERMARK_NAME)
+                        .lastOrderId(0L)
+                        .build());
+                
+                long afterId = 0L;
+                List<OrderChangeMark> marks;
+                do {
+                    marks = orderArchiveRepository.findMarksAfter(afterId, Limit.of(properties.getBatchSize()));
+                    if (!marks.isEmpty()) {
+                        recompute(marks);
+                        afterId = marks.get(marks.size() - 1).id();
+                        // 다음 배치가 같은 시간/일 구간을 다시 만들 수 있으므로 반영 후 영속성 컨텍스트를 비운다
+                        entityManager.flush();
+                        entityManager.clear();
+                    }
+                } while (marks.size() >= properties.getBatchSize());
+            });
+            log.info("주문 시계열 집계 위치 생성");
+        } catch (DataIntegrityViolationException e) {
+            log.debug("주문 시계열 집계 위치가 이미 생성됨");
+        }
+    }
+}
@@ -1,18 +1,49 @@
 package com.example.demo.service;
 
-import com.example.demo.client.UserServiceClient;
+import com.example.demo.dto.BulkOrderRequest;
+import com.example.demo.dto.BulkOrderResponse;
+import com.example.demo.dto.CursorPageResponse;
 import com.example.demo.dto.OrderRequest;
 import com.example.demo.dto.OrderResponse;
-import com.example.demo.dto.UserResponse;
+import com.example.demo.dto.OrderSearchCondition;
 import com.example.demo.entity.Order;
+import com.example.demo.entity.OrderArchive;
+import com.example.demo.event.OrderChangeEvent;
+import com.example.demo.event.OrderSnapshot;
+import com.example.demo.exception.ArchivedOrderException;
+import com.example.demo.exception.ResourceNotFoundException;
+import com.example.demo.repository.OrderArchiveRepository;
 import com.example.demo.repository.OrderRepository;
+import com.example.demo.repository.OrderStatusRow;
+import com.example.demo.repository.OrderSpecifications;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -20,49 +51,161 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class OrderService {
     
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int EXPORT_FLUSH_INTERVAL = 500;
+    
     private final OrderRepository orderRepository;
-    private final UserServiceClient userServiceClient;
+    private final OrderArchiveRepository orderArchiveRepository;
+    private final UserValidationService userValidationService;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final UserOrderStatsService userOrderStatsService;
+    private final OrderStatusCounter orderStatusCounter;
+    private final ProductNameIndex productNameIndex;
+    private final ApplicationEventPublisher eventPublisher;
     
     /**
-     * 모든 주문 조회
+     * 주문 목록 조회 (ID 기반 커서 페이지네이션, ID 내림차순, 보관 주문 포함)
+     * ID는 pooled-lo 방식으로 인스턴스마다 50개씩 미리 받아 쓰므로 여러 인스턴스에서 생성된 주문의 ID 순서는 생성 시각 순서와 다를 수 있다.
+     * 따라서 정렬은 대략적인 최신순이며, 커서가 ID 하나라 페이지 사이에 빠지거나 겹치는 주문은 없다.
+     * 보관 주문은 orders에서 받은 ID를 그대로 쓰므로 두 테이블을 같은 조건/커서로 조회해서 ID 순으로 합친다.
      */
-    public List<OrderResponse> getAllOrders() {
-        log.info("모든 주문 조회 요청");
-        return orderRepository.findAll()
-                .stream()
-                .map(this::convertToResponseDto)
-                .collect(Collectors.toList());
+    public CursorPageResponse<OrderResponse> getOrders(OrderSearchCondition condition, Long cursor, Integer size) {
+        log.info("주문 목록 조회 요청 - 조건: {}, 커서: {}, 크기: {}", condition, cursor, size);
+        
+        int pageSize = resolvePageSize(size);
+        Specification<Order> spec = Specification.allOf(toSpecifications(condition, cursor));
+        Specification<OrderArchive> archiveSpec = Specification.allOf(toSpecifications(condition, cursor));
+        
+        // 다음 페이지 존재 여부 확인을 위해 테이블마다 한 건 더 조회 (COUNT 쿼리 없음, DTO로 바로 조회)
+        // 두 테이블을 같은 읽기 트랜잭션에서 읽으므로 MySQL(REPEATABLE READ)에서는 조회 중 보관된 주문도 한 번만 나온다
+        List<OrderResponse> hot = orderRepository.findResponses(spec, pageSize + 1);
+        List<OrderResponse> archived = orderRepository.findArchivedResponses(archiveSpec, pageSize + 1);
+        List<OrderResponse> orders = archived.isEmpty() ? hot : Stream.concat(hot.stream(), archived.stream())
+                .sorted(Comparator.comparing(OrderResponse::getId).reversed())
+                .limit(pageSize + 1)
+                .toList();
+        
+        boolean hasNext = orders.size() > pageSize;
+        List<OrderResponse> content = hasNext ? orders.subList(0, pageSize) : orders;
+        
+        return CursorPageResponse.<OrderResponse>builder()
+                .content(content)
+                .size(content.size())
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? content.get(content.size() - 1).getId() : null)
+                .build();
     }
     
     /**
-     * ID로 주문 조회
+     * 상품명 검색 (메모리 색인으로 ID 페이지를 구한 뒤 해당 주문만 조회, ID 내림차순 커서 페이지네이션)
+     * 색인은 커밋 직후 갱신되므로 결과 주문의 현재 값이 검색 조건과 잠깐 어긋날 수 있다.
+     */
+    public CursorPageResponse<OrderResponse> searchOrders(String query, Order.OrderStatus status, Long userId,
+                                                          Long cursor, Integer size) {
+        log.info("상품명 검색 요청 - 검색어: {}, 상태: {}, 사용자 ID: {}, 커서: {}, 크기: {}", query, status, userId, cursor, size);
+        
+        int pageSize = resolvePageSize(size);
+        List<Long> ids = productNameIndex.search(query, status, userId, cursor, pageSize + 1);
+        boolean hasNext = ids.size() > pageSize;
+        List<Long> pageIds = hasNext ? ids.subList(0, pageSize) : ids;
+        
+        // 보관으로 옮겨진 주문은 보관 테이블에서 조회
+        Map<Long, OrderResponse> found = new HashMap<>();
+        if (!pageIds.isEmpty()) {
+            orderRepository.findResponsesByIds(pageIds).forEach(order -> found.put(order.getId(), order));
+        }
+        List<Long> missing = pageIds.stream().filter(id -> !found.containsKey(id)).toList();
+        if (!missing.isEmpty()) {
+            orderArchiveRepository.findResponsesByIds(missing).forEach(order -> found.put(order.getId(), order));
+        }
+        List<OrderResponse> content = pageIds.stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .toList();
+        
+        return CursorPageResponse.<OrderResponse>builder()
+                .content(content)
+                .size(content.size())
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? pageIds.get(pageIds.size() - 1) : null)
+                .build();
+    }
+    
+    /**
+     * 전체 주문 내보내기 (NDJSON 스트리밍, orders 다음에 orders_archive)
+     * 한 행씩 읽어 바로 출력하고 영속성 컨텍스트에서 분리하므로 테이블 크기와 무관하게 힙 사용량이 일정하다.
+     * 두 테이블을 같은 읽기 트랜잭션에서 읽으므로 MySQL(REPEATABLE READ)에서는 내보내는 중 보관된 주문도 한 번만 나온다.
+     */
+    public void exportOrders(OutputStream outputStream) throws IOException {
+        log.info("주문 내보내기 요청");
+        
+        ObjectWriter writer = objectMapper.writerFor(OrderResponse.class);
+        long count = 0;
+        try (Stream<Order> orders = orderRepository.streamAll()) {
+            Iterator<Order> iterator = orders.iterator();
+            while (iterator.hasNext()) {
+                Order order = iterator.next();
+                count = writeExportLine(outputStream, writer, convertToResponseDto(order), count);
+                entityManager.detach(order);
+            }
+        }
+        long hotCount = count;
+        try (Stream<OrderResponse> archived = orderArchiveRepository.streamAllResponses()) {
+            Iterator<OrderResponse> iterator = archived.iterator();
+            while (iterator.hasNext()) {
+                count = writeExportLine(outputStream, writer, iterator.next(), count);
+            }
+        }
+        outputStream.flush();
+        
+        log.info("주문 내보내기 완료 - {}건 (보관 주문 {}건 포함)", count, count - hotCount);
+    }
+    
+    /**
+     * 내보내기 한 줄 출력 후 누적 건수 반환 (첫 행은 바로 내보내고 이후에는 일정 건수마다 flush)
+     */
+    private long writeExportLine(OutputStream outputStream, ObjectWriter writer, OrderResponse order, long count)
+            throws IOException {
+        outputStream.write(writer.writeValueAsBytes(order));
+        outputStream.write('\n');
+        
+        count++;
+        if (count == 1 || count % EXPORT_FLUSH_INTERVAL == 0) {
+            outputStream.flush();
+        }
+        return count;
+    }
+    
+    /**
+     * ID로 주문 조회 (orders에 없으면 보관 주문 조회)
      */
     public OrderResponse getOrderById(Long id) {
         log.info("주문 조회 요청 - ID: {}", id);
-        Order order = orderRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("주문을 찾을 수 없습니다. ID: " + id));
-        return convertToResponseDto(order);
+        return orderRepository.findResponseById(id)
+                .or(() -> orderArchiveRepository.findResponseById(id))
+                .orElseThrow(() -> new ResourceNotFoundException("주문을 찾을 수 없습니다. ID: " + id));
     }
     
     /**
-     * 사용자 ID로 주문 목록 조회
+     * 사용자 ID로 주문 목록 조회 (보관 주문 포함, ID 순)
      */
     public List<OrderResponse> getOrdersByUserId(Long userId) {
         log.info("사용자 주문 목록 조회 요청 - 사용자 ID: {}", userId);
         
         // 사용자 존재 여부 확인
-        try {
-            UserResponse user = userServiceClient.getUserById(userId);
-            log.info("사용자 확인 완료 - 사용자 ID: {}, 이름: {}", userId, user.getName());
-        } catch (Exception e) {
-            log.error("사용자 서비스 호출 실패 - 사용자 ID: {}, 오류: {}", userId, e.getMessage());
-            throw new RuntimeException("사용자를 찾을 수 없습니다. ID: " + userId);
-        }
+        userValidationService.requireExistingUser(userId);
         
-        return orderRepository.findByUserId(userId)
-                .stream()
-                .map(this::convertToResponseDto)
-                .collect(Collectors.toList());
+        List<OrderResponse> archived = orderArchiveRepository.findResponsesByUserId(userId);
+        List<OrderResponse> orders = orderRepository.findResponsesByUserId(userId);
+        if (archived.isEmpty()) {
+            return orders;
+        }
+        return Stream.concat(archived.stream(), orders.stream())
+                .sorted(Comparator.comparing(OrderResponse::getId))
+                .toList();
     }
     
     /**
@@ -72,50 +215,105 @@ public class OrderService {
     public OrderResponse createOrder(OrderRequest requestDto) {
         log.info("주문 생성 요청 - 사용자 ID: {}, 상품명: {}", requestDto.getUserId(), requestDto.getProductName());
         
-        // 사용자 존재 여부 확인
-        try {
-            UserResponse user = userServiceClient.getUserById(requestDto.getUserId());
-            log.info("사용자 확인 완료 - 사용자 ID: {}, 이름: {}", requestDto.getUserId(), user.getName());
-        } catch (Exception e) {
-            log.error("사용자 서비스 호출 실패 - 사용자 ID: {}, 오류: {}", requestDto.getUserId(), e.getMessage());
-            throw new RuntimeException("사용자를 찾을 수 없습니다. ID: " + requestDto.getUserId());
-        }
-        
-        Order order = Order.builder()
-                .userId(requestDto.getUserId())
-                .productName(requestDto.getProductName())
-                .quantity(requestDto.getQuantity())
-                .price(requestDto.getPrice())
-                .status(requestDto.getStatus() != null ? requestDto.getStatus() : Order.OrderStatus.PENDING)
-                .build();
+        // 사용자 확인 (존재 + ACTIVE)
+        userValidationService.requireActiveUser(requestDto.getUserId());
         
-        Order savedOrder = orderRepository.save(order);
+        // ID는 미리 할당되어 insert가 커밋까지 미뤄지므로, 바로 flush해서 생성/수정 시각이 채워진 뒤 응답과 이벤트를 만든다
+        Order savedOrder = orderRepository.saveAndFlush(toEntity(requestDto));
+        eventPublisher.publishEvent(OrderChangeEvent.created(OrderSnapshot.of(savedOrder)));
         log.info("주문 생성 완료 - ID: {}", savedOrder.getId());
         
         return convertToResponseDto(savedOrder);
     }
     
     /**
-     * 주문 정보 수정
+     * 주문 일괄 생성
+     * 항목 검증과 사용자 검증을 한 번에 처리한 뒤 유효한 주문만 JDBC 배치 insert로 저장하고 항목별 결과를 반환한다.
+     */
+    @Transactional
+    public BulkOrderResponse createOrders(BulkOrderRequest requestDto) {
+        List<OrderRequest> items = requestDto.getOrders();
+        log.info("주문 일괄 생성 요청 - {}건", items.size());
+        
+        BulkOrderResponse.ItemResult[] results = new BulkOrderResponse.ItemResult[items.size()];
+        
+        // 항목별 유효성 검증
+        Set<Long> userIds = new HashSet<>();
+        for (int i = 0; i < items.size(); i++) {
+            String error = validateItem(items.get(i));
+            if (error != null) {
+                results[i] = failedItem(i, error);
+            } else {
+                userIds.add(items.get(i).getUserId());
+            }
+        }
+        
+        // 사용자 일괄 검증
+        Set<Long> activeUserIds = userValidationService.findActiveUserIds(userIds);
+        
+        List<Order> orders = new ArrayList<>();
+        List<Integer> orderIndexes = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            if (results[i] != null) {
+                continue;
+            }
+            OrderRequest item = items.get(i);
+            if (!activeUserIds.contains(item.getUserId())) {
+                results[i] = failedItem(i, "사용자를 찾을 수 없거나 활성 상태가 아닙니다. ID: " + item.getUserId());
+                continue;
+            }
+            orders.add(toEntity(item));
+            orderIndexes.add(i);
+        }
+        
+        // 일괄 저장 (ID는 미리 할당되므로 flush 시 batch_size 단위로 묶여 insert)
+        List<Order> savedOrders = orderRepository.saveAll(orders);
+        orderRepository.flush();
+        if (!savedOrders.isEmpty()) {
+            eventPublisher.publishEvent(new OrderChangeEvent(savedOrders.stream()
+                    .map(order -> new OrderChangeEvent.OrderChange(null, OrderSnapshot.of(order)))
+                    .toList()));
+        }
+        for (int j = 0; j < savedOrders.size(); j++) {
+            int index = orderIndexes.get(j);
+            results[index] = BulkOrderResponse.ItemResult.builder()
+                    .index(index)
+                    .success(true)
+                    .orderId(savedOrders.get(j).getId())
+                    .build();
+        }
+        
+        log.info("주문 일괄 생성 완료 - 성공: {}건, 실패: {}건", savedOrders.size(), items.size() - savedOrders.size());
+        
+        return BulkOrderResponse.builder()
+                .requested(items.size())
+                .succeeded(savedOrders.size())
+                .failed(items.size() - savedOrders.size())
+                .results(List.of(results))
+                .build();
+    }
+    
+    /**
+     * 주문 정보 수정 (보관 주문은 409)
      */
     @Transactional
     public OrderResponse updateOrder(Long id, OrderRequest requestDto) {
         log.info("주문 수정 요청 - ID: {}", id);
         
         Order order = orderRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("주문을 찾을 수 없습니다. ID: " + id));
+                .orElseThrow(() -> {
+                    if (orderArchiveRepository.existsById(id)) {
+                        return archivedOrderException(id);
+                    }
+                    return new ResourceNotFoundException("주문을 찾을 수 없습니다. ID: " + id);
+                });
         
-        // 사용자 존재 여부 확인 (사용자 ID가 변경된 경우)
+        // 사용자 확인 (사용자 ID가 변경된 경우)
         if (!order.getUserId().equals(requestDto.getUserId())) {
-            try {
-                UserResponse user = userServiceClient.getUserById(requestDto.getUserId());
-                log.info("사용자 확인 완료 - 사용자 ID: {}, 이름: {}", requestDto.getUserId(), user.getName());
-            } catch (Exception e) {
-                log.error("사용자 서비스 호출 실패 - 사용자 ID: {}, 오류: {}", requestDto.getUserId(), e.getMessage());
-                throw new RuntimeException("사용자를 찾을 수 없습니다. ID: " + requestDto.getUserId());
-            }
+            userValidationService.requireActiveUser(requestDto.getUserId());
         }
         
+        OrderSnapshot before = OrderSnapshot.of(order);
         order.setUserId(requestDto.getUserId());
         order.setProductName(requestDto.getProductName());
         order.setQuantity(requestDto.getQuantity());
@@ -125,73 +323,166 @@ public class OrderService {
         }
         
         Order updatedOrder = orderRepository.save(order);
+        eventPublisher.publishEvent(OrderChangeEvent.changed(before, OrderSnapshot.of(updatedOrder)));
         log.info("주문 수정 완료 - ID: {}", updatedOrder.getId());
         
         return convertToResponseDto(updatedOrder);
     }
     
     /**
-     * 주문 상태 변경
+     * 주문 상태 변경 (보관 주문은 이미 같은 상태면 그대로 반환, 아니면 409)
      */
     @Transactional
     public OrderResponse updateOrderStatus(Long id, Order.OrderStatus status) {
         log.info("주문 상태 변경 요청 - ID: {}, 상태: {}", id, status);
         
-        Order order = orderRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("주문을 찾을 수 없습니다. ID: " + id));
-        
-        order.setStatus(status);
-        Order updatedOrder = orderRepository.save(order);
-        log.info("주문 상태 변경 완료 - ID: {}, 상태: {}", updatedOrder.getId(), updatedOrder.getStatus());
+        OrderResponse order = changeStatus(id, status);
+        log.info("주문 상태 변경 완료 - ID: {}, 상태: {}", order.getId(), order.getStatus());
         
-        return convertToResponseDto(updatedOrder);
+        return order;
     }
     
     /**
-     * 주문 삭제 (소프트 삭제)
+     * 주문 삭제 (소프트 삭제, 이미 취소된 보관 주문은 변경 없음)
      */
     @Transactional
     public void deleteOrder(Long id) {
         log.info("주문 삭제 요청 - ID: {}", id);
         
-        Order order = orderRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("주문을 찾을 수 없습니다. ID: " + id));
-        
-        order.setStatus(Order.OrderStatus.CANCELLED);
-        orderRepository.save(order);
+        changeStatus(id, Order.OrderStatus.CANCELLED);
         
         log.info("주문 삭제 완료 - ID: {}", id);
     }
     
     /**
-     * 상태별 주문 수 조회
+     * 상태별 주문 수 조회 (메모리 카운터)
      */
     public long getOrderCountByStatus(Order.OrderStatus status) {
         log.info("상태별 주문 수 조회 요청 - 상태: {}", status);
-        return orderRepository.countByStatus(status);
+        return orderStatusCounter.getCount(status);
     }
     
     /**
-     * 사용자별 주문 수 조회
+     * 사용자별 주문 수 조회 (user_order_stats PK 조회)
      */
     public long getOrderCountByUserId(Long userId) {
         log.info("사용자별 주문 수 조회 요청 - 사용자 ID: {}", userId);
-        return orderRepository.countByUserId(userId);
+        return userOrderStatsService.getOrderCount(userId);
     }
     
     /**
-     * 사용자별 총 주문 금액 조회
+     * 사용자별 총 주문 금액 조회 (user_order_stats PK 조회, 취소 주문 제외)
      */
-    public Double getTotalAmountByUserId(Long userId) {
+    public BigDecimal getTotalAmountByUserId(Long userId) {
         log.info("사용자별 총 주문 금액 조회 요청 - 사용자 ID: {}", userId);
-        Double totalAmount = orderRepository.getTotalAmountByUserId(userId);
-        return totalAmount != null ? totalAmount : 0.0;
+        return userOrderStatsService.getTotalAmount(userId);
+    }
+    
+    /**
+     * 조건부 UPDATE 한 번으로 상태 변경 후 변경 직후 상태 조회
+     * 변경된 행이 없으면 조회 결과로 주문 없음(404)과 이미 같은 상태(변경 없음)를 구분한다.
+     * orders에 없으면 보관 주문을 확인해서, 이미 같은 상태면 변경 없음으로 그대로 반환하고 다른 상태로는 바꿀 수 없으므로 409로 응답한다.
+     */
+    private OrderResponse changeStatus(Long id, Order.OrderStatus status) {
+        int updated = orderRepository.updateStatusIfChanged(id, status, LocalDateTime.now());
+        Optional<OrderStatusRow> found = orderRepository.findStatusRowById(id);
+        if (found.isEmpty()) {
+            OrderResponse archived = orderArchiveRepository.findResponseById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("주문을 찾을 수 없습니다. ID: " + id));
+            if (archived.getStatus() != status) {
+                throw archivedOrderException(id);
+            }
+            log.debug("보관 주문 상태 변경 없음 - ID: {}, 이미 {} 상태", id, status);
+            return archived;
+        }
+        OrderStatusRow row = found.get();
+        if (updated == 0) {
+            log.debug("주문 상태 변경 없음 - ID: {}, 이미 {} 상태", id, status);
+            return row.toResponse();
+        }
+        eventPublisher.publishEvent(OrderChangeEvent.changed(row.before(), row.after()));
+        return row.toResponse();
+    }
+    
+    private ArchivedOrderException archivedOrderException(Long id) {
+        return new ArchivedOrderException("보관된 주문은 변경할 수 없습니다 (조회만 가능). ID: " + id);
+    }
+    
+    /**
+     * 일괄 생성 항목 유효성 검증 (오류가 없으면 null)
+     */
+    private String validateItem(OrderRequest item) {
+        if (item == null) {
+            return "주문 정보가 비어 있습니다";
+        }
+        Set<ConstraintViolation<OrderRequest>> violations = validator.validate(item);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+    
+    private BulkOrderResponse.ItemResult failedItem(int index, String error) {
+        return BulkOrderResponse.ItemResult.builder()
+                .index(index)
+                .success(false)
+                .error(error)
+                .build();
+    }
+    
+    /**
+     * RequestDto를 Entity로 변환
+     */
+    private Order toEntity(OrderRequest requestDto) {
+        return Order.builder()
+                .userId(requestDto.getUserId())
+                .productName(requestDto.getProductName())
+                .quantity(requestDto.getQuantity())
+                .price(requestDto.getPrice())
+                .status(requestDto.getStatus() != null ? requestDto.getStatus() : Order.OrderStatus.PENDING)
+                .build();
+    }
+    
+    /**
+     * 조회 조건을 Specification 목록으로 변환 (값이 있는 조건만 포함, 주문/보관 주문 공용)
+     */
+    private <T> List<Specification<T>> toSpecifications(OrderSearchCondition condition, Long cursor) {
+        List<Specification<T>> specs = new ArrayList<>();
+        if (cursor != null) {
+            specs.add(OrderSpecifications.idLessThan(cursor));
+        }
+        if (condition.getUserId() != null) {
+            specs.add(OrderSpecifications.hasUserId(condition.getUserId()));
+        }
+        if (condition.getStatus() != null) {
+            specs.add(OrderSpecifications.hasStatus(condition.getStatus()));
+        }
+        if (condition.getCreatedFrom() != null) {
+            specs.add(OrderSpecifications.createdAtFrom(condition.getCreatedFrom()));
+        }
+        if (condition.getCreatedTo() != null) {
+            specs.add(OrderSpecifications.createdAtBefore(condition.getCreatedTo()));
+        }
+        return specs;
+    }
+    
+    /**
+     * 페이지 크기 보정 (1 ~ MAX_PAGE_SIZE)
+     */
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
     }
     
     /**
-     * Entity를 ResponseDto로 변환
+     * Entity를 ResponseDto로 변환 (JMH 벤치마크에서 직접 호출하므로 package-private)
      */
-    private OrderResponse convertToResponseDto(Order order) {
+    static OrderResponse convertToResponseDto(Order order) {
         return OrderResponse.builder()
                 .id(order.getId())
                 .userId(order.getUserId())
@@ -0,0 +1,203 @@
+package com.example.demo.service;
+
+import com.example.demo.config.OrderStatusBulkProperties;
+import com.example.demo.dto.BulkStatusChangeRequest;
+import com.example.demo.dto.BulkStatusChangeResponse;
+import com.example.demo.entity.Order;
+import com.example.demo.event.OrderChangeEvent;
+import com.example.demo.event.OrderSnapshot;
+import com.example.demo.exception.BulkStatusConflictException;
+import com.example.demo.repository.OrderRepository;
+import com.example.demo.repository.OrderSpecifications;
+import com.example.demo.repository.OrderStatusRow;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * 주문 상태 일괄 변경
+ * 대상 주문을 chunkSize 단위로 끊어 청크마다 별도 트랜잭션에서 처리하므로 긴 트랜잭션이나 큰 잠금 범위를 만들지 않는다.
+ *
+ * 청크마다 상태를 프로젝션으로 잠가 읽고 (SELECT ... FOR UPDATE), 허용된 변경 전 상태별로 UPDATE ... WHERE id IN (...) AND status = ? 를 실행한다.
+ * 허용 여부는 WHERE 조건으로 DB가 판단하고, 읽은 상태는 변경 이벤트의 변경 전 값과 건너뛴 수를 계산하는 데만 쓴다.
+ * 읽은 행은 잠겨 있으므로 다른 요청의 변경이 서로 상쇄되어 건수는 같은데 다른 행이 바뀌는 일은 없다.
+ * 그래도 UPDATE 건수가 예상과 다르면 (잠금 조회 후 새로 생긴 행 등) 청크를 롤백하고 다시 시도한다.
+ * maxAttempts까지 충돌하면 남은 청크는 처리하지 않고 409와 함께 이미 커밋된 청크의 결과를 돌려준다.
+ */
+@Service
+@Slf4j
+public class OrderStatusBulkService {
+    
+    private final OrderRepository orderRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OrderStatusBulkProperties properties;
+    private final TransactionTemplate requiresNewTemplate;
+    
+    public OrderStatusBulkService(OrderRepository orderRepository,
+                                  ApplicationEventPublisher eventPublisher,
+                                  OrderStatusBulkProperties properties,
+                                  PlatformTransactionManager transactionManager) {
+        this.orderRepository = orderRepository;
+        this.eventPublisher = eventPublisher;
+        this.properties = properties;
+        this.requiresNewTemplate = new TransactionTemplate(transactionManager);
+        this.requiresNewTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+    
+    /**
+     * 주문 상태 일괄 변경 (ID 목록 또는 userId/currentStatus 조건)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BulkStatusChangeResponse changeStatus(BulkStatusChangeRequest requestDto) {
+        boolean hasIds = requestDto.getIds() != null && !requestDto.getIds().isEmpty();
+        boolean hasFilter = requestDto.getUserId() != null || requestDto.getCurrentStatus() != null;
+        if (hasIds == hasFilter) {
+            throw new RuntimeException("주문 ID 목록과 사용자 ID/현재 상태 조건 중 하나만 지정해야 합니다");
+        }
+        
+        Order.OrderStatus target = requestDto.getTargetStatus();
+        log.info("주문 상태 일괄 변경 요청 - 대상 상태: {}, ID {}건, 사용자 ID: {}, 현재 상태: {}", target,
+                hasIds ? requestDto.getIds().size() : 0, requestDto.getUserId(), requestDto.getCurrentStatus());
+        
+        Summary summary = new Summary();
+        try {
+            if (hasIds) {
+                List<Long> ids = List.copyOf(new LinkedHashSet<>(requestDto.getIds()));
+                for (int from = 0; from < ids.size(); from += properties.getChunkSize()) {
+                    List<Long> chunk = ids.subList(from, Math.min(from + properties.getChunkSize(), ids.size()));
+                    summary.add(changeChunk(chunk, target));
+                }
+            } else {
+                // 조건에 맞는 주문 ID를 keyset으로 chunkSize씩 읽으며 처리 (상태가 바뀌어도 ID 커서는 그대로 유효)
+                Long cursor = null;
+                while (true) {
+                    List<Long> chunk = orderRepository.findIds(
+                            filterSpecification(requestDto.getUserId(), requestDto.getCurrentStatus(), cursor),
+                            properties.getChunkSize());
+                    if (chunk.isEmpty()) {
+                        break;
+                    }
+                    summary.add(changeChunk(chunk, target));
+                    cursor = chunk.get(chunk.size() - 1);
+                }
+            }
+        } catch (ChunkConflictException e) {
+            log.warn("주문 상태 일괄 변경 중단 - 대상 상태: {}, 커밋된 변경: {}건, 충돌: {}", target, summary.updated, e.getMessage());
+            throw new BulkStatusConflictException("다른 요청과 충돌해 주문 상태 일괄 변경을 중단했습니다 (앞선 "
+                    + summary.requested + "건은 반영됨). 잠시 후 남은 주문을 다시 요청하세요", summary.toResponse(target), e);
+        }
+        
+        log.info("주문 상태 일괄 변경 완료 - 대상 상태: {}, 변경: {}건, 건너뜀: {}건, 없음: {}건",
+                target, summary.updated, summary.skipped, summary.notFound);
+        
+        return summary.toResponse(target);
+    }
+    
+    /**
+     * 청크 하나를 별도 트랜잭션에서 변경 (UPDATE 건수가 읽은 상태와 어긋나면 maxAttempts까지 다시 시도)
+     * 마지막 시도까지 충돌하면 ChunkConflictException을 그대로 던진다 (이 청크는 롤백됨).
+     */
+    private ChunkResult changeChunk(List<Long> ids, Order.OrderStatus target) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return requiresNewTemplate.execute(status -> applyChunk(ids, target));
+            } catch (ChunkConflictException e) {
+                if (attempt >= properties.getMaxAttempts()) {
+                    throw e;
+                }
+                log.debug("주문 상태 일괄 변경 충돌 - {} (재시도 {}/{})", e.getMessage(), attempt, properties.getMaxAttempts());
+            }
+        }
+    }
+    
+    private ChunkResult applyChunk(List<Long> ids, Order.OrderStatus target) {
+        List<OrderStatusRow> rows = orderRepository.findStatusRowsForUpdate(ids);
+        
+        LocalDateTime now = LocalDateTime.now();
+        List<OrderChangeEvent.OrderChange> changes = new ArrayList<>();
+        for (Order.OrderStatus from : target.allowedFrom()) {
+            List<OrderStatusRow> expected = rows.stream()
+                    .filter(row -> row.status() == from)
+                    .toList();
+            int updated = orderRepository.updateStatusByIdsFrom(ids, from, target, now);
+            if (updated != expected.size()) {
+                throw new ChunkConflictException(from + " 상태 예상 " + expected.size() + "건, 변경 " + updated + "건");
+            }
+            for (OrderStatusRow row : expected) {
+                OrderSnapshot before = row.after();
+                changes.add(new OrderChangeEvent.OrderChange(before, before.toBuilder().status(target).build()));
+            }
+        }
+        if (!changes.isEmpty()) {
+            eventPublisher.publishEvent(new OrderChangeEvent(changes));
+        }
+        
+        return new ChunkResult(ids.size(), changes.size(), rows.size() - changes.size(), ids.size() - rows.size());
+    }
+    
+    private Specification<Order> filterSpecification(Long userId, Order.OrderStatus currentStatus, Long cursor) {
+        List<Specification<Order>> specs = new ArrayList<>();
+        if (cursor != null) {
+            specs.add(OrderSpecifications.idLessThan(cursor));
+        }
+        if (userId != null) {
+            specs.add(OrderSpecifications.hasUserId(userId));
+        }
+        if (currentStatus != null) {
+            specs.add(OrderSpecifications.hasStatus(currentStatus));
+        }
+        return Specification.allOf(specs);
+    }
+    
+    private record ChunkResult(long requested, long updated, long skipped, long notFound) {
+    }
+    
+    /**
+     * 청크 전체 결과 합계
+     */
+    private static class Summary {
+        
+        private long requested;
+        private long updated;
+        private long skipped;
+        private long notFound;
+        
+        void add(ChunkResult result) {
+            requested += result.requested();
+            updated += result.updated();
+            skipped += result.skipped();
+            notFound += result.notFound();
+        }
+        
+        BulkStatusChangeResponse toResponse(Order.OrderStatus target) {
+            return BulkStatusChangeResponse.builder()
+                    .targetStatus(target)
+                    .requested(requested)
+                    .updated(updated)
+                    .skipped(skipped)
+                    .notFound(notFound)
+                    .build();
+        }
+    }
+    
+    /**
+     * 읽은 상태와 UPDATE 건수가 어긋남 (청크 트랜잭션 롤백용)
+     */
+    private static class ChunkConflictException extends RuntimeException {
+        
+        ChunkConflictException(String message) {
+            super(message);
+        }
+    }
+}
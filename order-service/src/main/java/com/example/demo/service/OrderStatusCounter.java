@@ -0,0 +1,169 @@
+package com.example.demo.service;
+
+import com.example.demo.entity.Order;
+import com.example.demo.event.OrderChangeEvent;
+import com.example.demo.repository.OrderArchiveRepository;
+import com.example.demo.repository.OrderRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 상태별 주문 수 메모리 카운터
+ * 시작 시 DB로 초기화하고 커밋된 주문 변경만 반영하므로, 상태별 주문 수 조회가 DB를 거치지 않는다.
+ * 주기적으로 DB와 비교해 차이(drift)를 지표로 남기고 그 차이를 바로 반영한다.
+ * 이벤트는 자기 인스턴스의 커밋만 받으므로 여러 인스턴스로 실행하면 다른 인스턴스의 변경은 보정으로만 반영된다.
+ * 따라서 조회 값의 오차는 대략 보정 주기 동안의 다른 인스턴스 변경 수와 보정 시점에 반영 중이던 커밋 수로 제한된다.
+ * 보관 테이블로 옮긴 주문도 포함해서 센다.
+ */
+@Component
+@Slf4j
+public class OrderStatusCounter {
+    
+    // 보정 중 카운터가 계속 바뀌면 이번 회차는 건너뛴다
+    private static final int MAX_SNAPSHOT_ATTEMPTS = 3;
+    
+    private final OrderRepository orderRepository;
+    private final OrderArchiveRepository orderArchiveRepository;
+    private final Map<Order.OrderStatus, LongAdder> counters = new EnumMap<>(Order.OrderStatus.class);
+    private final Map<Order.OrderStatus, AtomicLong> drifts = new EnumMap<>(Order.OrderStatus.class);
+    private volatile boolean initialized;
+    
+    public OrderStatusCounter(OrderRepository orderRepository, OrderArchiveRepository orderArchiveRepository,
+                              MeterRegistry meterRegistry) {
+        this.orderRepository = orderRepository;
+        this.orderArchiveRepository = orderArchiveRepository;
+        for (Order.OrderStatus status : Order.OrderStatus.values()) {
+            LongAdder counter = new LongAdder();
+            AtomicLong drift = new AtomicLong();
+            counters.put(status, counter);
+            drifts.put(status, drift);
+            
+            Gauge.builder("orders.status.count", counter, LongAdder::sum)
+                    .description("메모리 카운터 기준 상태별 주문 수")
+                    .tag("status", status.name())
+                    .register(meterRegistry);
+            Gauge.builder("orders.status.count.drift", drift, AtomicLong::get)
+                    .description("마지막 보정 시 DB와 메모리 카운터의 차이 (DB - 메모리)")
+                    .tag("status", status.name())
+                    .register(meterRegistry);
+        }
+    }
+    
+    /**
+     * 상태별 주문 수 조회 (초기화 전에는 DB 조회)
+     */
+    public long getCount(Order.OrderStatus status) {
+        if (!initialized) {
+            return orderRepository.countByStatus(status) + orderArchiveRepository.countByStatus(status);
+        }
+        return counters.get(status).sum();
+    }
+    
+    /**
+     * 시작 시 DB 값으로 초기화
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        Map<Order.OrderStatus, Long> snapshot = null;
+        for (int attempt = 0; attempt < MAX_SNAPSHOT_ATTEMPTS && snapshot == null; attempt++) {
+            snapshot = snapshotDrift();
+        }
+        if (snapshot == null) {
+            // 변경이 계속 들어오는 중이면 마지막 값으로 초기화하고 다음 보정에 맡긴다
+            snapshot = computeDrift();
+        }
+        snapshot.forEach((status, drift) -> counters.get(status).add(drift));
+        initialized = true;
+        log.info("상태별 주문 카운터 초기화 완료 - {}", currentCounts());
+    }
+    
+    /**
+     * 커밋된 주문 변경 반영 (롤백된 변경은 반영하지 않음)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onOrderChange(OrderChangeEvent event) {
+        for (OrderChangeEvent.OrderChange change : event.getChanges()) {
+            Order.OrderStatus before = change.getBefore() != null ? change.getBefore().getStatus() : null;
+            Order.OrderStatus after = change.getAfter() != null ? change.getAfter().getStatus() : null;
+            if (before == after) {
+                continue;
+            }
+            if (before != null) {
+                counters.get(before).decrement();
+            }
+            if (after != null) {
+                counters.get(after).increment();
+            }
+        }
+    }
+    
+    /**
+     * DB와 비교해 차이를 기록하고 바로 보정
+     * 차이는 DB 조회 전후로 카운터가 그대로인 스냅샷에서만 계산하므로 이 인스턴스에서 반영 중인 변경과 섞이지 않는다.
+     * 커밋됐지만 아직 이벤트를 반영하지 않은 변경이 있으면 잠시 이중으로 셀 수 있지만 다음 회차에 다시 맞춰진다.
+     */
+    @Scheduled(fixedDelayString = "${app.status-counter.reconcile-interval-ms:60000}",
+               initialDelayString = "${app.status-counter.reconcile-interval-ms:60000}")
+    public void reconcile() {
+        if (!initialized) {
+            return;
+        }
+        try {
+            Map<Order.OrderStatus, Long> current = snapshotDrift();
+            if (current == null) {
+                log.debug("상태별 주문 카운터 보정 건너뜀 - 진행 중인 변경 있음");
+                return;
+            }
+            current.forEach((status, drift) -> {
+                drifts.get(status).set(drift);
+                if (drift != 0) {
+                    counters.get(status).add(drift);
+                    log.debug("상태별 주문 카운터 보정 - 상태: {}, 차이: {}", status, drift);
+                }
+            });
+        } catch (Exception e) {
+            log.warn("상태별 주문 카운터 보정 실패: {}", e.getMessage());
+        }
+    }
+    
+    /**
+     * DB 조회 전후로 카운터가 그대로일 때만 차이를 반환 (바뀌었으면 null)
+     */
+    private Map<Order.OrderStatus, Long> snapshotDrift() {
+        Map<Order.OrderStatus, Long> before = currentCounts();
+        Map<Order.OrderStatus, Long> drift = computeDrift();
+        return before.equals(currentCounts()) ? drift : null;
+    }
+    
+    private Map<Order.OrderStatus, Long> computeDrift() {
+        Map<Order.OrderStatus, Long> dbCounts = new EnumMap<>(Order.OrderStatus.class);
+        for (Object[] row : orderRepository.countGroupByStatus()) {
+            dbCounts.merge((Order.OrderStatus) row[0], (Long) row[1], Long::sum);
+        }
+        // 보관 작업이 두 조회 사이에 주문을 옮기면 일시적으로 차이가 생기지만 다음 회차 보정에서 다시 맞춰진다
+        for (Object[] row : orderArchiveRepository.countGroupByStatus()) {
+            dbCounts.merge((Order.OrderStatus) row[0], (Long) row[1], Long::sum);
+        }
+        Map<Order.OrderStatus, Long> drift = new EnumMap<>(Order.OrderStatus.class);
+        counters.forEach((status, counter) -> drift.put(status, dbCounts.getOrDefault(status, 0L) - counter.sum()));
+        return drift;
+    }
+    
+    private Map<Order.OrderStatus, Long> currentCounts() {
+        Map<Order.OrderStatus, Long> counts = new EnumMap<>(Order.OrderStatus.class);
+        counters.forEach((status, counter) -> counts.put(status, counter.sum()));
+        return counts;
+    }
+}
@@ -0,0 +1,234 @@
+package com.example.demo.service;
+
+import com.example.demo.config.OrderStatusWriteBehindProperties;
+import com.example.demo.entity.Order;
+import com.example.demo.event.OrderChangeEvent;
+import com.example.demo.event.OrderSnapshot;
+import com.example.demo.exception.QueueFullException;
+import com.example.demo.repository.OrderRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 상태 변경 write-behind
+ * 상태 변경을 제한된 크기의 큐에 넣고 전용 스레드가 모아서 대상 상태별 UPDATE ... WHERE id IN (...) 한 번으로 반영한다.
+ * 같은 주문의 변경이 한 배치에 여러 번 있으면 마지막 상태만 반영하고, 변경 이벤트는 배치 단위로 한 번 발행한다.
+ *
+ * 큐가 가득 차면 요청 스레드는 offerTimeout 동안 기다린 뒤 503을 받는다.
+ * 종료 시에는 새 변경을 받지 않고 큐에 남은 변경을 모두 반영한 뒤 멈춘다 (웹 서버가 요청 처리를 끝낸 다음, DB 연결 종료 전).
+ * 큐에만 있는 변경은 프로세스가 강제 종료되면 유실된다.
+ */
+@Component
+@Slf4j
+public class OrderStatusWriteBehind implements SmartLifecycle {
+    
+    // 웹 서버(graceful shutdown 포함)보다 먼저 시작하고 나중에 종료
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+    
+    private final OrderRepository orderRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OrderStatusWriteBehindProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<StatusChange> queue;
+    
+    private final Timer flushTimer;
+    private final DistributionSummary batchSize;
+    private final Counter rejected;
+    private final Counter missing;
+    private final Counter failed;
+    
+    private volatile boolean accepting;
+    private volatile boolean running;
+    private Thread flusher;
+    
+    public OrderStatusWriteBehind(OrderRepository orderRepository,
+                                  ApplicationEventPublisher eventPublisher,
+                                  OrderStatusWriteBehindProperties properties,
+                                  PlatformTransactionManager transactionManager,
+                                  MeterRegistry meterRegistry) {
+        this.orderRepository = orderRepository;
+        this.eventPublisher = eventPublisher;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        
+        this.flushTimer = Timer.builder("orders.status.write-behind.flush")
+                .description("상태 변경 배치 반영 시간 (잠금 조회 + 상태별 UPDATE + 커밋)")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("orders.status.write-behind.batch.size")
+                .description("배치당 반영한 주문 수 (중복 제거 후)")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("orders.status.write-behind.rejected")
+                .description("큐가 가득 차서 거절된 상태 변경 수")
+                .register(meterRegistry);
+        this.missing = Counter.builder("orders.status.write-behind.missing")
+                .description("반영 시점에 주문이 없어 무시된 상태 변경 수")
+                .register(meterRegistry);
+        this.failed = Counter.builder("orders.status.write-behind.failed")
+                .description("반영 중 오류로 유실된 상태 변경 수")
+                .register(meterRegistry);
+        Gauge.builder("orders.status.write-behind.queue.size", queue, BlockingQueue::size)
+                .description("반영 대기 중인 상태 변경 수")
+                .register(meterRegistry);
+    }
+    
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+    
+    /**
+     * 상태 변경 등록 (큐가 가득 차면 offerTimeout 동안 대기 후 QueueFullException)
+     * 주문 존재 여부는 반영 시점에 확인하므로 없는 주문이어도 예외가 발생하지 않는다.
+     */
+    public void submit(Long id, Order.OrderStatus status) {
+        if (!accepting) {
+            throw new QueueFullException("주문 상태 변경을 받을 수 없습니다 (종료 중)");
+        }
+        boolean offered;
+        try {
+            offered = queue.offer(new StatusChange(id, status), properties.getOfferTimeout().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            offered = false;
+        }
+        if (!offered) {
+            rejected.increment();
+            throw new QueueFullException("주문 상태 변경 요청이 밀려 있습니다. 잠시 후 다시 시도하세요");
+        }
+    }
+    
+    @Override
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        accepting = true;
+        running = true;
+        flusher = Thread.ofPlatform()
+                .name("order-status-write-behind")
+                .start(this::runFlusher);
+        log.info("주문 상태 write-behind 시작 - 큐: {}, 배치: {}, 간격: {}",
+                properties.getQueueCapacity(), properties.getFlushSize(), properties.getFlushInterval());
+    }
+    
+    @Override
+    public void stop() {
+        accepting = false;
+        running = false;
+        try {
+            flusher.join(properties.getShutdownTimeout().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (flusher.isAlive() || !queue.isEmpty()) {
+            log.error("주문 상태 write-behind 종료 시간 초과 - 반영하지 못한 변경: {}건", queue.size());
+        } else {
+            log.info("주문 상태 write-behind 종료 - 남은 변경 반영 완료");
+        }
+    }
+    
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+    
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+    
+    /**
+     * 첫 변경 이후 flushInterval 안에 들어온 변경을 flushSize까지 모아 반영 (종료 요청 후에는 큐가 빌 때까지 계속)
+     */
+    private void runFlusher() {
+        long intervalNanos = properties.getFlushInterval().toNanos();
+        List<StatusChange> batch = new ArrayList<>(properties.getFlushSize());
+        while (running || !queue.isEmpty()) {
+            try {
+                StatusChange first = queue.poll(intervalNanos, TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + intervalNanos;
+                while (batch.size() < properties.getFlushSize()) {
+                    queue.drainTo(batch, properties.getFlushSize() - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= properties.getFlushSize() || remaining <= 0 || !running) {
+                        break;
+                    }
+                    StatusChange next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                failed.increment(batch.size());
+                log.error("주문 상태 일괄 반영 실패 - {}건", batch.size(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+    
+    private void flush(List<StatusChange> batch) {
+        // 주문별 마지막 상태만 반영
+        Map<Long, Order.OrderStatus> latest = new LinkedHashMap<>();
+        for (StatusChange change : batch) {
+            latest.put(change.orderId(), change.status());
+        }
+        flushTimer.record(() -> transactionTemplate.executeWithoutResult(status -> apply(latest)));
+        batchSize.record(latest.size());
+    }
+    
+    private void apply(Map<Long, Order.OrderStatus> latest) {
+        List<Order> orders = orderRepository.findAllForUpdate(latest.keySet());
+        missing.increment(latest.size() - orders.size());
+        
+        Map<Order.OrderStatus, List<Long>> idsByStatus = new EnumMap<>(Order.OrderStatus.class);
+        List<OrderChangeEvent.OrderChange> changes = new ArrayList<>();
+        for (Order order : orders) {
+            Order.OrderStatus target = latest.get(order.getId());
+            if (order.getStatus() == target) {
+                continue;
+            }
+            OrderSnapshot before = OrderSnapshot.of(order);
+            changes.add(new OrderChangeEvent.OrderChange(before, before.toBuilder().status(target).build()));
+            idsByStatus.computeIfAbsent(target, key -> new ArrayList<>()).add(order.getId());
+        }
+        
+        LocalDateTime now = LocalDateTime.now();
+        idsByStatus.forEach((status, ids) -> orderRepository.updateStatusByIds(ids, status, now));
+        if (!changes.isEmpty()) {
+            eventPublisher.publishEvent(new OrderChangeEvent(changes));
+        }
+    }
+    
+    private record StatusChange(Long orderId, Order.OrderStatus status) {
+    }
+}
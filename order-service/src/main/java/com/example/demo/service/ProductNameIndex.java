@@ -0,0 +1,459 @@
+package com.example.demo.service;
+
+import com.example.demo.config.OrderSearchProperties;
+import com.example.demo.entity.Order;
+import com.example.demo.event.OrderChangeEvent;
+import com.example.demo.event.OrderSnapshot;
+import com.example.demo.exception.ServiceUnavailableException;
+import com.example.demo.repository.OrderArchiveRepository;
+import com.example.demo.repository.OrderRepository;
+import com.example.demo.repository.OrderSearchRow;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * 주문 상품명 검색 색인 (메모리 역색인)
+ * 상품명을 소문자 토큰으로 나눠 토큰 -> 주문 ID 집합(RoaringBitmap)으로 들고, 정렬된 맵이라 접두사 검색도 범위 조회로 처리한다.
+ * 상태/사용자 조건도 같은 ID 집합으로 들고 있어 검색은 비트맵 교집합만으로 끝나고, DB는 결과 페이지의 주문만 읽는다.
+ *
+ * 시작 시 주문/보관 테이블을 스트리밍해서 만들고, 이후에는 커밋된 주문 변경 이벤트가 가리키는 주문을 다시 읽어 갱신한다.
+ * AFTER_COMMIT 리스너는 커밋 순서와 다르게 실행될 수 있으므로 이벤트의 변경 전/후 값을 그대로 적용하지 않는다.
+ * 대신 주문마다 마지막으로 반영한 값(사용자, 상품명, 상태, updatedAt)을 들고 있다가 그보다 오래된 값은 무시한다.
+ * 적재 중에 커밋된 변경은 주문 ID만 모아 두었다가 적재가 끝난 뒤 다시 읽어 반영한다.
+ * 적재 후 다시 읽기에 실패한 주문 ID도 같은 곳에 모아 두고, 다음 변경 반영이나 주기적인 재시도 때 함께 다시 읽는다.
+ * 주문 ID는 int 범위를 가정한다 (RoaringBitmap은 32비트 정수 집합).
+ */
+@Component
+@Slf4j
+public class ProductNameIndex {
+    
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    
+    private final OrderRepository orderRepository;
+    private final OrderArchiveRepository orderArchiveRepository;
+    private final OrderSearchProperties properties;
+    private final TransactionTemplate readTemplate;
+    private final Timer searchTimer;
+    private final Counter refreshFailures;
+    
+    // 아래 필드는 모두 lock으로 보호
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final NavigableMap<String, RoaringBitmap> postings = new TreeMap<>();
+    private final Map<Order.OrderStatus, RoaringBitmap> statusPostings = new EnumMap<>(Order.OrderStatus.class);
+    private final Map<Long, RoaringBitmap> userPostings = new HashMap<>();
+    private final Map<Integer, Document> documents = new HashMap<>();
+    // 다시 읽어야 할 주문 ID (적재 중에 커밋된 변경, 적재 후 다시 읽기에 실패한 변경)
+    private final Set<Long> pending = new HashSet<>();
+    private volatile boolean ready;
+    
+    public ProductNameIndex(OrderRepository orderRepository,
+                            OrderArchiveRepository orderArchiveRepository,
+                            OrderSearchProperties properties,
+                            PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry) {
+        this.orderRepository = orderRepository;
+        this.orderArchiveRepository = orderArchiveRepository;
+        this.properties = properties;
+        // 커밋 직후 리스너에서도 최신 값을 읽도록 항상 새 읽기 전용 트랜잭션에서 조회
+        this.readTemplate = new TransactionTemplate(transactionManager);
+        this.readTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readTemplate.setReadOnly(true);
+        for (Order.OrderStatus status : Order.OrderStatus.values()) {
+            statusPostings.put(status, new RoaringBitmap());
+        }
+        
+        this.searchTimer = Timer.builder("orders.search.latency")
+                .description("상품명 검색 색인 조회 시간 (결과 주문 조회 제외)")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("orders.search.index.memory", this, ProductNameIndex::memoryBytes)
+                .description("색인 ID 집합(토큰/상태/사용자) 직렬화 크기")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("orders.search.index.terms", this, index -> index.read(() -> (long) index.postings.size()))
+                .description("색인어 수")
+                .register(meterRegistry);
+        Gauge.builder("orders.search.index.documents", this, ProductNameIndex::documentCount)
+                .description("색인된 주문 수")
+                .register(meterRegistry);
+        this.refreshFailures = Counter.builder("orders.search.refresh.failures")
+                .description("주문 변경을 색인에 반영하지 못한 횟수 (해당 주문은 재시도 대기)")
+                .register(meterRegistry);
+        Gauge.builder("orders.search.refresh.pending", this, index -> index.read(() -> (long) index.pending.size()))
+                .description("다시 읽기를 기다리는 주문 수")
+                .register(meterRegistry);
+    }
+    
+    /**
+     * 시작 시 주문/보관 테이블을 스트리밍해서 색인 생성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (!properties.isEnabled()) {
+            log.info("상품명 검색 색인 비활성");
+            return;
+        }
+        long started = System.nanoTime();
+        readTemplate.executeWithoutResult(status -> {
+            try (Stream<OrderSearchRow> rows = orderRepository.streamSearchRows()) {
+                rows.forEach(this::load);
+            }
+            try (Stream<OrderSearchRow> rows = orderArchiveRepository.streamSearchRows()) {
+                rows.forEach(this::load);
+            }
+        });
+        
+        // 적재 중에 커밋된 주문을 다시 읽어 반영 (반영하는 동안 들어온 변경이 없을 때 검색을 연다)
+        // 다시 읽기에 실패하면 해당 주문은 pending에 남겨 두고 검색을 연다 (다음 변경 반영이나 retryPending이 다시 읽는다)
+        int replayed = 0;
+        while (true) {
+            Set<Long> ids = write(() -> {
+                if (pending.isEmpty()) {
+                    open();
+                    return null;
+                }
+                Set<Long> copy = new HashSet<>(pending);
+                pending.clear();
+                return copy;
+            });
+            if (ids == null) {
+                break;
+            }
+            if (!refreshOrRetryLater(ids)) {
+                write(() -> {
+                    open();
+                    return null;
+                });
+                break;
+            }
+            replayed += ids.size();
+        }
+        
+        log.info("상품명 검색 색인 생성 완료 - 주문: {}건, 색인어: {}개, 메모리: {}KB, 적재 중 변경 {}건 반영, {}ms",
+                documentCount(), read(postings::size), memoryBytes() / 1024, replayed,
+                (System.nanoTime() - started) / 1_000_000);
+    }
+    
+    /**
+     * 커밋된 주문 변경 반영 - 변경된 주문을 다시 읽어 갱신 (적재 중이면 ID만 모아 두었다가 적재 후 반영)
+     * 이전에 실패해서 재시도를 기다리던 주문도 함께 다시 읽는다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onOrderChange(OrderChangeEvent event) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        Set<Long> ids = new LinkedHashSet<>();
+        for (OrderChangeEvent.OrderChange change : event.getChanges()) {
+            OrderSnapshot snapshot = change.getAfter() != null ? change.getAfter() : change.getBefore();
+            ids.add(snapshot.getId());
+        }
+        boolean deferred = write(() -> {
+            if (ready) {
+                ids.addAll(pending);
+                pending.clear();
+                return false;
+            }
+            pending.addAll(ids);
+            return true;
+        });
+        if (!deferred) {
+            refreshOrRetryLater(ids);
+        }
+    }
+    
+    /**
+     * 다시 읽기에 실패한 주문 재시도 (변경이 뜸해서 다음 변경 반영을 기다리기 어려운 경우)
+     */
+    @Scheduled(fixedDelayString = "${app.order-search.retry-interval-ms:5000}",
+               initialDelayString = "${app.order-search.retry-interval-ms:5000}")
+    public void retryPending() {
+        if (!ready) {
+            return;
+        }
+        Set<Long> ids = write(() -> {
+            Set<Long> copy = new HashSet<>(pending);
+            pending.clear();
+            return copy;
+        });
+        if (!ids.isEmpty()) {
+            refreshOrRetryLater(ids);
+        }
+    }
+    
+    /**
+     * 다시 읽어 반영하고, 실패하면 주문 ID를 pending에 되돌려 다음 변경 반영이나 재시도 때 다시 읽는다 (성공 여부 반환)
+     * 이미 커밋된 요청이나 시작 과정을 실패로 만들지 않도록 예외는 밖으로 던지지 않는다.
+     */
+    private boolean refreshOrRetryLater(Set<Long> ids) {
+        try {
+            refresh(ids);
+            return true;
+        } catch (RuntimeException e) {
+            refreshFailures.increment();
+            write(() -> pending.addAll(ids));
+            log.error("상품명 검색 색인 갱신 실패 - 주문 ID: {} (재시도 대기)", ids, e);
+            return false;
+        }
+    }
+    
+    /**
+     * ID 집합을 압축하고 검색을 연다 (쓰기 잠금 안에서 호출)
+     */
+    private void open() {
+        postings.values().forEach(RoaringBitmap::runOptimize);
+        statusPostings.values().forEach(RoaringBitmap::runOptimize);
+        userPostings.values().forEach(RoaringBitmap::runOptimize);
+        ready = true;
+    }
+    
+    /**
+     * 상품명 검색 (토큰마다 접두사 일치, 모든 토큰을 만족하는 주문 ID를 내림차순으로 최대 limit개)
+     *
+     * @param cursor 이전 페이지 마지막 ID (이 ID보다 작은 주문만)
+     */
+    public List<Long> search(String query, Order.OrderStatus status, Long userId, Long cursor, int limit) {
+        if (!ready) {
+            throw new ServiceUnavailableException(properties.isEnabled()
+                    ? "상품명 검색 색인을 만드는 중입니다. 잠시 후 다시 시도하세요"
+                    : "상품명 검색이 비활성 상태입니다");
+        }
+        Set<String> tokens = tokenize(query);
+        if (tokens.isEmpty()) {
+            throw new RuntimeException("검색어에 글자나 숫자가 있어야 합니다");
+        }
+        
+        return searchTimer.record(() -> read(() -> {
+            RoaringBitmap result = null;
+            for (String token : tokens) {
+                RoaringBitmap matches = prefixUnion(token);
+                result = result == null ? matches : RoaringBitmap.and(result, matches);
+            }
+            if (status != null) {
+                result.and(statusPostings.get(status));
+            }
+            if (userId != null) {
+                result.and(userPostings.getOrDefault(userId, new RoaringBitmap()));
+            }
+            if (cursor != null) {
+                result.remove(cursor, 1L << 32);
+            }
+            
+            List<Long> ids = new ArrayList<>(limit);
+            IntIterator iterator = result.getReverseIntIterator();
+            while (iterator.hasNext() && ids.size() < limit) {
+                ids.add((long) iterator.next());
+            }
+            return ids;
+        }));
+    }
+    
+    /**
+     * 접두사가 token인 모든 색인어의 ID 합집합
+     */
+    private RoaringBitmap prefixUnion(String token) {
+        List<RoaringBitmap> matches = new ArrayList<>();
+        for (Map.Entry<String, RoaringBitmap> entry : postings.tailMap(token, true).entrySet()) {
+            if (!entry.getKey().startsWith(token)) {
+                break;
+            }
+            if (matches.size() >= properties.getMaxPrefixExpansions()) {
+                throw new RuntimeException("검색어 '" + token + "'에 해당하는 색인어가 너무 많습니다. 더 길게 입력하세요");
+            }
+            matches.add(entry.getValue());
+        }
+        return RoaringBitmap.or(matches.iterator());
+    }
+    
+    private void load(OrderSearchRow row) {
+        write(() -> {
+            upsert(row);
+            return null;
+        });
+    }
+    
+    /**
+     * 주문을 주문/보관 테이블에서 다시 읽어 반영 (조회는 잠금 밖, 반영만 쓰기 잠금 안에서)
+     * 보관 작업이 주문을 옮기는 중이어도 놓치지 않도록 주문 테이블을 먼저 읽고 없는 ID만 보관 테이블에서 읽는다.
+     */
+    private void refresh(Set<Long> ids) {
+        Map<Long, OrderSearchRow> rows = readTemplate.execute(status -> {
+            Map<Long, OrderSearchRow> found = new HashMap<>();
+            orderRepository.findSearchRowsByIds(ids).forEach(row -> found.put(row.id(), row));
+            Set<Long> missing = new HashSet<>(ids);
+            missing.removeAll(found.keySet());
+            if (!missing.isEmpty()) {
+                orderArchiveRepository.findSearchRowsByIds(missing).forEach(row -> found.put(row.id(), row));
+            }
+            return found;
+        });
+        write(() -> {
+            for (Long id : ids) {
+                OrderSearchRow row = rows.get(id);
+                if (row != null) {
+                    upsert(row);
+                } else {
+                    Document removed = documents.remove(toDocId(id));
+                    if (removed != null) {
+                        remove(toDocId(id), removed);
+                    }
+                }
+            }
+            return null;
+        });
+    }
+    
+    /**
+     * 행의 값으로 주문 색인 교체 (이미 반영한 값보다 오래된 행이면 무시)
+     */
+    private void upsert(OrderSearchRow row) {
+        int docId = toDocId(row.id());
+        Document current = documents.get(docId);
+        if (current != null && isOlder(row.updatedAt(), current.updatedAt())) {
+            log.debug("상품명 검색 색인 갱신 무시 - 주문 ID: {}, 이전 값 ({} < {})", row.id(), row.updatedAt(), current.updatedAt());
+            return;
+        }
+        Document document = new Document(row.userId(), row.productName(), row.status(), row.updatedAt());
+        if (current != null) {
+            remove(docId, current);
+        }
+        add(docId, document);
+        documents.put(docId, document);
+    }
+    
+    private void add(int docId, Document document) {
+        for (String token : tokenize(document.productName())) {
+            postings.computeIfAbsent(token, key -> new RoaringBitmap()).add(docId);
+        }
+        statusPostings.get(document.status()).add(docId);
+        userPostings.computeIfAbsent(document.userId(), key -> new RoaringBitmap()).add(docId);
+    }
+    
+    private void remove(int docId, Document document) {
+        for (String token : tokenize(document.productName())) {
+            RoaringBitmap ids = postings.get(token);
+            if (ids != null) {
+                ids.remove(docId);
+                if (ids.isEmpty()) {
+                    postings.remove(token);
+                }
+            }
+        }
+        statusPostings.get(document.status()).remove(docId);
+        RoaringBitmap ids = userPostings.get(document.userId());
+        if (ids != null) {
+            ids.remove(docId);
+            if (ids.isEmpty()) {
+                userPostings.remove(document.userId());
+            }
+        }
+    }
+    
+    private long memoryBytes() {
+        return read(() -> {
+            long bytes = 0;
+            for (RoaringBitmap ids : postings.values()) {
+                bytes += ids.getLongSizeInBytes();
+            }
+            for (RoaringBitmap ids : statusPostings.values()) {
+                bytes += ids.getLongSizeInBytes();
+            }
+            for (RoaringBitmap ids : userPostings.values()) {
+                bytes += ids.getLongSizeInBytes();
+            }
+            return bytes;
+        });
+    }
+    
+    private long documentCount() {
+        return read(() -> statusPostings.values().stream()
+                .mapToLong(RoaringBitmap::getLongCardinality)
+                .sum());
+    }
+    
+    private <T> T read(Supplier<T> action) {
+        lock.readLock().lock();
+        try {
+            return action.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    private <T> T write(Supplier<T> action) {
+        lock.writeLock().lock();
+        try {
+            return action.get();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * 소문자 변환 후 글자/숫자가 아닌 문자로 분리 (중복 제거, 입력 순서 유지)
+     */
+    static Set<String> tokenize(String text) {
+        if (text == null) {
+            return Collections.emptySet();
+        }
+        Set<String> tokens = new LinkedHashSet<>();
+        Arrays.stream(TOKEN_SEPARATOR.split(text.toLowerCase(Locale.ROOT)))
+                .filter(token -> !token.isEmpty())
+                .forEach(tokens::add);
+        return tokens;
+    }
+    
+    private static int toDocId(Long id) {
+        return Math.toIntExact(id);
+    }
+    
+    /**
+     * updatedAt이 없는 행(이전 데이터)은 값이 있는 행보다 오래된 것으로 본다
+     */
+    private static boolean isOlder(LocalDateTime updatedAt, LocalDateTime current) {
+        if (current == null) {
+            return false;
+        }
+        return updatedAt == null || updatedAt.isBefore(current);
+    }
+    
+    /**
+     * 주문마다 마지막으로 색인에 반영한 값 (다음 갱신 때 이전 색인어를 지우고 오래된 값을 거르는 데 사용)
+     */
+    private record Document(Long userId, String productName, Order.OrderStatus status, LocalDateTime updatedAt) {
+    }
+}
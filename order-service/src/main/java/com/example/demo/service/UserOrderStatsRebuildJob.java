@@ -0,0 +1,26 @@
+package com.example.demo.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자별 주문 집계 정기 재구축 (app.order-stats.rebuild-cron 이 "-"이면 비활성)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UserOrderStatsRebuildJob {
+    
+    private final UserOrderStatsService userOrderStatsService;
+    
+    @Scheduled(cron = "${app.order-stats.rebuild-cron:-}")
+    public void rebuild() {
+        try {
+            userOrderStatsService.rebuild();
+        } catch (Exception e) {
+            log.warn("사용자별 주문 집계 재구축 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.example.demo.service;
+
+import com.example.demo.config.OrderStatsProperties;
+import com.example.demo.entity.Order;
+import com.example.demo.entity.UserOrderStats;
+import com.example.demo.event.OrderChangeEvent;
+import com.example.demo.event.OrderSnapshot;
+import com.example.demo.repository.OrderArchiveRepository;
+import com.example.demo.repository.OrderRepository;
+import com.example.demo.repository.UserOrderStatsRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자별 주문 집계 관리
+ * 주문 변경 이벤트를 받아 같은 트랜잭션에서 증감하고, 필요하면 주문 테이블로부터 배치 단위로 재구축한다.
+ * 보관 테이블로 옮긴 주문도 집계에 포함한다.
+ */
+@Service
+@Slf4j
+@Transactional(readOnly = true)
+public class UserOrderStatsService {
+    
+    private final UserOrderStatsRepository userOrderStatsRepository;
+    private final OrderRepository orderRepository;
+    private final OrderArchiveRepository orderArchiveRepository;
+    private final OrderStatsProperties properties;
+    private final TransactionTemplate requiresNewTemplate;
+    
+    public UserOrderStatsService(UserOrderStatsRepository userOrderStatsRepository,
+                                 OrderRepository orderRepository,
+                                 OrderArchiveRepository orderArchiveRepository,
+                                 OrderStatsProperties properties,
+                                 PlatformTransactionManager transactionManager) {
+        this.userOrderStatsRepository = userOrderStatsRepository;
+        this.orderRepository = orderRepository;
+        this.orderArchiveRepository = orderArchiveRepository;
+        this.properties = properties;
+        this.requiresNewTemplate = new TransactionTemplate(transactionManager);
+        this.requiresNewTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+    
+    /**
+     * 사용자별 주문 수 조회 (집계 행이 없으면 0)
+     */
+    public long getOrderCount(Long userId) {
+        return userOrderStatsRepository.findById(userId)
+                .map(UserOrderStats::getOrderCount)
+                .orElse(0L);
+    }
+    
+    /**
+     * 사용자별 취소 제외 총 주문 금액 조회 (집계 행이 없으면 0)
+     */
+    public BigDecimal getTotalAmount(Long userId) {
+        return userOrderStatsRepository.findById(userId)
+                .map(UserOrderStats::getTotalAmount)
+                .orElse(BigDecimal.ZERO);
+    }
+    
+    /**
+     * 주문 변경 반영 (주문을 변경한 트랜잭션 안에서 실행)
+     * 변경 전 주문은 빼고 변경 후 주문은 더해 사용자별 증감분을 만든 뒤 사용자당 upsert 한 번으로 반영한다.
+     * 집계 행 생성도 같은 문장에서 처리하므로 별도 트랜잭션(커넥션)을 쓰지 않는다.
+     */
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onOrderChange(OrderChangeEvent event) {
+        // 사용자 ID 순으로 반영해 동시 트랜잭션 간 행 잠금 순서를 맞춘다
+        Map<Long, Delta> deltas = new TreeMap<>();
+        for (OrderChangeEvent.OrderChange change : event.getChanges()) {
+            if (change.getBefore() != null) {
+                deltas.computeIfAbsent(change.getBefore().getUserId(), userId -> new Delta())
+                        .subtract(change.getBefore());
+            }
+            if (change.getAfter() != null) {
+                deltas.computeIfAbsent(change.getAfter().getUserId(), userId -> new Delta())
+                        .add(change.getAfter());
+            }
+        }
+        
+        LocalDateTime now = LocalDateTime.now();
+        deltas.forEach((userId, delta) -> {
+            if (delta.isEmpty()) {
+                return;
+            }
+            userOrderStatsRepository.upsertDelta(userId, delta.count, delta.amount, now);
+        });
+    }
+    
+    /**
+     * 주문 테이블 기준으로 집계 재구축 (누락 행 생성 및 어긋난 값 보정)
+     * 사용자 ID 순으로 배치 크기만큼 끊어 각각 별도 트랜잭션에서 처리하므로 긴 트랜잭션을 만들지 않는다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long rebuild() {
+        log.info("사용자별 주문 집계 재구축 시작");
+        
+        long rebuilt = 0;
+        long afterUserId = 0L;
+        while (true) {
+            List<Long> userIds = findUserIdsAfter(afterUserId);
+            if (userIds.isEmpty()) {
+                break;
+            }
+            requiresNewTemplate.executeWithoutResult(status -> rebuildBatch(userIds));
+            
+            rebuilt += userIds.size();
+            afterUserId = userIds.get(userIds.size() - 1);
+            log.debug("사용자별 주문 집계 재구축 진행 - {}명 (마지막 사용자 ID: {})", rebuilt, afterUserId);
+        }
+        
+        log.info("사용자별 주문 집계 재구축 완료 - {}명", rebuilt);
+        return rebuilt;
+    }
+    
+    /**
+     * 배치 재구축: 누락된 집계 행을 0으로 만들고 잠가 동시 증감을 막은 뒤 주문 테이블에서 다시 계산한 값으로 덮어쓴다
+     */
+    private void rebuildBatch(List<Long> userIds) {
+        LocalDateTime now = LocalDateTime.now();
+        userIds.forEach(userId -> userOrderStatsRepository.upsertDelta(userId, 0L, BigDecimal.ZERO, now));
+        
+        Map<Long, UserOrderStats> statsByUserId = userOrderStatsRepository.findAllForUpdate(userIds)
+                .stream()
+                .collect(Collectors.toMap(UserOrderStats::getUserId, Function.identity()));
+        
+        Map<Long, Long> counts = new HashMap<>();
+        for (Object[] row : orderRepository.countByUserIds(userIds)) {
+            counts.merge((Long) row[0], (Long) row[1], Long::sum);
+        }
+        for (Object[] row : orderArchiveRepository.countByUserIds(userIds)) {
+            counts.merge((Long) row[0], (Long) row[1], Long::sum);
+        }
+        Map<Long, BigDecimal> amounts = new HashMap<>();
+        for (Object[] row : orderRepository.sumAmountByUserIds(userIds, Order.OrderStatus.CANCELLED)) {
+            amounts.merge((Long) row[0], (BigDecimal) row[1], BigDecimal::add);
+        }
+        for (Object[] row : orderArchiveRepository.sumAmountByUserIds(userIds, Order.OrderStatus.CANCELLED)) {
+            amounts.merge((Long) row[0], (BigDecimal) row[1], BigDecimal::add);
+        }
+        
+        for (Long userId : userIds) {
+            UserOrderStats stats = statsByUserId.get(userId);
+            stats.setOrderCount(counts.getOrDefault(userId, 0L));
+            stats.setTotalAmount(amounts.getOrDefault(userId, BigDecimal.ZERO));
+        }
+    }
+    
+    /**
+     * 주문 또는 보관 주문이 있는 다음 사용자 ID 목록 (두 테이블의 keyset 결과를 합쳐 배치 크기만큼)
+     */
+    private List<Long> findUserIdsAfter(Long afterUserId) {
+        Limit limit = Limit.of(properties.getRebuildBatchSize());
+        TreeSet<Long> userIds = new TreeSet<>(orderRepository.findUserIdsAfter(afterUserId, limit));
+        userIds.addAll(orderArchiveRepository.findUserIdsAfter(afterUserId, limit));
+        return userIds.stream()
+                .limit(properties.getRebuildBatchSize())
+                .toList();
+    }
+    
+    /**
+     * 사용자 한 명의 주문 수/금액 증감분
+     */
+    private static class Delta {
+        
+        private long count;
+        private BigDecimal amount = BigDecimal.ZERO;
+        
+        void add(OrderSnapshot order) {
+            count++;
+            if (!order.isCancelled()) {
+                amount = amount.add(order.getAmount());
+            }
+        }
+        
+        void subtract(OrderSnapshot order) {
+            count--;
+            if (!order.isCancelled()) {
+                amount = amount.subtract(order.getAmount());
+            }
+        }
+        
+        boolean isEmpty() {
+            return count == 0 && amount.signum() == 0;
+        }
+    }
+}
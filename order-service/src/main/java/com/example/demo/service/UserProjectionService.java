@@ -0,0 +1,67 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.UserEventResponse;
+import com.example.demo.entity.EventConsumerOffset;
+import com.example.demo.entity.UserProjection;
+import com.example.demo.repository.EventConsumerOffsetRepository;
+import com.example.demo.repository.UserProjectionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class UserProjectionService {
+    
+    static final String CONSUMER_NAME = "user-events";
+    
+    private final UserProjectionRepository userProjectionRepository;
+    private final EventConsumerOffsetRepository eventConsumerOffsetRepository;
+    
+    /**
+     * 마지막으로 반영한 이벤트 ID 조회
+     */
+    public long getLastEventId() {
+        return eventConsumerOffsetRepository.findById(CONSUMER_NAME)
+                .map(EventConsumerOffset::getLastEventId)
+                .orElse(0L);
+    }
+    
+    /**
+     * 사용자 이벤트 반영 (프로젝션 갱신과 소비 위치 저장을 한 트랜잭션으로)
+     * 이미 반영한 이벤트는 건너뛰므로 같은 이벤트를 다시 받아도 결과가 같다.
+     */
+    @Transactional
+    public void apply(List<UserEventResponse> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        
+        for (UserEventResponse event : events) {
+            UserProjection projection = userProjectionRepository.findById(event.getUserId())
+                    .orElseGet(() -> UserProjection.builder()
+                            .userId(event.getUserId())
+                            .lastEventId(0L)
+                            .build());
+            if (projection.getLastEventId() >= event.getEventId()) {
+                continue;
+            }
+            projection.setStatus(event.getStatus());
+            projection.setLastEventId(event.getEventId());
+            userProjectionRepository.save(projection);
+        }
+        
+        long lastEventId = events.get(events.size() - 1).getEventId();
+        EventConsumerOffset offset = eventConsumerOffsetRepository.findById(CONSUMER_NAME)
+                .orElseGet(() -> EventConsumerOffset.builder().consumerName(CONSUMER_NAME).build());
+        offset.setLastEventId(lastEventId);
+        eventConsumerOffsetRepository.save(offset);
+        
+        log.debug("사용자 이벤트 반영 완료 - {}건, 마지막 이벤트 ID: {}", events.size(), lastEventId);
+    }
+}
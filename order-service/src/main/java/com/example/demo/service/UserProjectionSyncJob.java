@@ -0,0 +1,41 @@
+package com.example.demo.service;
+
+import com.example.demo.client.UserServiceClient;
+import com.example.demo.config.UserProjectionProperties;
+import com.example.demo.dto.UserEventResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * user-service 이벤트 피드를 주기적으로 폴링해 사용자 프로젝션을 갱신
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(prefix = "app.user-projection", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class UserProjectionSyncJob {
+    
+    private final UserServiceClient userServiceClient;
+    private final UserProjectionService userProjectionService;
+    private final UserProjectionProperties properties;
+    
+    @Scheduled(fixedDelayString = "${app.user-projection.poll-interval-ms:1000}")
+    public void sync() {
+        try {
+            // 밀린 이벤트가 있으면 배치 크기보다 적게 올 때까지 연속으로 가져온다
+            List<UserEventResponse> events;
+            do {
+                long after = userProjectionService.getLastEventId();
+                events = userServiceClient.getUserEvents(after, properties.getBatchSize());
+                userProjectionService.apply(events);
+            } while (events.size() >= properties.getBatchSize());
+        } catch (Exception e) {
+            log.warn("사용자 이벤트 동기화 실패: {}", e.getMessage());
+        }
+    }
+}
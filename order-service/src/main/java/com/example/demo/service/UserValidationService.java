@@ -0,0 +1,103 @@
+package com.example.demo.service;
+
+import com.example.demo.client.UserServiceClient;
+import com.example.demo.config.UserProjectionProperties;
+import com.example.demo.dto.UserResponse;
+import com.example.demo.entity.UserProjection;
+import com.example.demo.exception.ResourceNotFoundException;
+import com.example.demo.repository.UserProjectionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 주문 처리 시 사용자 검증
+ * 로컬 사용자 프로젝션을 먼저 조회하고, 아직 동기화되지 않은 사용자만 user-service로 확인한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class UserValidationService {
+    
+    private final UserProjectionRepository userProjectionRepository;
+    private final UserServiceClient userServiceClient;
+    private final UserProjectionProperties properties;
+    
+    /**
+     * 사용자 존재 여부 확인
+     */
+    public void requireExistingUser(Long userId) {
+        if (userProjectionRepository.existsById(userId)) {
+            return;
+        }
+        fetchRemoteUser(userId);
+    }
+    
+    /**
+     * 주문 가능한(ACTIVE) 사용자인지 확인
+     */
+    public void requireActiveUser(Long userId) {
+        Optional<UserProjection> projection = userProjectionRepository.findById(userId);
+        String status = projection.isPresent()
+                ? projection.get().getStatus()
+                : fetchRemoteUser(userId).getStatus();
+        
+        // 원격 응답에 상태가 없으면 존재 여부만으로 판단
+        if (status != null && !UserProjection.ACTIVE.equals(status)) {
+            log.warn("비활성 사용자 주문 요청 - 사용자 ID: {}, 상태: {}", userId, status);
+            throw new RuntimeException("활성 상태의 사용자가 아닙니다. ID: " + userId);
+        }
+    }
+    
+    /**
+     * 주어진 사용자 중 주문 가능한(ACTIVE) 사용자 ID만 반환 (일괄 검증)
+     * 프로젝션을 한 번에 조회하고, 프로젝션에 없는 사용자만 배치 조회로 확인한다.
+     */
+    public Set<Long> findActiveUserIds(Collection<Long> userIds) {
+        Set<Long> activeUserIds = new HashSet<>();
+        Set<Long> unknownUserIds = new HashSet<>(userIds);
+        
+        for (UserProjection projection : userProjectionRepository.findAllById(userIds)) {
+            unknownUserIds.remove(projection.getUserId());
+            if (projection.isActive()) {
+                activeUserIds.add(projection.getUserId());
+            }
+        }
+        
+        if (unknownUserIds.isEmpty() || !properties.isFallbackToRemote()) {
+            return activeUserIds;
+        }
+        
+        // 호출할 수 없으면 ServiceUnavailableException(503) - 확인하지 못한 사용자를 없는 사용자로 처리하지 않는다
+        List<UserResponse> users = userServiceClient.getUsersByIds(new ArrayList<>(unknownUserIds));
+        for (UserResponse user : users) {
+            if (user.getStatus() == null || UserProjection.ACTIVE.equals(user.getStatus())) {
+                activeUserIds.add(user.getId());
+            }
+        }
+        return activeUserIds;
+    }
+    
+    /**
+     * 프로젝션에 없는 사용자를 user-service에서 조회
+     * 없는 사용자는 ResourceNotFoundException(404), 호출할 수 없으면 ServiceUnavailableException(503)으로 구분된다.
+     */
+    private UserResponse fetchRemoteUser(Long userId) {
+        if (!properties.isFallbackToRemote()) {
+            throw new ResourceNotFoundException("사용자를 찾을 수 없습니다. ID: " + userId);
+        }
+        
+        UserResponse user = userServiceClient.getUserById(userId);
+        log.info("사용자 확인 완료 - 사용자 ID: {}, 이름: {}", userId, user.getName());
+        return user;
+    }
+}
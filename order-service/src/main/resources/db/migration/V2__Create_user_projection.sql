@@ -0,0 +1,13 @@
+-- 사용자 프로젝션 테이블 생성 (user-service 이벤트 피드로 동기화)
+CREATE TABLE user_projection (
+  user_id BIGINT PRIMARY KEY,
+  status VARCHAR(20) NOT NULL,
+  last_event_id BIGINT NOT NULL,
+  updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+-- 이벤트 소비 위치 테이블 생성
+CREATE TABLE event_consumer_offset (
+  consumer_name VARCHAR(50) PRIMARY KEY,
+  last_event_id BIGINT NOT NULL
+);
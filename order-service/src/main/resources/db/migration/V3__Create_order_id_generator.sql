@@ -0,0 +1,9 @@
+-- 주문 ID 할당 테이블 생성 (IDENTITY 대신 블록 단위로 ID를 미리 할당해 JDBC 배치 insert 가능)
+CREATE TABLE id_generator (
+  sequence_name VARCHAR(255) NOT NULL PRIMARY KEY,
+  next_val BIGINT
+);
+
+-- 기존 주문 ID 다음 값부터 할당
+INSERT INTO id_generator (sequence_name, next_val)
+SELECT 'orders', COALESCE(MAX(id), 0) + 1 FROM orders;
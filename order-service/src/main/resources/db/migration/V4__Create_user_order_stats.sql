@@ -0,0 +1,15 @@
+-- 사용자별 주문 집계 테이블 생성 (주문 수, 취소 제외 총 주문 금액)
+CREATE TABLE user_order_stats (
+  user_id BIGINT PRIMARY KEY,
+  order_count BIGINT NOT NULL DEFAULT 0,
+  total_amount DECIMAL(19,2) NOT NULL DEFAULT 0,
+  updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+-- 기존 주문으로 초기 집계
+INSERT INTO user_order_stats (user_id, order_count, total_amount)
+SELECT user_id,
+       COUNT(*),
+       COALESCE(SUM(CASE WHEN status <> 'CANCELLED' THEN price * quantity ELSE 0 END), 0)
+FROM orders
+GROUP BY user_id;
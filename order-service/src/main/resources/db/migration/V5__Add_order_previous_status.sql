@@ -0,0 +1,2 @@
+-- 직전 상태 컬럼 추가 (조건부 상태 변경 UPDATE 한 번으로 변경 전 상태를 함께 남긴다)
+ALTER TABLE orders ADD COLUMN previous_status VARCHAR(20);
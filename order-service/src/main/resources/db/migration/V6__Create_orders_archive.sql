@@ -0,0 +1,18 @@
+-- 보관 주문 테이블 생성 (보관 기간이 지난 DELIVERED/CANCELLED 주문을 orders에서 옮겨 둔다)
+-- ID는 orders에서 받은 값을 그대로 쓰므로 자동 증가하지 않는다
+CREATE TABLE orders_archive (
+  id BIGINT PRIMARY KEY,
+  user_id BIGINT NOT NULL,
+  product_name VARCHAR(100) NOT NULL,
+  quantity INT NOT NULL,
+  price DECIMAL(10,2) NOT NULL,
+  status VARCHAR(20) NOT NULL,
+  previous_status VARCHAR(20),
+  created_at TIMESTAMP,
+  updated_at TIMESTAMP,
+  archived_at TIMESTAMP NOT NULL
+);
+
+-- 인덱스 생성 (사용자별 조회 대체 경로, 재구축/보정용 집계)
+CREATE INDEX idx_orders_archive_user_id ON orders_archive(user_id);
+CREATE INDEX idx_orders_archive_status ON orders_archive(status);
@@ -0,0 +1,23 @@
+-- 주문 시계열 집계 테이블 생성 (생성 시각 구간 x 현재 상태별 주문 수, 금액)
+-- granularity: MINUTE, HOUR, DAY / bucket_start: 구간 시작 시각
+CREATE TABLE order_rollup (
+  granularity VARCHAR(10) NOT NULL,
+  bucket_start TIMESTAMP NOT NULL,
+  status VARCHAR(20) NOT NULL,
+  order_count BIGINT NOT NULL,
+  amount DECIMAL(19,2) NOT NULL,
+  PRIMARY KEY (granularity, bucket_start, status)
+);
+
+-- 집계 작업이 마지막으로 읽은 주문 변경 위치 (updated_at, id)
+CREATE TABLE order_rollup_watermark (
+  name VARCHAR(50) PRIMARY KEY,
+  last_updated_at TIMESTAMP NOT NULL,
+  last_order_id BIGINT NOT NULL
+);
+
+-- 변경된 주문 순차 조회용 인덱스
+CREATE INDEX idx_orders_updated_at ON orders(updated_at);
+
+-- 보관 주문 구간 재계산용 인덱스
+CREATE INDEX idx_orders_archive_created_at ON orders_archive(created_at);
@@ -0,0 +1,3 @@
+-- 시계열 집계 시작 위치를 비워 둘 수 있도록 변경 (NULL = 처음부터)
+-- 1970-01-01 00:00:00 같은 시작 값은 MySQL TIMESTAMP 범위(1970-01-01 00:00:01 UTC~) 밖이라 strict 모드에서 insert가 실패한다
+ALTER TABLE order_rollup_watermark MODIFY COLUMN last_updated_at TIMESTAMP NULL;
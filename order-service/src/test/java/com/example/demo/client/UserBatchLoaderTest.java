@@ -0,0 +1,103 @@
+package com.example.demo.client;
+
+import com.example.demo.config.UserBatchProperties;
+import com.example.demo.dto.UserResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserBatchLoaderTest {
+    
+    private final UserServiceClient delegate = mock(UserServiceClient.class);
+    private UserBatchLoader loader;
+    
+    @AfterEach
+    void tearDown() {
+        loader.shutdown();
+    }
+    
+    @Test
+    void window_안의_조회를_배치_한_번으로_병합한다() throws Exception {
+        loader = newLoader(Duration.ofMillis(100), 100);
+        when(delegate.getUsersByIds(anyList())).thenReturn(List.of(user(1L)));
+        
+        CompletableFuture<Optional<UserResponse>> first = loader.load(1L);
+        CompletableFuture<Optional<UserResponse>> second = loader.load(2L);
+        CompletableFuture<Optional<UserResponse>> duplicate = loader.load(1L);
+        
+        assertThat(duplicate).isSameAs(first);
+        assertThat(first.get(2, TimeUnit.SECONDS)).map(UserResponse::getId).contains(1L);
+        assertThat(second.get(2, TimeUnit.SECONDS)).isEmpty();
+        
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Long>> ids = ArgumentCaptor.forClass(List.class);
+        verify(delegate, times(1)).getUsersByIds(ids.capture());
+        assertThat(ids.getValue()).containsExactlyInAnyOrder(1L, 2L);
+    }
+    
+    @Test
+    void window가_지나기_전에는_보내지_않는다() throws Exception {
+        loader = newLoader(Duration.ofMillis(300), 100);
+        when(delegate.getUsersByIds(anyList())).thenReturn(List.of(user(1L)));
+        
+        long started = System.nanoTime();
+        CompletableFuture<Optional<UserResponse>> future = loader.load(1L);
+        verify(delegate, never()).getUsersByIds(anyList());
+        
+        assertThat(future.get(2, TimeUnit.SECONDS)).isPresent();
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isGreaterThanOrEqualTo(Duration.ofMillis(250));
+    }
+    
+    @Test
+    void 최대_배치_크기에_도달하면_window를_기다리지_않고_보낸다() throws Exception {
+        loader = newLoader(Duration.ofSeconds(30), 2);
+        when(delegate.getUsersByIds(anyList())).thenReturn(List.of(user(1L), user(2L)));
+        
+        CompletableFuture<Optional<UserResponse>> first = loader.load(1L);
+        CompletableFuture<Optional<UserResponse>> second = loader.load(2L);
+        
+        assertThat(first.get(2, TimeUnit.SECONDS)).isPresent();
+        assertThat(second.get(2, TimeUnit.SECONDS)).isPresent();
+        verify(delegate, times(1)).getUsersByIds(anyList());
+    }
+    
+    @Test
+    void 배치_조회가_실패하면_모든_요청이_실패한다() {
+        loader = newLoader(Duration.ofMillis(50), 100);
+        when(delegate.getUsersByIds(anyList())).thenThrow(new IllegalStateException("down"));
+        
+        CompletableFuture<Optional<UserResponse>> first = loader.load(1L);
+        CompletableFuture<Optional<UserResponse>> second = loader.load(2L);
+        
+        assertThatThrownBy(() -> first.get(2, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> second.get(2, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class);
+    }
+    
+    private UserBatchLoader newLoader(Duration window, int maxBatchSize) {
+        UserBatchProperties properties = new UserBatchProperties();
+        properties.setWindow(window);
+        properties.setMaxBatchSize(maxBatchSize);
+        return new UserBatchLoader(delegate, properties, false);
+    }
+    
+    private static UserResponse user(Long id) {
+        return UserResponse.builder().id(id).name("user-" + id).status("ACTIVE").build();
+    }
+}
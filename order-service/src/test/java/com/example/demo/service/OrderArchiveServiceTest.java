@@ -0,0 +1,86 @@
+package com.example.demo.service;
+
+import com.example.demo.config.OrderArchiveProperties;
+import com.example.demo.repository.OrderArchiveRepository;
+import com.example.demo.repository.OrderRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OrderArchiveServiceTest {
+    
+    private final OrderRepository orderRepository = mock(OrderRepository.class);
+    private final OrderArchiveRepository orderArchiveRepository = mock(OrderArchiveRepository.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final OrderArchiveProperties properties = new OrderArchiveProperties();
+    private OrderArchiveService service;
+    
+    @BeforeEach
+    void setUp() {
+        properties.setBatchSize(2);
+        properties.setBatchDelay(Duration.ZERO);
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        service = new OrderArchiveService(orderRepository, orderArchiveRepository, properties, transactionManager, meterRegistry);
+    }
+    
+    @Test
+    void ID_순으로_배치마다_복사하고_삭제한다() throws Exception {
+        when(orderRepository.findArchivableIds(anyCollection(), any(), eq(0L), any())).thenReturn(List.of(1L, 2L));
+        when(orderRepository.findArchivableIds(anyCollection(), any(), eq(2L), any())).thenReturn(List.of(3L));
+        when(orderRepository.findArchivableIds(anyCollection(), any(), eq(3L), any())).thenReturn(List.of());
+        when(orderArchiveRepository.copyFromOrders(eq(List.of(1L, 2L)), anyCollection(), any())).thenReturn(2);
+        when(orderRepository.deleteArchived(eq(List.of(1L, 2L)), anyCollection(), any())).thenReturn(2);
+        when(orderArchiveRepository.copyFromOrders(eq(List.of(3L)), anyCollection(), any())).thenReturn(1);
+        when(orderRepository.deleteArchived(eq(List.of(3L)), anyCollection(), any())).thenReturn(1);
+        
+        assertThat(service.archive()).isEqualTo(3);
+        verify(transactionManager, times(2)).commit(any());
+        verify(transactionManager, never()).rollback(any());
+        assertThat(meterRegistry.counter("orders.archive.moved").count()).isEqualTo(3);
+    }
+    
+    @Test
+    void 복사와_삭제_건수가_다르면_그_배치만_롤백하고_계속한다() throws Exception {
+        when(orderRepository.findArchivableIds(anyCollection(), any(), eq(0L), any())).thenReturn(List.of(1L, 2L));
+        when(orderRepository.findArchivableIds(anyCollection(), any(), eq(2L), any())).thenReturn(List.of(3L));
+        when(orderRepository.findArchivableIds(anyCollection(), any(), eq(3L), any())).thenReturn(List.of());
+        // 첫 배치: 복사 뒤 다른 요청이 주문 하나를 바꿔 삭제 조건에서 빠짐
+        when(orderArchiveRepository.copyFromOrders(eq(List.of(1L, 2L)), anyCollection(), any())).thenReturn(2);
+        when(orderRepository.deleteArchived(eq(List.of(1L, 2L)), anyCollection(), any())).thenReturn(1);
+        when(orderArchiveRepository.copyFromOrders(eq(List.of(3L)), anyCollection(), any())).thenReturn(1);
+        when(orderRepository.deleteArchived(eq(List.of(3L)), anyCollection(), any())).thenReturn(1);
+        
+        assertThat(service.archive()).isEqualTo(1);
+        verify(transactionManager, times(1)).rollback(any());
+        verify(transactionManager, times(1)).commit(any());
+        assertThat(meterRegistry.counter("orders.archive.conflicts").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("orders.archive.moved").count()).isEqualTo(1);
+    }
+    
+    @Test
+    void 한_번_실행에서_최대_배치_수까지만_처리한다() throws Exception {
+        properties.setMaxBatchesPerRun(1);
+        when(orderRepository.findArchivableIds(anyCollection(), any(), eq(0L), any())).thenReturn(List.of(1L, 2L));
+        when(orderArchiveRepository.copyFromOrders(anyCollection(), anyCollection(), any())).thenReturn(2);
+        when(orderRepository.deleteArchived(anyCollection(), anyCollection(), any())).thenReturn(2);
+        
+        assertThat(service.archive()).isEqualTo(2);
+        verify(orderRepository, times(1)).findArchivableIds(anyCollection(), any(), any(), any());
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.demo.service;
+
+import com.example.demo.config.OrderRollupProperties;
+import com.example.demo.entity.Order;
+import com.example.demo.entity.OrderRollup;
+import com.example.demo.entity.OrderRollupWatermark;
+import com.example.demo.repository.OrderArchiveRepository;
+import com.example.demo.repository.OrderChangeMark;
+import com.example.demo.repository.OrderRepository;
+import com.example.demo.repository.OrderRollupRepository;
+import com.example.demo.repository.OrderRollupWatermarkRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OrderRollupServiceTest {
+    
+    private static final LocalDateTime MINUTE_1 = LocalDateTime.of(2025, 1, 1, 12, 3);
+    private static final LocalDateTime MINUTE_2 = LocalDateTime.of(2025, 1, 1, 12, 4);
+    private static final LocalDateTime HOUR = LocalDateTime.of(2025, 1, 1, 12, 0);
+    private static final LocalDateTime DAY = LocalDateTime.of(2025, 1, 1, 0, 0);
+    
+    private final OrderRepository orderRepository = mock(OrderRepository.class);
+    private final OrderArchiveRepository orderArchiveRepository = mock(OrderArchiveRepository.class);
+    private final OrderRollupRepository orderRollupRepository = mock(OrderRollupRepository.class);
+    private final OrderRollupWatermarkRepository watermarkRepository = mock(OrderRollupWatermarkRepository.class);
+    private final EntityManager entityManager = mock(EntityManager.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final OrderRollupProperties properties = new OrderRollupProperties();
+    private final OrderRollupWatermark watermark = OrderRollupWatermark.builder()
+            .name("orders")
+            .lastUpdatedAt(LocalDateTime.of(2025, 1, 1, 0, 0))
+            .lastOrderId(0L)
+            .build();
+    private OrderRollupService service;
+    
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        when(watermarkRepository.existsById("orders")).thenReturn(true);
+        when(watermarkRepository.findForUpdate("orders")).thenReturn(Optional.of(watermark));
+        service = new OrderRollupService(orderRepository, orderArchiveRepository, orderRollupRepository,
+                watermarkRepository, entityManager, properties, transactionManager);
+    }
+    
+    @Test
+    void 변경된_주문의_분_구간을_주문과_보관_테이블에서_다시_계산한다() {
+        when(orderRepository.findChangedAfter(any(), any(), any(), any())).thenReturn(List.of(
+                new OrderChangeMark(7L, MINUTE_1.plusSeconds(30), MINUTE_2.plusSeconds(1)),
+                new OrderChangeMark(9L, MINUTE_1.plusSeconds(50), MINUTE_2.plusSeconds(2))));
+        when(orderRepository.sumByStatusCreatedBetween(MINUTE_1, MINUTE_2)).thenReturn(List.<Object[]>of(
+                new Object[]{Order.OrderStatus.PENDING, 2L, new BigDecimal("100.00")}));
+        when(orderArchiveRepository.sumByStatusCreatedBetween(MINUTE_1, MINUTE_2)).thenReturn(List.of(
+                new Object[]{Order.OrderStatus.PENDING, 1L, new BigDecimal("50.00")},
+                new Object[]{Order.OrderStatus.DELIVERED, 1L, null}));
+        
+        assertThat(service.catchUp()).isEqualTo(2);
+        
+        verify(orderRollupRepository, times(1)).deleteBucket(OrderRollup.Granularity.MINUTE, MINUTE_1);
+        assertThat(persisted())
+                .filteredOn(rollup -> rollup.getGranularity() == OrderRollup.Granularity.MINUTE)
+                .extracting(OrderRollup::getBucketStart, OrderRollup::getStatus, OrderRollup::getOrderCount, OrderRollup::getAmount)
+                .containsExactlyInAnyOrder(
+                        tuple(MINUTE_1, Order.OrderStatus.PENDING, 3L, new BigDecimal("150.00")),
+                        tuple(MINUTE_1, Order.OrderStatus.DELIVERED, 1L, BigDecimal.ZERO));
+        
+        assertThat(watermark.getLastUpdatedAt()).isEqualTo(MINUTE_2.plusSeconds(2));
+        assertThat(watermark.getLastOrderId()).isEqualTo(9L);
+    }
+    
+    @Test
+    void 시간과_일_구간은_하위_구간_합계로_다시_계산한다() {
+        when(orderRepository.findChangedAfter(any(), any(), any(), any())).thenReturn(List.of(
+                new OrderChangeMark(1L, MINUTE_1, MINUTE_2),
+                new OrderChangeMark(2L, MINUTE_2, MINUTE_2)));
+        when(orderRollupRepository.sumByStatus(OrderRollup.Granularity.MINUTE, HOUR, HOUR.plusHours(1))).thenReturn(List.<Object[]>of(
+                new Object[]{Order.OrderStatus.CONFIRMED, 4L, new BigDecimal("400.00")}));
+        when(orderRollupRepository.sumByStatus(OrderRollup.Granularity.HOUR, DAY, DAY.plusDays(1))).thenReturn(List.<Object[]>of(
+                new Object[]{Order.OrderStatus.CONFIRMED, 10L, new BigDecimal("1000.00")}));
+        
+        service.catchUp();
+        
+        verify(orderRollupRepository).deleteBucket(OrderRollup.Granularity.MINUTE, MINUTE_1);
+        verify(orderRollupRepository).deleteBucket(OrderRollup.Granularity.MINUTE, MINUTE_2);
+        // 두 분 구간이 같은 시간/일 구간에 속하므로 상위 구간은 한 번씩만 다시 계산
+        verify(orderRollupRepository, times(1)).deleteBucket(OrderRollup.Granularity.HOUR, HOUR);
+        verify(orderRollupRepository, times(1)).deleteBucket(OrderRollup.Granularity.DAY, DAY);
+        assertThat(persisted())
+                .filteredOn(rollup -> rollup.getGranularity() != OrderRollup.Granularity.MINUTE)
+                .extracting(OrderRollup::getGranularity, OrderRollup::getBucketStart, OrderRollup::getOrderCount)
+                .containsExactlyInAnyOrder(
+                        tuple(OrderRollup.Granularity.HOUR, HOUR, 4L),
+                        tuple(OrderRollup.Granularity.DAY, DAY, 10L));
+    }
+    
+    @Test
+    void 밀린_변경이_없으면_아무것도_바꾸지_않는다() {
+        when(orderRepository.findChangedAfter(any(), any(), any(), any())).thenReturn(List.of());
+        
+        assertThat(service.catchUp()).isZero();
+        verify(orderRollupRepository, never()).deleteBucket(any(), any());
+        assertThat(watermark.getLastOrderId()).isZero();
+    }
+    
+    @Test
+    void 시작_위치가_비어_있으면_처음부터_읽고_위치를_채운다() {
+        watermark.setLastUpdatedAt(null);
+        when(orderRepository.findChangedUpTo(any(), any())).thenReturn(List.of(
+                new OrderChangeMark(3L, MINUTE_1, MINUTE_2)));
+        
+        assertThat(service.catchUp()).isEqualTo(1);
+        
+        verify(orderRepository, never()).findChangedAfter(any(), any(), any(), any());
+        verify(orderRollupRepository).deleteBucket(OrderRollup.Granularity.MINUTE, MINUTE_1);
+        assertThat(watermark.getLastUpdatedAt()).isEqualTo(MINUTE_2);
+        assertThat(watermark.getLastOrderId()).isEqualTo(3L);
+    }
+    
+    @Test
+    void 재확인은_반영한_위치까지의_최근_변경_구간을_다시_계산하고_위치는_그대로_둔다() {
+        LocalDateTime position = watermark.getLastUpdatedAt();
+        when(orderRepository.findChangedAfter(any(), any(), eq(position), any())).thenReturn(List.of(
+                new OrderChangeMark(5L, MINUTE_1, position.minusSeconds(30))));
+        
+        assertThat(service.reconcile()).isEqualTo(1);
+        
+        verify(orderRollupRepository).deleteBucket(OrderRollup.Granularity.MINUTE, MINUTE_1);
+        assertThat(watermark.getLastUpdatedAt()).isEqualTo(position);
+        assertThat(watermark.getLastOrderId()).isZero();
+    }
+    
+    @Test
+    void 시작_위치가_비어_있으면_재확인하지_않는다() {
+        watermark.setLastUpdatedAt(null);
+        
+        assertThat(service.reconcile()).isZero();
+        verify(orderRepository, never()).findChangedAfter(any(), any(), any(), any());
+    }
+    
+    private List<OrderRollup> persisted() {
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(entityManager, atLeastOnce()).persist(captor.capture());
+        return captor.getAllValues().stream()
+                .map(OrderRollup.class::cast)
+                .toList();
+    }
+}
@@ -0,0 +1,181 @@
+package com.example.demo.service;
+
+import com.example.demo.config.OrderStatusBulkProperties;
+import com.example.demo.dto.BulkStatusChangeRequest;
+import com.example.demo.dto.BulkStatusChangeResponse;
+import com.example.demo.entity.Order;
+import com.example.demo.event.OrderChangeEvent;
+import com.example.demo.exception.BulkStatusConflictException;
+import com.example.demo.repository.OrderRepository;
+import com.example.demo.repository.OrderStatusRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OrderStatusBulkServiceTest {
+    
+    private final OrderRepository orderRepository = mock(OrderRepository.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final OrderStatusBulkProperties properties = new OrderStatusBulkProperties();
+    private OrderStatusBulkService service;
+    
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        service = new OrderStatusBulkService(orderRepository, eventPublisher, properties, transactionManager);
+    }
+    
+    @Test
+    void 변경_건너뜀_없음_건수를_나눠_센다() {
+        List<Long> ids = List.of(1L, 2L, 3L, 4L);
+        when(orderRepository.findStatusRowsForUpdate(ids)).thenReturn(List.of(
+                row(1L, Order.OrderStatus.CONFIRMED),
+                row(2L, Order.OrderStatus.CONFIRMED),
+                row(3L, Order.OrderStatus.DELIVERED)));
+        when(orderRepository.updateStatusByIdsFrom(eq(ids), eq(Order.OrderStatus.CONFIRMED), eq(Order.OrderStatus.SHIPPED), any()))
+                .thenReturn(2);
+        
+        BulkStatusChangeResponse response = service.changeStatus(request(ids, Order.OrderStatus.SHIPPED));
+        
+        assertThat(response.getRequested()).isEqualTo(4);
+        assertThat(response.getUpdated()).isEqualTo(2);
+        assertThat(response.getSkipped()).isEqualTo(1);
+        assertThat(response.getNotFound()).isEqualTo(1);
+        
+        ArgumentCaptor<OrderChangeEvent> event = ArgumentCaptor.forClass(OrderChangeEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().getChanges())
+                .extracting(change -> change.getAfter().getStatus())
+                .containsOnly(Order.OrderStatus.SHIPPED)
+                .hasSize(2);
+    }
+    
+    @Test
+    void 허용된_변경_전_상태별로_UPDATE한다() {
+        List<Long> ids = List.of(1L, 2L);
+        when(orderRepository.findStatusRowsForUpdate(ids)).thenReturn(List.of(
+                row(1L, Order.OrderStatus.PENDING),
+                row(2L, Order.OrderStatus.CONFIRMED)));
+        when(orderRepository.updateStatusByIdsFrom(eq(ids), any(), eq(Order.OrderStatus.CANCELLED), any()))
+                .thenReturn(1);
+        
+        BulkStatusChangeResponse response = service.changeStatus(request(ids, Order.OrderStatus.CANCELLED));
+        
+        assertThat(response.getUpdated()).isEqualTo(2);
+        verify(orderRepository).updateStatusByIdsFrom(eq(ids), eq(Order.OrderStatus.PENDING), eq(Order.OrderStatus.CANCELLED), any());
+        verify(orderRepository).updateStatusByIdsFrom(eq(ids), eq(Order.OrderStatus.CONFIRMED), eq(Order.OrderStatus.CANCELLED), any());
+    }
+    
+    @Test
+    void UPDATE_건수가_어긋나면_청크를_롤백하고_다시_시도한다() {
+        List<Long> ids = List.of(1L, 2L);
+        when(orderRepository.findStatusRowsForUpdate(ids))
+                .thenReturn(List.of(row(1L, Order.OrderStatus.CONFIRMED), row(2L, Order.OrderStatus.CONFIRMED)))
+                .thenReturn(List.of(row(1L, Order.OrderStatus.CONFIRMED), row(2L, Order.OrderStatus.DELIVERED)));
+        when(orderRepository.updateStatusByIdsFrom(eq(ids), eq(Order.OrderStatus.CONFIRMED), eq(Order.OrderStatus.SHIPPED), any()))
+                .thenReturn(1);
+        
+        BulkStatusChangeResponse response = service.changeStatus(request(ids, Order.OrderStatus.SHIPPED));
+        
+        assertThat(response.getUpdated()).isEqualTo(1);
+        assertThat(response.getSkipped()).isEqualTo(1);
+        verify(orderRepository, times(2)).findStatusRowsForUpdate(ids);
+        verify(transactionManager, times(1)).rollback(any());
+        verify(transactionManager, times(1)).commit(any());
+        verify(eventPublisher, times(1)).publishEvent(any(OrderChangeEvent.class));
+    }
+    
+    @Test
+    void 재시도_횟수를_넘기면_409_예외로_실패한다() {
+        properties.setMaxAttempts(2);
+        List<Long> ids = List.of(1L);
+        when(orderRepository.findStatusRowsForUpdate(ids)).thenReturn(List.of(row(1L, Order.OrderStatus.CONFIRMED)));
+        when(orderRepository.updateStatusByIdsFrom(anyCollection(), any(), any(), any())).thenReturn(0);
+        
+        assertThatThrownBy(() -> service.changeStatus(request(ids, Order.OrderStatus.SHIPPED)))
+                .isInstanceOf(BulkStatusConflictException.class)
+                .hasMessageContaining("충돌");
+        verify(transactionManager, times(2)).rollback(any());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+    
+    @Test
+    void 충돌로_중단되면_이미_커밋된_청크의_결과를_함께_전달한다() {
+        properties.setChunkSize(2);
+        properties.setMaxAttempts(1);
+        List<Long> committed = List.of(1L, 2L);
+        List<Long> conflicted = List.of(3L);
+        when(orderRepository.findStatusRowsForUpdate(committed)).thenReturn(List.of(
+                row(1L, Order.OrderStatus.CONFIRMED),
+                row(2L, Order.OrderStatus.DELIVERED)));
+        when(orderRepository.updateStatusByIdsFrom(eq(committed), eq(Order.OrderStatus.CONFIRMED), eq(Order.OrderStatus.SHIPPED), any()))
+                .thenReturn(1);
+        when(orderRepository.findStatusRowsForUpdate(conflicted)).thenReturn(List.of(row(3L, Order.OrderStatus.CONFIRMED)));
+        when(orderRepository.updateStatusByIdsFrom(eq(conflicted), any(), any(), any())).thenReturn(0);
+        
+        assertThatThrownBy(() -> service.changeStatus(request(List.of(1L, 2L, 3L), Order.OrderStatus.SHIPPED)))
+                .isInstanceOfSatisfying(BulkStatusConflictException.class, e -> {
+                    assertThat(e.getPartial().getTargetStatus()).isEqualTo(Order.OrderStatus.SHIPPED);
+                    assertThat(e.getPartial().getRequested()).isEqualTo(2);
+                    assertThat(e.getPartial().getUpdated()).isEqualTo(1);
+                    assertThat(e.getPartial().getSkipped()).isEqualTo(1);
+                    assertThat(e.getPartial().getNotFound()).isZero();
+                });
+        verify(transactionManager, times(1)).commit(any());
+        verify(transactionManager, times(1)).rollback(any());
+    }
+    
+    @Test
+    void chunkSize_단위로_나눠_별도_트랜잭션에서_처리한다() {
+        properties.setChunkSize(2);
+        when(orderRepository.findStatusRowsForUpdate(anyCollection())).thenReturn(List.of());
+        
+        BulkStatusChangeResponse response = service.changeStatus(request(List.of(1L, 2L, 3L, 3L), Order.OrderStatus.SHIPPED));
+        
+        assertThat(response.getRequested()).isEqualTo(3);
+        assertThat(response.getNotFound()).isEqualTo(3);
+        verify(orderRepository).findStatusRowsForUpdate(List.of(1L, 2L));
+        verify(orderRepository).findStatusRowsForUpdate(List.of(3L));
+        verify(transactionManager, times(2)).commit(any());
+    }
+    
+    @Test
+    void ID_목록과_조건을_함께_지정하면_거부한다() {
+        BulkStatusChangeRequest request = request(List.of(1L), Order.OrderStatus.SHIPPED);
+        request.setUserId(1L);
+        
+        assertThatThrownBy(() -> service.changeStatus(request)).isInstanceOf(RuntimeException.class);
+        verify(transactionManager, never()).getTransaction(any());
+    }
+    
+    private static BulkStatusChangeRequest request(List<Long> ids, Order.OrderStatus target) {
+        return BulkStatusChangeRequest.builder()
+                .ids(ids)
+                .targetStatus(target)
+                .build();
+    }
+    
+    private static OrderStatusRow row(Long id, Order.OrderStatus status) {
+        LocalDateTime now = LocalDateTime.now();
+        return new OrderStatusRow(id, 1L, "상품", 1, BigDecimal.valueOf(1000), status, null, now, now);
+    }
+}
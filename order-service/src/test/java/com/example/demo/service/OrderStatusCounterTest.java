@@ -0,0 +1,92 @@
+package com.example.demo.service;
+
+import com.example.demo.entity.Order;
+import com.example.demo.event.OrderChangeEvent;
+import com.example.demo.event.OrderSnapshot;
+import com.example.demo.repository.OrderArchiveRepository;
+import com.example.demo.repository.OrderRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class OrderStatusCounterTest {
+    
+    private final OrderRepository orderRepository = mock(OrderRepository.class);
+    private final OrderArchiveRepository orderArchiveRepository = mock(OrderArchiveRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final OrderStatusCounter counter = new OrderStatusCounter(orderRepository, orderArchiveRepository, meterRegistry);
+    
+    @Test
+    void 초기화_전에는_DB로_센다() {
+        when(orderRepository.countByStatus(Order.OrderStatus.PENDING)).thenReturn(3L);
+        when(orderArchiveRepository.countByStatus(Order.OrderStatus.PENDING)).thenReturn(1L);
+        
+        assertThat(counter.getCount(Order.OrderStatus.PENDING)).isEqualTo(4);
+    }
+    
+    @Test
+    void 주문과_보관_테이블_수로_초기화하고_커밋된_변경을_반영한다() {
+        when(orderRepository.countGroupByStatus()).thenReturn(List.<Object[]>of(new Object[]{Order.OrderStatus.PENDING, 3L}));
+        when(orderArchiveRepository.countGroupByStatus()).thenReturn(List.<Object[]>of(new Object[]{Order.OrderStatus.DELIVERED, 2L}));
+        counter.initialize();
+        
+        OrderSnapshot pending = snapshot(Order.OrderStatus.PENDING);
+        counter.onOrderChange(OrderChangeEvent.created(pending));
+        counter.onOrderChange(OrderChangeEvent.changed(pending, pending.toBuilder().status(Order.OrderStatus.CONFIRMED).build()));
+        
+        assertThat(counter.getCount(Order.OrderStatus.PENDING)).isEqualTo(3);
+        assertThat(counter.getCount(Order.OrderStatus.CONFIRMED)).isEqualTo(1);
+        assertThat(counter.getCount(Order.OrderStatus.DELIVERED)).isEqualTo(2);
+    }
+    
+    @Test
+    void 보정은_한_번에_DB와의_차이를_반영한다() {
+        when(orderArchiveRepository.countGroupByStatus()).thenReturn(List.of());
+        when(orderRepository.countGroupByStatus())
+                .thenReturn(List.<Object[]>of(new Object[]{Order.OrderStatus.PENDING, 3L}))
+                // 다른 인스턴스가 만든 주문 2건은 이 인스턴스의 이벤트로 들어오지 않는다
+                .thenReturn(List.<Object[]>of(new Object[]{Order.OrderStatus.PENDING, 5L}));
+        counter.initialize();
+        
+        counter.reconcile();
+        
+        assertThat(counter.getCount(Order.OrderStatus.PENDING)).isEqualTo(5);
+        assertThat(drift(Order.OrderStatus.PENDING)).isEqualTo(2);
+        
+        counter.reconcile();
+        
+        assertThat(counter.getCount(Order.OrderStatus.PENDING)).isEqualTo(5);
+        assertThat(drift(Order.OrderStatus.PENDING)).isZero();
+    }
+    
+    @Test
+    void 보정은_음수_차이도_반영한다() {
+        when(orderArchiveRepository.countGroupByStatus()).thenReturn(List.of());
+        when(orderRepository.countGroupByStatus())
+                .thenReturn(List.<Object[]>of(new Object[]{Order.OrderStatus.SHIPPED, 4L}))
+                .thenReturn(List.<Object[]>of(new Object[]{Order.OrderStatus.SHIPPED, 1L}));
+        counter.initialize();
+        
+        counter.reconcile();
+        
+        assertThat(counter.getCount(Order.OrderStatus.SHIPPED)).isEqualTo(1);
+        assertThat(drift(Order.OrderStatus.SHIPPED)).isEqualTo(-3);
+    }
+    
+    private double drift(Order.OrderStatus status) {
+        return meterRegistry.get("orders.status.count.drift").tag("status", status.name()).gauge().value();
+    }
+    
+    private static OrderSnapshot snapshot(Order.OrderStatus status) {
+        return OrderSnapshot.builder()
+                .id(1L)
+                .userId(1L)
+                .status(status)
+                .build();
+    }
+}
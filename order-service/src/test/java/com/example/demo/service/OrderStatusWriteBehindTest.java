@@ -0,0 +1,155 @@
+package com.example.demo.service;
+
+import com.example.demo.config.OrderStatusWriteBehindProperties;
+import com.example.demo.entity.Order;
+import com.example.demo.event.OrderChangeEvent;
+import com.example.demo.exception.QueueFullException;
+import com.example.demo.repository.OrderRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OrderStatusWriteBehindTest {
+    
+    private final OrderRepository orderRepository = mock(OrderRepository.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final OrderStatusWriteBehindProperties properties = new OrderStatusWriteBehindProperties();
+    
+    // 주문 ID -> 현재 상태 (리포지토리 mock이 읽고 쓰는 테이블 대용)
+    private final Map<Long, Order.OrderStatus> table = new ConcurrentHashMap<>();
+    private OrderStatusWriteBehind writeBehind;
+    
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        properties.setEnabled(true);
+        properties.setFlushInterval(Duration.ofMillis(300));
+        properties.setShutdownTimeout(Duration.ofSeconds(5));
+        
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        when(orderRepository.findAllForUpdate(anyCollection())).thenAnswer(invocation ->
+                ((Collection<Long>) invocation.getArgument(0)).stream()
+                        .sorted()
+                        .map(id -> table.containsKey(id) ? order(id, table.get(id)) : null)
+                        .filter(Objects::nonNull)
+                        .toList());
+        when(orderRepository.updateStatusByIds(anyCollection(), any(), any())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            Order.OrderStatus status = invocation.getArgument(1);
+            ids.forEach(id -> table.replace(id, status));
+            return ids.size();
+        });
+        
+        writeBehind = new OrderStatusWriteBehind(orderRepository, eventPublisher, properties, transactionManager, meterRegistry);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        if (writeBehind.isRunning()) {
+            writeBehind.stop();
+        }
+    }
+    
+    @Test
+    void 같은_주문의_연속_변경은_마지막_상태로_한_번만_반영한다() {
+        table.put(1L, Order.OrderStatus.PENDING);
+        writeBehind.start();
+        
+        writeBehind.submit(1L, Order.OrderStatus.CONFIRMED);
+        writeBehind.submit(1L, Order.OrderStatus.SHIPPED);
+        
+        verify(orderRepository, timeout(2000)).updateStatusByIds(
+                eq(List.of(1L)), eq(Order.OrderStatus.SHIPPED), any(LocalDateTime.class));
+        verify(orderRepository, times(1)).updateStatusByIds(anyCollection(), any(), any());
+        assertThat(table).containsEntry(1L, Order.OrderStatus.SHIPPED);
+        
+        ArgumentCaptor<OrderChangeEvent> event = ArgumentCaptor.forClass(OrderChangeEvent.class);
+        verify(eventPublisher, timeout(2000)).publishEvent(event.capture());
+        assertThat(event.getValue().getChanges()).singleElement().satisfies(change -> {
+            assertThat(change.getBefore().getStatus()).isEqualTo(Order.OrderStatus.PENDING);
+            assertThat(change.getAfter().getStatus()).isEqualTo(Order.OrderStatus.SHIPPED);
+        });
+    }
+    
+    @Test
+    void 이미_같은_상태인_주문은_반영하지_않는다() {
+        table.put(1L, Order.OrderStatus.CONFIRMED);
+        writeBehind.start();
+        
+        writeBehind.submit(1L, Order.OrderStatus.CONFIRMED);
+        
+        verify(orderRepository, timeout(2000)).findAllForUpdate(anyCollection());
+        writeBehind.stop();
+        verify(orderRepository, never()).updateStatusByIds(anyCollection(), any(), any());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+    
+    @Test
+    void 종료_시_큐에_남은_변경을_모두_반영한다() {
+        properties.setFlushSize(2);
+        for (long id = 1; id <= 5; id++) {
+            table.put(id, Order.OrderStatus.PENDING);
+        }
+        table.remove(5L);
+        writeBehind.start();
+        
+        for (long id = 1; id <= 5; id++) {
+            writeBehind.submit(id, Order.OrderStatus.CONFIRMED);
+        }
+        writeBehind.stop();
+        
+        assertThat(table).containsOnlyKeys(1L, 2L, 3L, 4L);
+        assertThat(table.values()).containsOnly(Order.OrderStatus.CONFIRMED);
+        assertThat(meterRegistry.counter("orders.status.write-behind.missing").count()).isEqualTo(1);
+        assertThat(writeBehind.isRunning()).isFalse();
+    }
+    
+    @Test
+    void 종료_후에는_변경을_받지_않는다() {
+        writeBehind.start();
+        writeBehind.stop();
+        
+        assertThatThrownBy(() -> writeBehind.submit(1L, Order.OrderStatus.CONFIRMED))
+                .isInstanceOf(QueueFullException.class);
+    }
+    
+    private static Order order(Long id, Order.OrderStatus status) {
+        return Order.builder()
+                .id(id)
+                .userId(1L)
+                .productName("상품")
+                .quantity(1)
+                .price(BigDecimal.valueOf(1000))
+                .status(status)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
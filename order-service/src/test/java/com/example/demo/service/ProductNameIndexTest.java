@@ -0,0 +1,274 @@
+package com.example.demo.service;
+
+import com.example.demo.config.OrderSearchProperties;
+import com.example.demo.entity.Order;
+import com.example.demo.event.OrderChangeEvent;
+import com.example.demo.event.OrderSnapshot;
+import com.example.demo.exception.ServiceUnavailableException;
+import com.example.demo.repository.OrderArchiveRepository;
+import com.example.demo.repository.OrderRepository;
+import com.example.demo.repository.OrderSearchRow;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ProductNameIndexTest {
+    
+    private static final LocalDateTime LOADED = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final LocalDateTime LATER = LOADED.plusMinutes(1);
+    
+    private final OrderRepository orderRepository = mock(OrderRepository.class);
+    private final OrderArchiveRepository orderArchiveRepository = mock(OrderArchiveRepository.class);
+    private final OrderSearchProperties properties = new OrderSearchProperties();
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+    }
+    
+    @Test
+    void 소문자로_바꾸고_글자와_숫자가_아닌_문자로_나눈다() {
+        assertThat(ProductNameIndex.tokenize("Wireless-Keyboard  K380, 무선 키보드 keyboard"))
+                .containsExactly("wireless", "keyboard", "k380", "무선", "키보드");
+        assertThat(ProductNameIndex.tokenize(" -- ")).isEmpty();
+        assertThat(ProductNameIndex.tokenize(null)).isEmpty();
+    }
+    
+    @Test
+    void 토큰마다_접두사로_찾고_모든_토큰을_만족하는_주문만_내림차순으로_반환한다() {
+        ProductNameIndex index = loadedIndex(
+                row(1L, 10L, "무선 키보드", Order.OrderStatus.PENDING),
+                row(2L, 10L, "유선 키보드", Order.OrderStatus.PENDING),
+                row(3L, 20L, "무선 마우스", Order.OrderStatus.PENDING));
+        
+        assertThat(index.search("키보", null, null, null, 10)).containsExactly(2L, 1L);
+        assertThat(index.search("무선 키", null, null, null, 10)).containsExactly(1L);
+        assertThat(index.search("MU 무", null, null, null, 10)).isEmpty();
+        assertThat(index.search("무선", null, 20L, null, 10)).containsExactly(3L);
+    }
+    
+    @Test
+    void 보관_주문도_색인한다() {
+        when(orderRepository.streamSearchRows()).thenReturn(Stream.of(
+                row(2L, 10L, "무선 키보드", Order.OrderStatus.PENDING)));
+        when(orderArchiveRepository.streamSearchRows()).thenReturn(Stream.of(
+                row(1L, 10L, "무선 키보드", Order.OrderStatus.DELIVERED)));
+        ProductNameIndex index = newIndex();
+        index.initialize();
+        
+        assertThat(index.search("키보드", null, null, null, 10)).containsExactly(2L, 1L);
+        assertThat(index.search("키보드", Order.OrderStatus.DELIVERED, null, null, 10)).containsExactly(1L);
+    }
+    
+    @Test
+    void 커서보다_작은_ID만_limit개까지_반환한다() {
+        ProductNameIndex index = loadedIndex(
+                row(1L, 10L, "키보드", Order.OrderStatus.PENDING),
+                row(2L, 10L, "키보드", Order.OrderStatus.PENDING),
+                row(3L, 10L, "키보드", Order.OrderStatus.PENDING),
+                row(4L, 10L, "키보드", Order.OrderStatus.PENDING),
+                row(5L, 10L, "키보드", Order.OrderStatus.PENDING));
+        
+        assertThat(index.search("키보드", null, null, null, 2)).containsExactly(5L, 4L);
+        assertThat(index.search("키보드", null, null, 4L, 2)).containsExactly(3L, 2L);
+        assertThat(index.search("키보드", null, null, 2L, 2)).containsExactly(1L);
+        assertThat(index.search("키보드", null, null, 1L, 2)).isEmpty();
+    }
+    
+    @Test
+    void 적재_중에_커밋된_변경은_적재_후_다시_읽어_반영한다() {
+        when(orderRepository.streamSearchRows()).thenReturn(Stream.of(
+                row(1L, 10L, "무선 키보드", Order.OrderStatus.PENDING),
+                row(2L, 10L, "유선 마우스", Order.OrderStatus.PENDING)));
+        when(orderArchiveRepository.streamSearchRows()).thenReturn(Stream.empty());
+        when(orderRepository.findSearchRowsByIds(anyCollection())).thenReturn(List.of(
+                row(1L, 10L, "무선 키보드", Order.OrderStatus.CANCELLED, LATER),
+                row(2L, 10L, "무선 마우스", Order.OrderStatus.PENDING, LATER),
+                row(3L, 10L, "무선 키보드 세트", Order.OrderStatus.PENDING, LATER)));
+        ProductNameIndex index = newIndex();
+        
+        // 적재 전에 도착한 이벤트 (상태 변경, 상품명 변경, 새 주문) - 주문 ID만 모아 두었다가 적재 후 다시 읽는다
+        OrderSnapshot keyboard = snapshot(1L, "무선 키보드", Order.OrderStatus.PENDING);
+        index.onOrderChange(OrderChangeEvent.changed(keyboard, keyboard.toBuilder().status(Order.OrderStatus.CANCELLED).build()));
+        OrderSnapshot mouse = snapshot(2L, "유선 마우스", Order.OrderStatus.PENDING);
+        index.onOrderChange(OrderChangeEvent.changed(mouse, mouse.toBuilder().productName("무선 마우스").build()));
+        index.onOrderChange(OrderChangeEvent.created(snapshot(3L, "무선 키보드 세트", Order.OrderStatus.PENDING)));
+        verify(orderRepository, never()).findSearchRowsByIds(anyCollection());
+        
+        index.initialize();
+        
+        assertThat(index.search("키보드", Order.OrderStatus.PENDING, null, null, 10)).containsExactly(3L);
+        assertThat(index.search("키보드", Order.OrderStatus.CANCELLED, null, null, 10)).containsExactly(1L);
+        assertThat(index.search("유선", null, null, null, 10)).isEmpty();
+        assertThat(index.search("무선", null, null, null, 10)).containsExactly(3L, 2L, 1L);
+    }
+    
+    @Test
+    void 늦게_도착한_이전_값은_무시한다() {
+        ProductNameIndex index = loadedIndex(row(1L, 10L, "무선 키보드", Order.OrderStatus.PENDING));
+        // 나중 커밋의 리스너가 먼저 실행되어 최신 값을 읽고, 앞선 커밋의 리스너가 이전 값을 늦게 읽은 경우
+        when(orderRepository.findSearchRowsByIds(anyCollection()))
+                .thenReturn(List.of(row(1L, 10L, "무선 키보드", Order.OrderStatus.SHIPPED, LATER.plusSeconds(1))))
+                .thenReturn(List.of(row(1L, 10L, "무선 키보드", Order.OrderStatus.CONFIRMED, LATER)));
+        
+        OrderSnapshot keyboard = snapshot(1L, "무선 키보드", Order.OrderStatus.CONFIRMED);
+        index.onOrderChange(OrderChangeEvent.changed(keyboard, keyboard.toBuilder().status(Order.OrderStatus.SHIPPED).build()));
+        index.onOrderChange(OrderChangeEvent.changed(keyboard.toBuilder().status(Order.OrderStatus.PENDING).build(), keyboard));
+        
+        assertThat(index.search("키보드", Order.OrderStatus.SHIPPED, null, null, 10)).containsExactly(1L);
+        assertThat(index.search("키보드", Order.OrderStatus.CONFIRMED, null, null, 10)).isEmpty();
+        assertThat(index.search("키보드", Order.OrderStatus.PENDING, null, null, 10)).isEmpty();
+    }
+    
+    @Test
+    void 보관된_주문은_보관_테이블에서_다시_읽는다() {
+        ProductNameIndex index = loadedIndex(row(1L, 10L, "무선 키보드", Order.OrderStatus.SHIPPED));
+        when(orderRepository.findSearchRowsByIds(anyCollection())).thenReturn(List.of());
+        when(orderArchiveRepository.findSearchRowsByIds(Set.of(1L))).thenReturn(List.of(
+                row(1L, 10L, "무선 키보드", Order.OrderStatus.DELIVERED, LATER)));
+        
+        OrderSnapshot keyboard = snapshot(1L, "무선 키보드", Order.OrderStatus.SHIPPED);
+        index.onOrderChange(OrderChangeEvent.changed(keyboard, keyboard.toBuilder().status(Order.OrderStatus.DELIVERED).build()));
+        
+        assertThat(index.search("키보드", Order.OrderStatus.DELIVERED, null, null, 10)).containsExactly(1L);
+    }
+    
+    @Test
+    void 다시_읽기에_실패한_주문은_다음_변경_반영_때_함께_다시_읽는다() {
+        ProductNameIndex index = loadedIndex(
+                row(1L, 10L, "무선 키보드", Order.OrderStatus.PENDING),
+                row(2L, 10L, "무선 마우스", Order.OrderStatus.PENDING));
+        when(orderRepository.findSearchRowsByIds(anyCollection()))
+                .thenThrow(new RuntimeException("connection reset"))
+                .thenReturn(List.of(
+                        row(1L, 10L, "무선 키보드", Order.OrderStatus.CANCELLED, LATER),
+                        row(2L, 10L, "무선 마우스", Order.OrderStatus.SHIPPED, LATER)));
+        
+        OrderSnapshot keyboard = snapshot(1L, "무선 키보드", Order.OrderStatus.PENDING);
+        index.onOrderChange(OrderChangeEvent.changed(keyboard, keyboard.toBuilder().status(Order.OrderStatus.CANCELLED).build()));
+        assertThat(index.search("키보드", Order.OrderStatus.PENDING, null, null, 10)).containsExactly(1L);
+        assertThat(meterRegistry.get("orders.search.refresh.failures").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("orders.search.refresh.pending").gauge().value()).isEqualTo(1.0);
+        
+        OrderSnapshot mouse = snapshot(2L, "무선 마우스", Order.OrderStatus.PENDING);
+        index.onOrderChange(OrderChangeEvent.changed(mouse, mouse.toBuilder().status(Order.OrderStatus.SHIPPED).build()));
+        
+        verify(orderRepository).findSearchRowsByIds(Set.of(1L));
+        verify(orderRepository).findSearchRowsByIds(Set.of(2L, 1L));
+        assertThat(index.search("키보드", Order.OrderStatus.CANCELLED, null, null, 10)).containsExactly(1L);
+        assertThat(index.search("마우스", Order.OrderStatus.SHIPPED, null, null, 10)).containsExactly(2L);
+        assertThat(meterRegistry.get("orders.search.refresh.pending").gauge().value()).isZero();
+    }
+    
+    @Test
+    void 다시_읽기에_실패한_주문은_주기적으로_재시도한다() {
+        ProductNameIndex index = loadedIndex(row(1L, 10L, "무선 키보드", Order.OrderStatus.PENDING));
+        when(orderRepository.findSearchRowsByIds(anyCollection()))
+                .thenThrow(new RuntimeException("connection reset"))
+                .thenReturn(List.of(row(1L, 10L, "무선 키보드", Order.OrderStatus.CANCELLED, LATER)));
+        
+        OrderSnapshot keyboard = snapshot(1L, "무선 키보드", Order.OrderStatus.PENDING);
+        index.onOrderChange(OrderChangeEvent.changed(keyboard, keyboard.toBuilder().status(Order.OrderStatus.CANCELLED).build()));
+        index.retryPending();
+        
+        assertThat(index.search("키보드", Order.OrderStatus.CANCELLED, null, null, 10)).containsExactly(1L);
+        assertThat(meterRegistry.get("orders.search.refresh.failures").counter().count()).isEqualTo(1.0);
+    }
+    
+    @Test
+    void 적재_후_다시_읽기에_실패해도_검색을_열고_나중에_다시_읽는다() {
+        when(orderRepository.streamSearchRows()).thenReturn(Stream.of(row(1L, 10L, "무선 키보드", Order.OrderStatus.PENDING)));
+        when(orderArchiveRepository.streamSearchRows()).thenReturn(Stream.empty());
+        when(orderRepository.findSearchRowsByIds(anyCollection()))
+                .thenThrow(new RuntimeException("connection reset"))
+                .thenReturn(List.of(row(1L, 10L, "무선 키보드", Order.OrderStatus.CANCELLED, LATER)));
+        ProductNameIndex index = newIndex();
+        OrderSnapshot keyboard = snapshot(1L, "무선 키보드", Order.OrderStatus.PENDING);
+        index.onOrderChange(OrderChangeEvent.changed(keyboard, keyboard.toBuilder().status(Order.OrderStatus.CANCELLED).build()));
+        
+        index.initialize();
+        
+        assertThat(index.search("키보드", Order.OrderStatus.PENDING, null, null, 10)).containsExactly(1L);
+        assertThat(meterRegistry.get("orders.search.refresh.pending").gauge().value()).isEqualTo(1.0);
+        
+        index.retryPending();
+        
+        assertThat(index.search("키보드", Order.OrderStatus.CANCELLED, null, null, 10)).containsExactly(1L);
+        assertThat(meterRegistry.get("orders.search.refresh.pending").gauge().value()).isZero();
+    }
+    
+    @Test
+    void 적재가_끝나기_전에는_검색할_수_없다() {
+        ProductNameIndex index = newIndex();
+        
+        assertThatThrownBy(() -> index.search("키보드", null, null, null, 10))
+                .isInstanceOf(ServiceUnavailableException.class);
+    }
+    
+    @Test
+    void 접두사가_너무_많은_색인어로_펼쳐지면_거부한다() {
+        properties.setMaxPrefixExpansions(2);
+        ProductNameIndex index = loadedIndex(
+                row(1L, 10L, "ka", Order.OrderStatus.PENDING),
+                row(2L, 10L, "kb", Order.OrderStatus.PENDING),
+                row(3L, 10L, "kc", Order.OrderStatus.PENDING));
+        
+        assertThat(index.search("ka", null, null, null, 10)).containsExactly(1L);
+        assertThatThrownBy(() -> index.search("k", null, null, null, 10))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("색인어가 너무 많습니다");
+    }
+    
+    private ProductNameIndex loadedIndex(OrderSearchRow... rows) {
+        when(orderRepository.streamSearchRows()).thenReturn(Stream.of(rows));
+        when(orderArchiveRepository.streamSearchRows()).thenReturn(Stream.empty());
+        ProductNameIndex index = newIndex();
+        index.initialize();
+        return index;
+    }
+    
+    private ProductNameIndex newIndex() {
+        return new ProductNameIndex(orderRepository, orderArchiveRepository, properties, transactionManager,
+                meterRegistry);
+    }
+    
+    private static OrderSearchRow row(Long id, Long userId, String productName, Order.OrderStatus status) {
+        return row(id, userId, productName, status, LOADED);
+    }
+    
+    private static OrderSearchRow row(Long id, Long userId, String productName, Order.OrderStatus status,
+                                      LocalDateTime updatedAt) {
+        return new OrderSearchRow(id, userId, productName, status, updatedAt);
+    }
+    
+    private static OrderSnapshot snapshot(Long id, String productName, Order.OrderStatus status) {
+        return OrderSnapshot.builder()
+                .id(id)
+                .userId(10L)
+                .productName(productName)
+                .quantity(1)
+                .price(BigDecimal.valueOf(1000))
+                .status(status)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
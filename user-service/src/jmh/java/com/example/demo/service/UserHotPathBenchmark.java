@@ -0,0 +1,115 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.UserRequest;
+import com.example.demo.dto.UserResponse;
+import com.example.demo.entity.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * 사용자 요청 처리 경로의 CPU 작업 벤치마크
+ * 엔티티 -> DTO 변환, Lombok 빌더, Jackson 직렬화/역직렬화, Bean Validation 검증
+ */
+@State(Scope.Benchmark)
+public class UserHotPathBenchmark {
+    
+    private User user;
+    private UserResponse response;
+    private UserRequest validRequest;
+    private UserRequest invalidRequest;
+    private byte[] requestJson;
+    
+    private ObjectWriter responseWriter;
+    private ObjectReader requestReader;
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    
+    @Setup
+    public void setup() throws IOException {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 12, 30, 15, 123_000_000);
+        user = User.builder()
+                .id(42L)
+                .name("홍길동")
+                .email("hong@example.com")
+                .status(User.UserStatus.ACTIVE)
+                .createdAt(createdAt)
+                .updatedAt(createdAt.plusMinutes(5))
+                .build();
+        response = UserService.convertToResponseDto(user);
+        
+        validRequest = UserRequest.builder()
+                .name("홍길동")
+                .email("hong@example.com")
+                .build();
+        invalidRequest = UserRequest.builder()
+                .name("홍")
+                .email("not-an-email")
+                .build();
+        
+        // Spring Boot 기본 ObjectMapper와 같은 설정 (JavaTimeModule, 날짜는 ISO 문자열)
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        responseWriter = objectMapper.writerFor(UserResponse.class);
+        requestReader = objectMapper.readerFor(UserRequest.class);
+        requestJson = objectMapper.writeValueAsBytes(validRequest);
+        
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+    }
+    
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+    
+    @Benchmark
+    public UserResponse convertToResponseDto() {
+        return UserService.convertToResponseDto(user);
+    }
+    
+    @Benchmark
+    public User buildEntity() {
+        return User.builder()
+                .name(validRequest.getName())
+                .email(validRequest.getEmail())
+                .status(User.UserStatus.ACTIVE)
+                .build();
+    }
+    
+    @Benchmark
+    public byte[] serializeResponse() throws IOException {
+        return responseWriter.writeValueAsBytes(response);
+    }
+    
+    @Benchmark
+    public UserRequest deserializeRequest() throws IOException {
+        return requestReader.readValue(requestJson);
+    }
+    
+    @Benchmark
+    public Set<ConstraintViolation<UserRequest>> validateValidRequest() {
+        return validator.validate(validRequest);
+    }
+    
+    @Benchmark
+    public Set<ConstraintViolation<UserRequest>> validateInvalidRequest() {
+        return validator.validate(invalidRequest);
+    }
+}
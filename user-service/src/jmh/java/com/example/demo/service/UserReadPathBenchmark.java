@@ -0,0 +1,144 @@
+package com.example.demo.service;
+
+import com.example.demo.DemoApplication;
+import com.example.demo.dto.UserResponse;
+import com.example.demo.entity.User;
+import com.example.demo.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * 조회 경로 벤치마크 - 2차 캐시 조회 vs DB 조회 (DTO 생성자 프로젝션), 엔티티 목록 vs 프로젝션 목록
+ * H2 인메모리 DB와 l2-cache 프로필로 컨텍스트를 띄우고 서비스와 같은 읽기 전용 트랜잭션 안에서 조회한다.
+ * gc.alloc.rate.norm(연산당 할당량)에 엔티티 인스턴스, 영속성 컨텍스트 등록, 로드 이벤트 처리 비용이 함께 드러난다.
+ */
+@State(Scope.Benchmark)
+public class UserReadPathBenchmark {
+    
+    private static final int USER_COUNT = 1000;
+    private static final int BATCH_SIZE = 100;
+    private static final int PAGE_SIZE = 20;
+    private static final String RESPONSE_SELECT =
+            "SELECT new com.example.demo.dto.UserResponse(u.id, u.name, u.email, u.status, u.createdAt, u.updatedAt) FROM User u ";
+    
+    private ConfigurableApplicationContext context;
+    private UserRepository userRepository;
+    private EntityManager entityManager;
+    private TransactionTemplate readOnlyTransaction;
+    
+    private Long userId;
+    private String email;
+    private List<Long> batchIds;
+    
+    @Setup
+    public void setup() {
+        context = new SpringApplicationBuilder(DemoApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("l2-cache")
+                .logStartupInfo(false)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:read-path-benchmark",
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.format_sql=false",
+                        "spring.jpa.properties.hibernate.generate_statistics=false",
+                        "logging.level.root=WARN",
+                        "logging.level.com.example.demo=WARN")
+                .run();
+        userRepository = context.getBean(UserRepository.class);
+        entityManager = context.getBean(EntityManager.class);
+        PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+        
+        List<User> users = new TransactionTemplate(transactionManager).execute(status -> userRepository.saveAll(
+                IntStream.range(0, USER_COUNT)
+                        .mapToObj(i -> User.builder()
+                                .name("사용자" + i)
+                                .email("user" + i + "@example.com")
+                                .status(User.UserStatus.ACTIVE)
+                                .build())
+                        .toList()));
+        userId = users.get(USER_COUNT / 2).getId();
+        email = users.get(USER_COUNT / 2).getEmail();
+        batchIds = users.stream().limit(BATCH_SIZE).map(User::getId).toList();
+        
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+    
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+    
+    @Benchmark
+    public UserResponse findByIdCached() {
+        return readOnlyTransaction.execute(status ->
+                UserService.convertToResponseDto(userRepository.findById(userId).orElseThrow()));
+    }
+    
+    @Benchmark
+    public UserResponse findByIdQuery() {
+        return readOnlyTransaction.execute(status -> entityManager
+                .createQuery(RESPONSE_SELECT + "WHERE u.id = :id", UserResponse.class)
+                .setParameter("id", userId)
+                .getSingleResult());
+    }
+    
+    @Benchmark
+    public UserResponse findByEmailCached() {
+        return readOnlyTransaction.execute(status ->
+                UserService.convertToResponseDto(userRepository.findByEmailNaturalId(email).orElseThrow()));
+    }
+    
+    @Benchmark
+    public UserResponse findByEmailQuery() {
+        return readOnlyTransaction.execute(status -> entityManager
+                .createQuery(RESPONSE_SELECT + "WHERE u.email = :email", UserResponse.class)
+                .setParameter("email", email)
+                .getSingleResult());
+    }
+    
+    @Benchmark
+    public List<UserResponse> findByIdsCached() {
+        return readOnlyTransaction.execute(status -> userRepository.findAllByIdThroughCache(batchIds).stream()
+                .map(UserService::convertToResponseDto)
+                .toList());
+    }
+    
+    @Benchmark
+    public List<UserResponse> findByIdsQuery() {
+        return readOnlyTransaction.execute(status -> entityManager
+                .createQuery(RESPONSE_SELECT + "WHERE u.id IN :ids", UserResponse.class)
+                .setParameter("ids", batchIds)
+                .getResultList());
+    }
+    
+    @Benchmark
+    public List<UserResponse> pageEntity() {
+        return readOnlyTransaction.execute(status -> userRepository.findBy(Specification.<User>allOf(), query -> query
+                        .sortBy(Sort.by(Sort.Direction.DESC, "id"))
+                        .limit(PAGE_SIZE + 1)
+                        .all())
+                .stream()
+                .map(UserService::convertToResponseDto)
+                .toList());
+    }
+    
+    @Benchmark
+    public List<UserResponse> pageProjection() {
+        return readOnlyTransaction.execute(status -> userRepository.findResponses(Specification.<User>allOf(), PAGE_SIZE + 1));
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.demo.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.io.ConnectionEndpoint;
+import org.apache.hc.client5.http.io.LeaseRequest;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 지표를 남기는 HTTP 연결 풀
+ * 풀에서 연결을 빌리기까지 기다린 시간과 빌린 횟수, 새로 연결한 횟수를 기록한다.
+ * 새 연결은 빌린 연결이 아직 연결되지 않았을 때만 생기므로 1 - (연결 수 / 대여 수)가 연결 재사용률이 된다.
+ */
+public class InstrumentedConnectionManager extends PoolingHttpClientConnectionManager {
+    
+    private final Timer leaseTimer;
+    private final Counter leases;
+    private final Counter connects;
+    
+    public InstrumentedConnectionManager(String poolName, MeterRegistry meterRegistry) {
+        this.leaseTimer = Timer.builder("http.client.pool.lease")
+                .description("풀에서 연결을 빌리기까지 기다린 시간")
+                .tag("pool", poolName)
+                .register(meterRegistry);
+        this.leases = Counter.builder("http.client.pool.leases")
+                .description("풀에서 연결을 빌린 횟수")
+                .tag("pool", poolName)
+                .register(meterRegistry);
+        this.connects = Counter.builder("http.client.pool.connects")
+                .description("새로 연결한 횟수 (재사용하지 못한 대여)")
+                .tag("pool", poolName)
+                .register(meterRegistry);
+        Gauge.builder("http.client.pool.reuse.ratio", this, InstrumentedConnectionManager::reuseRatio)
+                .description("연결 재사용률 (시작 이후 누적)")
+                .tag("pool", poolName)
+                .register(meterRegistry);
+    }
+    
+    @Override
+    public LeaseRequest lease(String id, HttpRoute route, Timeout requestTimeout, Object state) {
+        LeaseRequest leaseRequest = super.lease(id, route, requestTimeout, state);
+        long start = System.nanoTime();
+        return new LeaseRequest() {
+            
+            @Override
+            public ConnectionEndpoint get(Timeout timeout) throws InterruptedException, ExecutionException, TimeoutException {
+                try {
+                    ConnectionEndpoint endpoint = leaseRequest.get(timeout);
+                    leases.increment();
+                    return endpoint;
+                } finally {
+                    leaseTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                }
+            }
+            
+            @Override
+            public boolean cancel() {
+                return leaseRequest.cancel();
+            }
+        };
+    }
+    
+    @Override
+    public void connect(ConnectionEndpoint endpoint, TimeValue timeout, HttpContext context) throws IOException {
+        super.connect(endpoint, timeout, context);
+        connects.increment();
+    }
+    
+    private double reuseRatio() {
+        double leaseCount = leases.count();
+        return leaseCount == 0 ? 0 : 1 - connects.count() / leaseCount;
+    }
+}
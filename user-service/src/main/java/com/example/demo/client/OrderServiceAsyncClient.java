@@ -0,0 +1,78 @@
+package com.example.demo.client;
+
+import com.example.demo.config.OrderServiceProperties;
+import com.example.demo.dto.OrderResponse;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * order-service 비동기 클라이언트 (WebClient)
+ * 호출 스레드를 막지 않으므로 여러 조회를 동시에 보내고 함께 기다릴 때 사용한다.
+ * 동기 클라이언트와 같은 서킷 브레이커/동시 호출 제한으로 보호하며, 각 호출에 요약 제한 시간을 적용해 타임아웃도 실패로 집계한다.
+ */
+@Component
+public class OrderServiceAsyncClient {
+    
+    private static final ParameterizedTypeReference<List<OrderResponse>> ORDER_LIST_TYPE =
+            new ParameterizedTypeReference<>() {};
+    
+    private static final String CLIENT_NAME = "order-service";
+    
+    private final WebClient webClient;
+    private final ResilientExecutor executor;
+    private final Duration timeout;
+    
+    public OrderServiceAsyncClient(WebClient.Builder webClientBuilder,
+                                   OrderServiceProperties properties,
+                                   CircuitBreakerRegistry circuitBreakerRegistry,
+                                   BulkheadRegistry bulkheadRegistry,
+                                   MeterRegistry meterRegistry) {
+        this.webClient = webClientBuilder
+                .baseUrl(properties.getUrl())
+                .build();
+        this.executor = new ResilientExecutor(CLIENT_NAME, circuitBreakerRegistry, bulkheadRegistry, meterRegistry);
+        this.timeout = properties.getSummaryTimeout();
+    }
+    
+    /**
+     * 사용자의 주문 목록 조회
+     */
+    public Mono<List<OrderResponse>> getUserOrders(Long userId) {
+        return executor.executeAsync(() -> webClient.get()
+                .uri("/api/v1/orders/user/{userId}", userId)
+                .retrieve()
+                .bodyToMono(ORDER_LIST_TYPE)
+                .timeout(timeout));
+    }
+    
+    /**
+     * 사용자별 주문 수 조회
+     */
+    public Mono<Long> getOrderCount(Long userId) {
+        return executor.executeAsync(() -> webClient.get()
+                .uri("/api/v1/orders/count/user/{userId}", userId)
+                .retrieve()
+                .bodyToMono(Long.class)
+                .timeout(timeout));
+    }
+    
+    /**
+     * 사용자별 총 주문 금액 조회
+     */
+    public Mono<BigDecimal> getTotalAmount(Long userId) {
+        return executor.executeAsync(() -> webClient.get()
+                .uri("/api/v1/orders/total/user/{userId}", userId)
+                .retrieve()
+                .bodyToMono(BigDecimal.class)
+                .timeout(timeout));
+    }
+}
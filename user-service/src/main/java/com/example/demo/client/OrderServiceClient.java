@@ -7,7 +7,9 @@ import org.springframework.web.bind.annotation.PathVariable;
 
 import java.util.List;
 
-@FeignClient(name = "order-service", url = "http://localhost:8082")
+// 호출부에서는 서킷 브레이커가 적용된 ResilientOrderServiceClient(@Primary)가 주입된다
+@FeignClient(name = "order-service", url = "${app.order-service.url:http://localhost:8082}",
+        qualifiers = "orderServiceFeignClient", primary = false)
 public interface OrderServiceClient {
     
     /**
@@ -0,0 +1,128 @@
+package com.example.demo.client;
+
+import com.example.demo.exception.ServiceUnavailableException;
+import feign.FeignException;
+import feign.RetryableException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Supplier;
+
+/**
+ * 원격 호출 보호 실행기 (동시 호출 제한 -> 서킷 브레이커 -> 호출)
+ * 동시 호출 한도를 넘거나 서킷이 열려 있으면 기다리지 않고 바로 대체 응답을 사용하므로,
+ * 느려진 의존 서비스가 요청 스레드를 붙잡아 두지 않는다.
+ * 4xx 응답(404 포함)은 그대로 전달하고, 타임아웃/5xx/거절만 대체 응답 대상으로 본다.
+ */
+@Slf4j
+public class ResilientExecutor {
+    
+    private final String name;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final Counter circuitOpenRejections;
+    private final Counter bulkheadRejections;
+    private final Counter fallbackServed;
+    private final Counter fallbackMissed;
+    
+    public ResilientExecutor(String name,
+                             CircuitBreakerRegistry circuitBreakerRegistry,
+                             BulkheadRegistry bulkheadRegistry,
+                             MeterRegistry meterRegistry) {
+        this.name = name;
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(name);
+        this.bulkhead = bulkheadRegistry.bulkhead(name);
+        this.circuitOpenRejections = rejectionCounter(meterRegistry, "circuit_open");
+        this.bulkheadRejections = rejectionCounter(meterRegistry, "bulkhead_full");
+        this.fallbackServed = fallbackCounter(meterRegistry, "last_known_good");
+        this.fallbackMissed = fallbackCounter(meterRegistry, "unavailable");
+    }
+    
+    /**
+     * 보호된 호출 실행
+     *
+     * @param call     원격 호출
+     * @param fallback 호출할 수 없을 때 사용할 대체 응답 (없으면 null 반환)
+     * @throws ServiceUnavailableException 호출할 수 없고 대체 응답도 없는 경우
+     */
+    public <T> T execute(Supplier<T> call, Supplier<T> fallback) {
+        Supplier<T> protectedCall = Bulkhead.decorateSupplier(bulkhead,
+                CircuitBreaker.decorateSupplier(circuitBreaker, call));
+        try {
+            return protectedCall.get();
+        } catch (CallNotPermittedException e) {
+            circuitOpenRejections.increment();
+            return fallback(fallback, e);
+        } catch (BulkheadFullException e) {
+            bulkheadRejections.increment();
+            return fallback(fallback, e);
+        } catch (RetryableException | FeignException.FeignServerException e) {
+            return fallback(fallback, e);
+        }
+    }
+    
+    /**
+     * 보호된 비동기 호출 실행
+     * 구독 시점에 허가를 얻고 결과 신호로 서킷 브레이커에 기록하며, 종료/취소 시 동시 호출 허가를 반납한다.
+     * 허가를 얻지 못하면 호출하지 않고 BulkheadFullException / CallNotPermittedException 으로 끝난다.
+     *
+     * @param call 원격 호출 (제한 시간을 포함해야 타임아웃이 실패로 집계된다)
+     */
+    public <T> Mono<T> executeAsync(Supplier<Mono<T>> call) {
+        return Mono.defer(() -> {
+            if (!bulkhead.tryAcquirePermission()) {
+                bulkheadRejections.increment();
+                return Mono.error(BulkheadFullException.createBulkheadFullException(bulkhead));
+            }
+            if (!circuitBreaker.tryAcquirePermission()) {
+                bulkhead.onComplete();
+                circuitOpenRejections.increment();
+                return Mono.error(CallNotPermittedException.createCallNotPermittedException(circuitBreaker));
+            }
+            
+            long start = circuitBreaker.getCurrentTimestamp();
+            return call.get()
+                    .doOnSuccess(value -> circuitBreaker.onSuccess(
+                            circuitBreaker.getCurrentTimestamp() - start, circuitBreaker.getTimestampUnit()))
+                    .doOnError(e -> circuitBreaker.onError(
+                            circuitBreaker.getCurrentTimestamp() - start, circuitBreaker.getTimestampUnit(), e))
+                    .doOnCancel(circuitBreaker::releasePermission)
+                    .doFinally(signal -> bulkhead.onComplete());
+        });
+    }
+    
+    private <T> T fallback(Supplier<T> fallback, RuntimeException cause) {
+        T value = fallback.get();
+        if (value != null) {
+            fallbackServed.increment();
+            log.warn("{} 호출 불가 - 마지막 정상 응답 사용, 원인: {}", name, cause.getMessage());
+            return value;
+        }
+        fallbackMissed.increment();
+        throw new ServiceUnavailableException(name + " 서비스를 호출할 수 없습니다: " + cause.getMessage(), cause);
+    }
+    
+    private Counter rejectionCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("resilience.calls.rejected")
+                .description("호출 전에 거절된 원격 호출 수")
+                .tag("client", name)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+    
+    private Counter fallbackCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("resilience.fallback")
+                .description("호출 불가 시 대체 응답 결과")
+                .tag("client", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
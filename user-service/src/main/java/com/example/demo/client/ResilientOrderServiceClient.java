@@ -0,0 +1,74 @@
+package com.example.demo.client;
+
+import com.example.demo.config.ResilienceProperties;
+import com.example.demo.dto.OrderResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import feign.FeignException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 보호된 order-service 클라이언트
+ * Feign 클라이언트를 서킷 브레이커와 동시 호출 제한으로 감싸고, 호출할 수 없으면 마지막 정상 응답을 반환한다.
+ */
+@Component
+@Primary
+public class ResilientOrderServiceClient implements OrderServiceClient {
+    
+    private static final String CLIENT_NAME = "order-service";
+    
+    private final OrderServiceClient delegate;
+    private final ResilientExecutor executor;
+    private final Cache<Long, List<OrderResponse>> lastKnownUserOrders;
+    private final Cache<Long, OrderResponse> lastKnownOrders;
+    
+    public ResilientOrderServiceClient(@Qualifier("orderServiceFeignClient") OrderServiceClient delegate,
+                                       ResilienceProperties properties,
+                                       CircuitBreakerRegistry circuitBreakerRegistry,
+                                       BulkheadRegistry bulkheadRegistry,
+                                       MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.executor = new ResilientExecutor(CLIENT_NAME, circuitBreakerRegistry, bulkheadRegistry, meterRegistry);
+        this.lastKnownUserOrders = Caffeine.newBuilder()
+                .maximumSize(properties.getLastKnownGoodSize())
+                .build();
+        this.lastKnownOrders = Caffeine.newBuilder()
+                .maximumSize(properties.getLastKnownGoodSize())
+                .build();
+    }
+    
+    @Override
+    public List<OrderResponse> getUserOrders(Long userId) {
+        try {
+            return executor.execute(() -> {
+                List<OrderResponse> orders = delegate.getUserOrders(userId);
+                lastKnownUserOrders.put(userId, orders);
+                return orders;
+            }, () -> lastKnownUserOrders.getIfPresent(userId));
+        } catch (FeignException.NotFound e) {
+            lastKnownUserOrders.invalidate(userId);
+            throw e;
+        }
+    }
+    
+    @Override
+    public OrderResponse getOrderById(Long orderId) {
+        try {
+            return executor.execute(() -> {
+                OrderResponse order = delegate.getOrderById(orderId);
+                lastKnownOrders.put(orderId, order);
+                return order;
+            }, () -> lastKnownOrders.getIfPresent(orderId));
+        } catch (FeignException.NotFound e) {
+            lastKnownOrders.invalidate(orderId);
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.demo.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "app.email-filter")
+public class EmailFilterProperties {
+    
+    // 이메일 존재 여부 필터 사용 여부 (false면 항상 DB 확인)
+    private boolean enabled = true;
+    
+    // 예상 사용자 수 (이 수를 넘으면 오탐률이 설정값보다 커진다)
+    private long expectedInsertions = 1_000_000;
+    
+    // 목표 오탐률 (필터가 있다고 했지만 실제로는 없는 비율)
+    private double falsePositiveRate = 0.01;
+}
@@ -0,0 +1,23 @@
+package com.example.demo.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Feign HTTP 연결 풀 추가 설정
+ * 전체/기본 경로별 연결 수와 TTL은 spring.cloud.openfeign.httpclient.* 설정을 따른다.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.http-client")
+public class HttpClientProperties {
+    
+    // 이 시간 이상 쓰이지 않은 연결은 백그라운드에서 닫는다
+    private Duration idleTimeout = Duration.ofSeconds(30);
+    
+    // 경로별 최대 연결 수 (키: scheme://host:port)
+    private Map<String, Integer> maxConnectionsPerRoute = new HashMap<>();
+}
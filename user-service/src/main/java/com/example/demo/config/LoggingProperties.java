@@ -0,0 +1,24 @@
+package com.example.demo.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 요청 로그 설정 (app.logging, 요청 단위 샘플링과 prod 프로필 비동기 로그 큐)
+ */
+@Data
+@ConfigurationProperties(prefix = "app.logging")
+public class LoggingProperties {
+    
+    // 요청 내부 INFO 이하 로그를 남길 요청 비율 (1.0이면 전부, prod 프로필에서만 필터가 적용됨)
+    private double sampleRate = 1.0;
+    
+    // 요청당 접근 로그 기록 여부
+    private boolean accessLog = true;
+    
+    // 비동기 로그 큐 크기 (logback-spring.xml prod 설정에서 사용)
+    private int queueSize = 8192;
+    
+    // 큐 남은 용량이 이 값보다 작으면 INFO 이하 로그를 버림 (logback-spring.xml prod 설정에서 사용)
+    private int discardingThreshold = 1638;
+}
@@ -0,0 +1,47 @@
+package com.example.demo.config;
+
+import com.example.demo.metrics.StatementCountingInspector;
+import io.micrometer.core.instrument.config.MeterFilter;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 지표 설정
+ * 태그 값 종류가 무한히 늘지 않도록 uri 태그 수를 제한하고, 사용자 식별 정보가 태그로 남지 않게 한다.
+ */
+@Configuration
+public class MetricsConfig {
+    
+    // 지표별 uri 태그 최대 개수 (초과분은 기록하지 않음)
+    private static final int MAX_URI_TAGS = 100;
+    
+    @Bean
+    public MeterFilter serverUriTagLimit() {
+        return MeterFilter.maximumAllowableTags("http.server.requests", "uri", MAX_URI_TAGS, MeterFilter.deny());
+    }
+    
+    @Bean
+    public MeterFilter clientUriTagLimit() {
+        return MeterFilter.maximumAllowableTags("http.client.requests", "uri", MAX_URI_TAGS, MeterFilter.deny());
+    }
+    
+    @Bean
+    public MeterFilter statementUriTagLimit() {
+        return MeterFilter.maximumAllowableTags("hibernate.statements.per.request", "uri", MAX_URI_TAGS, MeterFilter.deny());
+    }
+    
+    @Bean
+    public MeterFilter userIdentifierTagFilter() {
+        return MeterFilter.ignoreTags("userId", "user_id", "email");
+    }
+    
+    /**
+     * 요청당 SQL 실행 횟수 집계기 등록
+     */
+    @Bean
+    public HibernatePropertiesCustomizer statementCountingCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new StatementCountingInspector());
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.demo.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "app.order-service")
+public class OrderServiceProperties {
+    
+    // order-service 주소 (Feign 클라이언트와 WebClient가 함께 사용)
+    private String url = "http://localhost:8082";
+    
+    // 사용자 요약 조회 시 order-service 병렬 호출 전체에 적용되는 제한 시간
+    private Duration summaryTimeout = Duration.ofSeconds(2);
+}
@@ -0,0 +1,15 @@
+package com.example.demo.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "app.outbox")
+public class OutboxProperties {
+    
+    // 피드 순번 부여 주기 (밀리초) - 커밋된 이벤트가 피드에 나타나기까지의 지연
+    private long sequenceIntervalMs = 200;
+    
+    // 한 트랜잭션에서 순번을 부여할 최대 이벤트 수
+    private int sequenceBatchSize = 1000;
+}
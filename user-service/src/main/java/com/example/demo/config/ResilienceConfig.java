@@ -0,0 +1,58 @@
+package com.example.demo.config;
+
+import feign.FeignException;
+import feign.RetryableException;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 서비스 간 호출 보호 설정
+ * 타임아웃(RetryableException, TimeoutException), 연결 실패와 5xx 응답만 실패로 집계하고, 404 등 4xx 응답은 정상 응답으로 보고 집계에서 제외한다.
+ * Feign(동기)과 WebClient(비동기) 호출이 같은 서킷 브레이커와 동시 호출 제한을 공유한다.
+ * resilience4j.circuitbreaker.* (상태, 호출 결과, 차단된 호출 수), resilience4j.bulkhead.* 지표를 등록한다.
+ */
+@Configuration
+public class ResilienceConfig {
+    
+    @Bean
+    public CircuitBreakerRegistry circuitBreakerRegistry(ResilienceProperties properties, MeterRegistry meterRegistry) {
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .failureRateThreshold(properties.getFailureRateThreshold())
+                .slowCallDurationThreshold(properties.getSlowCallDurationThreshold())
+                .slowCallRateThreshold(properties.getSlowCallRateThreshold())
+                .slidingWindowSize(properties.getSlidingWindowSize())
+                .minimumNumberOfCalls(properties.getMinimumNumberOfCalls())
+                .waitDurationInOpenState(properties.getWaitDurationInOpenState())
+                .recordException(e -> e instanceof RetryableException
+                        || e instanceof FeignException.FeignServerException
+                        || e instanceof TimeoutException
+                        || e instanceof WebClientRequestException
+                        || (e instanceof WebClientResponseException response && response.getStatusCode().is5xxServerError()))
+                .ignoreExceptions(FeignException.FeignClientException.class)
+                .build());
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+        return registry;
+    }
+    
+    @Bean
+    public BulkheadRegistry bulkheadRegistry(ResilienceProperties properties, MeterRegistry meterRegistry) {
+        BulkheadRegistry registry = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(properties.getMaxConcurrentCalls())
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+        TaggedBulkheadMetrics.ofBulkheadRegistry(registry).bindTo(meterRegistry);
+        return registry;
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.demo.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 서비스 간 호출 보호 설정 (클라이언트별 서킷 브레이커 + 동시 호출 제한)
+ */
+@Data
+@ConfigurationProperties(prefix = "app.resilience")
+public class ResilienceProperties {
+    
+    // 최근 호출 중 실패(타임아웃/5xx) 비율이 이 값(%) 이상이면 차단
+    private float failureRateThreshold = 50;
+    
+    // 이 시간보다 오래 걸린 호출은 느린 호출로 집계
+    private Duration slowCallDurationThreshold = Duration.ofSeconds(2);
+    
+    // 느린 호출 비율이 이 값(%) 이상이면 차단
+    private float slowCallRateThreshold = 80;
+    
+    // 실패율을 계산할 최근 호출 수
+    private int slidingWindowSize = 20;
+    
+    // 실패율 계산을 시작하기 위한 최소 호출 수
+    private int minimumNumberOfCalls = 10;
+    
+    // 차단 후 일부 호출을 다시 허용하기까지 기다리는 시간
+    private Duration waitDurationInOpenState = Duration.ofSeconds(10);
+    
+    // 클라이언트별 최대 동시 호출 수 (초과 시 기다리지 않고 거절)
+    private int maxConcurrentCalls = 50;
+    
+    // 마지막 정상 응답 보관 개수 (호출 불가 시 대체 응답)
+    private long lastKnownGoodSize = 10_000;
+}
@@ -1,8 +1,13 @@
 package com.example.demo.controller;
 
+import com.example.demo.dto.CursorPageResponse;
 import com.example.demo.dto.OrderResponse;
+import com.example.demo.dto.UserEventResponse;
 import com.example.demo.dto.UserRequest;
 import com.example.demo.dto.UserResponse;
+import com.example.demo.dto.UserSummaryResponse;
+import com.example.demo.entity.User;
+import com.example.demo.service.UserOutboxService;
 import com.example.demo.service.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -21,17 +26,34 @@ import java.util.List;
 public class UserController {
 
     private final UserService userService;
+    private final UserOutboxService userOutboxService;
 
     /**
-     * 모든 사용자 조회
+     * 사용자 목록 조회 (커서 기반 페이지네이션)
+     * 예: GET /api/v1/users?status=ACTIVE&cursor=120&size=50
      */
     @GetMapping
-    public ResponseEntity<List<UserResponse>> getAllUsers() {
-        log.info("GET /api/v1/users - 모든 사용자 조회 요청");
-        List<UserResponse> users = userService.getAllUsers();
+    public ResponseEntity<CursorPageResponse<UserResponse>> getAllUsers(
+            @RequestParam(required = false) User.UserStatus status,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size) {
+        log.info("GET /api/v1/users - 사용자 목록 조회 요청: 상태 {}, 커서 {}, 크기 {}", status, cursor, size);
+        CursorPageResponse<UserResponse> users = userService.getUsers(status, cursor, size);
         return ResponseEntity.ok(users);
     }
 
+    /**
+     * 사용자 변경 이벤트 피드 조회 (after 이후 이벤트)
+     */
+    @GetMapping("/events")
+    public ResponseEntity<List<UserEventResponse>> getUserEvents(
+            @RequestParam(defaultValue = "0") Long after,
+            @RequestParam(required = false) Integer limit) {
+        log.debug("GET /api/v1/users/events - 사용자 이벤트 피드 조회 요청: after {}, limit {}", after, limit);
+        List<UserEventResponse> events = userOutboxService.getEvents(after, limit);
+        return ResponseEntity.ok(events);
+    }
+
     /**
      * ID로 사용자 조회
      */
@@ -42,6 +64,17 @@ public class UserController {
         return ResponseEntity.ok(user);
     }
 
+    /**
+     * 여러 사용자 일괄 조회
+     * 예: GET /api/v1/users/batch?ids=1,2,3
+     */
+    @GetMapping("/batch")
+    public ResponseEntity<List<UserResponse>> getUsersByIds(@RequestParam List<Long> ids) {
+        log.info("GET /api/v1/users/batch - 사용자 일괄 조회 요청: {}건", ids.size());
+        List<UserResponse> users = userService.getUsersByIds(ids);
+        return ResponseEntity.ok(users);
+    }
+
     /**
      * 이메일로 사용자 조회
      */
@@ -104,4 +137,14 @@ public class UserController {
         return ResponseEntity.ok(orders);
     }
 
+    /**
+     * 사용자 요약 조회 (사용자 정보 + 주문 목록/주문 수/총 주문 금액)
+     */
+    @GetMapping("/{id}/summary")
+    public ResponseEntity<UserSummaryResponse> getUserSummary(@PathVariable Long id) {
+        log.info("GET /api/v1/users/{}/summary - 사용자 요약 조회 요청", id);
+        UserSummaryResponse summary = userService.getUserSummary(id);
+        return ResponseEntity.ok(summary);
+    }
+
 }
@@ -0,0 +1,24 @@
+package com.example.demo.dto;
+
+import com.example.demo.entity.User;
+import com.example.demo.entity.UserOutboxEvent;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserEventResponse {
+    
+    // 피드 순번 (커밋 순서, 다음 조회의 after 값)
+    private Long eventId;
+    private Long userId;
+    private UserOutboxEvent.EventType eventType;
+    private User.UserStatus status;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,29 @@
+package com.example.demo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 사용자 요약 (사용자 정보 + 주문 목록/주문 수/총 주문 금액)
+ * 제한 시간 안에 받지 못한 항목은 null이며 failures에 항목 이름이 담긴다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserSummaryResponse {
+    
+    private UserResponse user;
+    private List<OrderResponse> orders;
+    private Long orderCount;
+    private BigDecimal totalAmount;
+    
+    // 일부 항목을 받지 못했는지 여부
+    private boolean partial;
+    private List<String> failures;
+}
@@ -0,0 +1,26 @@
+package com.example.demo.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 아웃박스 피드 순번 (마지막으로 부여한 순번)
+ */
+@Entity
+@Table(name = "outbox_sequence")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxSequence {
+
+    @Id
+    @Column(length = 50)
+    private String name;
+
+    @Column(name = "last_seq", nullable = false)
+    private Long lastSeq;
+}
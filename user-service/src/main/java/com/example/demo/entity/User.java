@@ -8,13 +8,21 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
 
+// 2차 캐시 영역 설정은 application.conf (hibernate.cache.use_second_level_cache=false 이면 무시됨)
 @Entity
 @Table(name = "users")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user")
+@NaturalIdCache(region = "user-natural-id")
 @Data
 @Builder
 @NoArgsConstructor
@@ -32,6 +40,7 @@ public class User {
 
     @Email(message = "올바른 이메일 형식이 아닙니다")
     @NotBlank(message = "이메일은 필수입니다")
+    @NaturalId(mutable = true)
     @Column(nullable = false, unique = true, length = 100)
     private String email;
 
@@ -39,6 +48,12 @@ public class User {
     @Column(nullable = false)
     private UserStatus status;
 
+    // 조건부 상태 변경 UPDATE가 남기는 변경 전 상태 (V3 마이그레이션, 상태 변경 이벤트의 before 값)
+    // 마지막 상태 변경 직후에만 의미가 있으며 상태 이력으로 쓰지 않는다
+    @Enumerated(EnumType.STRING)
+    @Column(name = "previous_status")
+    private UserStatus previousStatus;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -0,0 +1,54 @@
+package com.example.demo.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 변경 이벤트 (트랜잭셔널 아웃박스)
+ * 사용자 변경과 같은 트랜잭션에서 기록되며, 다른 서비스는 이벤트 피드로 이를 가져간다.
+ * ID는 insert 순서라 커밋 순서와 다를 수 있으므로, 피드는 커밋 후 순번 작업이 부여하는 feedSeq 순으로 제공한다.
+ */
+@Entity
+@Table(name = "user_outbox")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserOutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 20)
+    private EventType eventType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "user_status", nullable = false, length = 20)
+    private User.UserStatus userStatus;
+
+    // 피드 순번 (커밋 전에는 null)
+    @Column(name = "feed_seq")
+    private Long feedSeq;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public enum EventType {
+        SNAPSHOT,
+        CREATED,
+        UPDATED,
+        DELETED;
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.demo.event;
+
+import com.example.demo.entity.User;
+import lombok.Value;
+
+/**
+ * 사용자 상태 변경 이벤트 (생성이면 before가 null)
+ * 사용자를 변경한 트랜잭션 안에서 발행된다.
+ */
+@Value
+public class UserStatusChangeEvent {
+    
+    Long userId;
+    User.UserStatus before;
+    User.UserStatus after;
+}
@@ -0,0 +1,49 @@
+package com.example.demo.logging;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 로깅 파이프라인 지표 (logging.async.events, logging.async.queue.remaining, logging.sampled.out)
+ * 로그백은 스프링 컨텍스트보다 먼저 초기화되므로 집계 값은 정적 필드에 모아 두고 여기서 등록한다.
+ * 레벨별 로그 발생 수는 스프링 부트 기본 지표(logback.events)로 확인한다.
+ */
+@Component
+public class LoggingMetrics implements MeterBinder {
+    
+    static final LongAdder APPENDED = new LongAdder();
+    static final LongAdder DROPPED = new LongAdder();
+    static final LongAdder SAMPLED_OUT = new LongAdder();
+    
+    private static volatile MeteredAsyncAppender appender;
+    
+    static void register(MeteredAsyncAppender asyncAppender) {
+        appender = asyncAppender;
+    }
+    
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("logging.async.events", APPENDED, LongAdder::sum)
+                .description("비동기 로그 큐에 들어간 이벤트 수")
+                .tag("result", "appended")
+                .register(registry);
+        FunctionCounter.builder("logging.async.events", DROPPED, LongAdder::sum)
+                .description("큐가 차서 버려진 이벤트 수")
+                .tag("result", "dropped")
+                .register(registry);
+        FunctionCounter.builder("logging.sampled.out", SAMPLED_OUT, LongAdder::sum)
+                .description("샘플링에서 제외된 요청 내부 로그 수")
+                .register(registry);
+        Gauge.builder("logging.async.queue.remaining", () -> {
+                    MeteredAsyncAppender current = appender;
+                    return current != null ? current.getRemainingCapacity() : Double.NaN;
+                })
+                .description("비동기 로그 큐 남은 용량")
+                .register(registry);
+    }
+}
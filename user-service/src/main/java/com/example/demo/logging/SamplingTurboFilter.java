@@ -0,0 +1,37 @@
+package com.example.demo.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+/**
+ * 샘플링되지 않은 요청의 INFO 이하 로그를 메시지 포맷 전에 걸러내는 필터
+ * WARN 이상과 loggerPrefix 밖의 로거(접근 로그 등)는 항상 통과시킨다.
+ */
+public class SamplingTurboFilter extends TurboFilter {
+    
+    private String loggerPrefix = "com.example.demo";
+    
+    public void setLoggerPrefix(String loggerPrefix) {
+        this.loggerPrefix = loggerPrefix;
+    }
+    
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (level == null || level.isGreaterOrEqual(Level.WARN) || !logger.getName().startsWith(loggerPrefix)) {
+            return FilterReply.NEUTRAL;
+        }
+        // 레벨 설정상 어차피 남지 않을 로그는 집계하지 않음 (isEnabledFor는 이 필터를 다시 호출하므로 사용하지 않는다)
+        if (!level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+        Boolean sampled = LogSampling.current();
+        if (sampled == null || sampled) {
+            return FilterReply.NEUTRAL;
+        }
+        LoggingMetrics.SAMPLED_OUT.increment();
+        return FilterReply.DENY;
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.demo.metrics;
+
+import com.example.demo.entity.User;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+/**
+ * 2차 캐시 적중률 지표 (hibernate.cache.hit.ratio)
+ * 영역별 적중/실패 횟수는 hibernate.second.level.cache.requests, hibernate.cache.natural.id.requests 로도 확인할 수 있다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SecondLevelCacheMetrics implements MeterBinder {
+    
+    private final EntityManagerFactory entityManagerFactory;
+    
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        String entityName = User.class.getName();
+        
+        Gauge.builder("hibernate.cache.hit.ratio", statistics, stats -> hitRatio(
+                        stats.getEntityStatistics(entityName).getCacheHitCount(),
+                        stats.getEntityStatistics(entityName).getCacheMissCount()))
+                .description("ID 조회의 2차 캐시 적중률")
+                .tag("region", "user")
+                .register(registry);
+        Gauge.builder("hibernate.cache.hit.ratio", statistics, stats -> hitRatio(
+                        stats.getNaturalIdStatistics(entityName).getCacheHitCount(),
+                        stats.getNaturalIdStatistics(entityName).getCacheMissCount()))
+                .description("이메일(natural id) 조회의 2차 캐시 적중률")
+                .tag("region", "user-natural-id")
+                .register(registry);
+    }
+    
+    private static double hitRatio(long hits, long misses) {
+        long total = hits + misses;
+        return total == 0 ? Double.NaN : (double) hits / total;
+    }
+}
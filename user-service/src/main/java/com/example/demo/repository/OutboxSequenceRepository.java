@@ -0,0 +1,19 @@
+package com.example.demo.repository;
+
+import com.example.demo.entity.OutboxSequence;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface OutboxSequenceRepository extends JpaRepository<OutboxSequence, String> {
+    
+    // 순번 잠금 조회 (여러 인스턴스의 순번 작업이 동시에 부여하지 않도록 트랜잭션 동안 잠근다)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM OutboxSequence s WHERE s.name = :name")
+    Optional<OutboxSequence> findForUpdate(String name);
+}
@@ -0,0 +1,20 @@
+package com.example.demo.repository;
+
+import com.example.demo.entity.UserOutboxEvent;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface UserOutboxRepository extends JpaRepository<UserOutboxEvent, Long> {
+    
+    // 지정한 순번 이후의 이벤트를 순번 순으로 조회 (순번이 부여된 이벤트만)
+    List<UserOutboxEvent> findByFeedSeqGreaterThanOrderByFeedSeqAsc(Long feedSeq, Limit limit);
+    
+    // 순번이 아직 없는 (커밋된) 이벤트를 ID 순으로 조회
+    @Query("SELECT e FROM UserOutboxEvent e WHERE e.feedSeq IS NULL ORDER BY e.id")
+    List<UserOutboxEvent> findUnsequenced(Limit limit);
+}
@@ -0,0 +1,31 @@
+package com.example.demo.repository;
+
+import com.example.demo.dto.UserResponse;
+import com.example.demo.entity.User;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 쿼리 메서드로 표현할 수 없는 조회 (DTO 프로젝션, 2차 캐시를 거치는 조회)
+ */
+public interface UserQueryRepository {
+    
+    // 조건에 맞는 사용자를 ID 내림차순으로 최대 limit건 조회 (엔티티를 만들지 않고 UserResponse로 바로 매핑)
+    List<UserResponse> findResponses(Specification<User> spec, int limit);
+    
+    // 2차 캐시 사용 여부 (꺼져 있으면 캐시를 거치는 조회 대신 DTO 프로젝션을 쓴다)
+    boolean isSecondLevelCacheEnabled();
+    
+    // 이메일(natural id)로 사용자 조회 - natural id 캐시 -> 엔티티 캐시 -> DB 순으로 찾는다
+    Optional<User> findByEmailNaturalId(String email);
+    
+    // 여러 사용자 조회 - 캐시에 있는 ID는 제외하고 나머지만 IN 쿼리로 조회 (없는 ID는 결과에서 제외)
+    List<User> findAllByIdThroughCache(Collection<Long> ids);
+    
+    // 조건부 상태 변경 (이미 같은 상태면 0) - 엔티티를 읽지 않고 UPDATE 한 번으로 변경 전 상태를 previousStatus에 남긴다
+    // JPQL bulk update는 2차 캐시 user 영역 전체를 비우므로 JDBC로 실행하고 실행 전과 커밋 후에 해당 사용자만 캐시에서 제거한다
+    int updateStatusIfChanged(Long id, User.UserStatus status);
+}
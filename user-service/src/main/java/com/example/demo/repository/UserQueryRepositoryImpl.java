@@ -0,0 +1,115 @@
+package com.example.demo.repository;
+
+import com.example.demo.dto.UserResponse;
+import com.example.demo.entity.User;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+@RequiredArgsConstructor
+public class UserQueryRepositoryImpl implements UserQueryRepository {
+    
+    private static final String UPDATE_STATUS_IF_CHANGED_SQL =
+            "UPDATE users SET previous_status = status, status = ?, updated_at = ? WHERE id = ? AND status <> ?";
+    
+    private final EntityManager entityManager;
+    
+    @Override
+    public List<UserResponse> findResponses(Specification<User> spec, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<UserResponse> query = cb.createQuery(UserResponse.class);
+        Root<User> root = query.from(User.class);
+        
+        query.select(cb.construct(UserResponse.class,
+                root.get("id"),
+                root.get("name"),
+                root.get("email"),
+                root.get("status"),
+                root.get("createdAt"),
+                root.get("updatedAt")));
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(cb.desc(root.get("id")));
+        
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .setHint(HibernateHints.HINT_FLUSH_MODE, FlushMode.MANUAL)
+                .getResultList();
+    }
+    
+    @Override
+    public boolean isSecondLevelCacheEnabled() {
+        return entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class)
+                .getSessionFactoryOptions()
+                .isSecondLevelCacheEnabled();
+    }
+    
+    @Override
+    public Optional<User> findByEmailNaturalId(String email) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(User.class)
+                .loadOptional(email);
+    }
+    
+    @Override
+    public List<User> findAllByIdThroughCache(Collection<Long> ids) {
+        return entityManager.unwrap(Session.class)
+                .byMultipleIds(User.class)
+                .enableSessionCheck(true)
+                .enableOrderedReturn(false)
+                .multiLoad(new ArrayList<>(ids))
+                .stream()
+                .filter(Objects::nonNull)
+                .toList();
+    }
+    
+    @Override
+    public int updateStatusIfChanged(Long id, User.UserStatus status) {
+        // JDBC UPDATE는 2차 캐시를 거치지 않으므로 실행 전에 먼저 제거 (이미 캐시된 이전 값을 이 트랜잭션과 다른 요청이 읽지 않도록)
+        Cache cache = entityManager.getEntityManagerFactory().getCache();
+        cache.evict(User.class, id);
+        int updated = entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(UPDATE_STATUS_IF_CHANGED_SQL)) {
+                statement.setString(1, status.name());
+                statement.setTimestamp(2, Timestamp.valueOf(LocalDateTime.now()));
+                statement.setLong(3, id);
+                statement.setString(4, status.name());
+                return statement.executeUpdate();
+            }
+        });
+        if (updated > 0) {
+            // 커밋 전까지 다른 트랜잭션이 DB에서 읽은 이전 상태를 다시 캐시에 넣을 수 있으므로 커밋 후에 한 번 더 제거
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.evict(User.class, id);
+                }
+            });
+        }
+        return updated;
+    }
+}
@@ -1,22 +1,69 @@
 package com.example.demo.repository;
 
+import com.example.demo.dto.UserResponse;
 import com.example.demo.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificationExecutor<User>, UserQueryRepository {
     
-    // 이메일로 사용자 찾기
-    Optional<User> findByEmail(String email);
+    // ID로 사용자 조회 (UserResponse 생성자 프로젝션 - 영속성 컨텍스트에 엔티티를 올리지 않음, 2차 캐시 미사용 시)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL")
+    })
+    @Query("SELECT new com.example.demo.dto.UserResponse(u.id, u.name, u.email, u.status, u.createdAt, u.updatedAt) " +
+           "FROM User u WHERE u.id = :id")
+    Optional<UserResponse> findResponseById(Long id);
+    
+    // 여러 사용자 일괄 조회 (UserResponse 생성자 프로젝션, 2차 캐시 미사용 시)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL")
+    })
+    @Query("SELECT new com.example.demo.dto.UserResponse(u.id, u.name, u.email, u.status, u.createdAt, u.updatedAt) " +
+           "FROM User u WHERE u.id IN :ids")
+    List<UserResponse> findResponsesByIds(Collection<Long> ids);
+    
+    // 이메일로 사용자 조회 (UserResponse 생성자 프로젝션, 2차 캐시 미사용 시)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL")
+    })
+    @Query("SELECT new com.example.demo.dto.UserResponse(u.id, u.name, u.email, u.status, u.createdAt, u.updatedAt) " +
+           "FROM User u WHERE u.email = :email")
+    Optional<UserResponse> findResponseByEmail(String email);
     
     // 이메일 존재 여부 확인
     boolean existsByEmail(String email);
     
-    // 활성 사용자 수 조회
-    @Query("SELECT COUNT(u) FROM User u WHERE u.status = 'ACTIVE'")
-    long countActiveUsers();
+    // 전체 이메일 스트리밍 조회 (이메일 필터 적재용)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT u.email FROM User u")
+    Stream<String> streamAllEmails();
+    
+    // 상태 변경 직후 사용자 상태 조회 (UserStatusRow 생성자 프로젝션)
+    @Query("SELECT new com.example.demo.repository.UserStatusRow(u.id, u.status, u.previousStatus) FROM User u WHERE u.id = :id")
+    Optional<UserStatusRow> findStatusRowById(Long id);
+    
+    // 상태별 사용자 수 조회
+    long countByStatus(User.UserStatus status);
+    
+    // 상태별 사용자 수 일괄 조회 (상태 카운터 보정용) - [status, count]
+    @Query("SELECT u.status, COUNT(u) FROM User u GROUP BY u.status")
+    List<Object[]> countGroupByStatus();
 }
@@ -0,0 +1,23 @@
+package com.example.demo.repository;
+
+import com.example.demo.entity.User;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * 사용자 목록 조회 조건
+ */
+public final class UserSpecifications {
+    
+    private UserSpecifications() {
+    }
+    
+    // 커서(이전 페이지 마지막 ID) 이후 항목 - PK 기반 keyset
+    public static Specification<User> idLessThan(Long cursor) {
+        return (root, query, cb) -> cb.lessThan(root.<Long>get("id"), cursor);
+    }
+    
+    // idx_users_status
+    public static Specification<User> hasStatus(User.UserStatus status) {
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.demo.repository;
+
+import com.example.demo.entity.User;
+
+/**
+ * 상태 변경 직후 사용자 상태 (엔티티 대신 생성자 프로젝션으로 조회)
+ * previousStatus는 같은 트랜잭션에서 방금 실행한 조건부 UPDATE가 남긴 변경 전 상태다.
+ * UPDATE는 변경 건수만 돌려주므로(MySQL에는 RETURNING 없음) 이 행을 한 번 더 읽어 없는 사용자(404)를 가리고 이벤트를 만든다.
+ */
+public record UserStatusRow(Long id, User.UserStatus status, User.UserStatus previousStatus) {
+}
@@ -0,0 +1,90 @@
+package com.example.demo.service;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 Bloom 필터 (잠금 없이 여러 스레드에서 추가/조회 가능)
+ * mightContain이 false면 추가된 적 없는 값이고, true면 오탐일 수 있다.
+ * 해시 함수 k개는 64비트 해시 두 개를 조합해 만든다 (Kirsch-Mitzenmacher).
+ */
+final class BloomFilter {
+    
+    private static final double LN2 = Math.log(2);
+    
+    private final AtomicLongArray words;
+    private final long bitSize;
+    private final int hashFunctions;
+    
+    BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("expectedInsertions > 0, 0 < falsePositiveRate < 1 이어야 합니다");
+        }
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (LN2 * LN2));
+        int wordCount = Math.toIntExact((optimalBits + Long.SIZE - 1) / Long.SIZE);
+        this.words = new AtomicLongArray(wordCount);
+        this.bitSize = (long) wordCount * Long.SIZE;
+        this.hashFunctions = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * LN2));
+    }
+    
+    void put(String value) {
+        long hash = fnv1a64(value);
+        long h1 = mix64(hash);
+        long h2 = mix64(hash ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashFunctions; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, bitSize);
+            long mask = 1L << bit;
+            int index = (int) (bit >>> 6);
+            if ((words.get(index) & mask) == 0) {
+                words.accumulateAndGet(index, mask, (current, m) -> current | m);
+            }
+        }
+    }
+    
+    boolean mightContain(String value) {
+        long hash = fnv1a64(value);
+        long h1 = mix64(hash);
+        long h2 = mix64(hash ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashFunctions; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, bitSize);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    long bitSize() {
+        return bitSize;
+    }
+    
+    int hashFunctions() {
+        return hashFunctions;
+    }
+    
+    /**
+     * 켜진 비트 비율로 계산한 현재 오탐률 (비트 배열 전체를 훑으므로 지표 수집 주기에만 호출)
+     */
+    double estimatedFalsePositiveRate() {
+        long setBits = 0;
+        for (int i = 0; i < words.length(); i++) {
+            setBits += Long.bitCount(words.get(i));
+        }
+        return Math.pow((double) setBits / bitSize, hashFunctions);
+    }
+    
+    private static long fnv1a64(String value) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001B3L;
+        }
+        return hash;
+    }
+    
+    // SplitMix64 finalizer
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
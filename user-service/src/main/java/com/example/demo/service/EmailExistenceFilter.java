@@ -0,0 +1,123 @@
+package com.example.demo.service;
+
+import com.example.demo.config.EmailFilterProperties;
+import com.example.demo.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * 이메일 존재 여부 Bloom 필터
+ * 생성/수정 시 중복 확인에서만 쓴다. 필터에 없는 이메일은 중복 확인 쿼리를 생략하고, 최종 중복 방지는 users.email 유니크 제약이 맡는다.
+ * 필터는 JVM마다 따로 있어 다른 인스턴스에서 생성된 이메일을 모를 수 있으므로, 조회 API는 필터를 거치지 않고 항상 DB를 조회한다.
+ * 시작 시 users 테이블을 스트리밍해서 채우고, 이후 생성/수정되는 이메일을 저장 전에 추가한다 (삭제는 반영하지 않음).
+ * 적재가 끝나기 전에는 모든 이메일을 "있을 수 있음"으로 보고 DB를 확인한다.
+ */
+@Component
+@Slf4j
+public class EmailExistenceFilter {
+    
+    private final UserRepository userRepository;
+    private final EmailFilterProperties properties;
+    private final BloomFilter filter;
+    private final LongAdder insertions = new LongAdder();
+    private final Counter negatives;
+    private final Counter confirmed;
+    private final Counter falsePositives;
+    private volatile boolean ready;
+    
+    public EmailExistenceFilter(UserRepository userRepository, EmailFilterProperties properties, MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.properties = properties;
+        this.filter = new BloomFilter(properties.getExpectedInsertions(), properties.getFalsePositiveRate());
+        
+        this.negatives = checkCounter(meterRegistry, "negative");
+        this.confirmed = checkCounter(meterRegistry, "confirmed");
+        this.falsePositives = checkCounter(meterRegistry, "false_positive");
+        Gauge.builder("users.email.filter.memory", filter, f -> f.bitSize() / 8.0)
+                .description("이메일 필터 비트 배열 크기")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("users.email.filter.insertions", insertions, LongAdder::sum)
+                .description("이메일 필터에 추가된 이메일 수 (수정으로 바뀐 이메일 포함)")
+                .register(meterRegistry);
+        Gauge.builder("users.email.filter.false.positive.rate", filter, BloomFilter::estimatedFalsePositiveRate)
+                .description("켜진 비트 비율로 계산한 현재 예상 오탐률")
+                .tag("kind", "estimated")
+                .register(meterRegistry);
+        Gauge.builder("users.email.filter.false.positive.rate", properties, EmailFilterProperties::getFalsePositiveRate)
+                .description("설정한 목표 오탐률")
+                .tag("kind", "configured")
+                .register(meterRegistry);
+    }
+    
+    /**
+     * 시작 시 기존 이메일 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void initialize() {
+        if (!properties.isEnabled()) {
+            log.info("이메일 필터 비활성");
+            return;
+        }
+        long started = System.nanoTime();
+        try (Stream<String> emails = userRepository.streamAllEmails()) {
+            emails.forEach(this::add);
+        }
+        ready = true;
+        
+        log.info("이메일 필터 적재 완료 - {}건, 비트: {}, 해시 함수: {}개, 메모리: {}KB, {}ms",
+                insertions.sum(), filter.bitSize(), filter.hashFunctions(), filter.bitSize() / 8 / 1024,
+                (System.nanoTime() - started) / 1_000_000);
+        if (insertions.sum() > properties.getExpectedInsertions()) {
+            log.warn("이메일 필터 적재 건수가 예상 사용자 수를 넘었습니다 - 적재: {}건, 예상: {}건 (오탐률 증가)",
+                    insertions.sum(), properties.getExpectedInsertions());
+        }
+    }
+    
+    /**
+     * 저장할 이메일 추가 (롤백되더라도 오탐이 하나 늘 뿐이므로 저장 전에 추가한다)
+     */
+    public void add(String email) {
+        filter.put(normalize(email));
+        insertions.increment();
+    }
+    
+    /**
+     * 중복 확인용 이메일 존재 여부 (필터에 없으면 DB 확인 없이 false - 놓친 중복은 유니크 제약 위반으로 걸러진다)
+     */
+    public boolean exists(String email, Predicate<String> verifier) {
+        if (ready && !filter.mightContain(normalize(email))) {
+            negatives.increment();
+            return false;
+        }
+        boolean exists = verifier.test(email);
+        if (ready) {
+            (exists ? confirmed : falsePositives).increment();
+        }
+        return exists;
+    }
+    
+    // MySQL 기본 collation은 대소문자를 구분하지 않으므로 소문자로 맞춰 넣는다 (필터가 "없음"이라고 틀리는 일이 없도록)
+    private static String normalize(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+    
+    private static Counter checkCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("users.email.filter.checks")
+                .description("이메일 필터 확인 결과 (negative: DB 확인 생략, confirmed: 실제 존재, false_positive: 오탐)")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.demo.service;
+
+import com.example.demo.config.OutboxProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 커밋된 아웃박스 이벤트에 주기적으로 피드 순번 부여
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UserOutboxSequenceJob {
+    
+    private final UserOutboxService userOutboxService;
+    private final OutboxProperties properties;
+    
+    @Scheduled(fixedDelayString = "${app.outbox.sequence-interval-ms:200}")
+    public void assignSequence() {
+        try {
+            // 밀린 이벤트가 있으면 배치 크기보다 적게 부여할 때까지 연속으로 처리
+            int assigned;
+            do {
+                assigned = userOutboxService.assignSequence(properties.getSequenceBatchSize());
+            } while (assigned >= properties.getSequenceBatchSize());
+        } catch (Exception e) {
+            log.warn("아웃박스 순번 부여 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.UserEventResponse;
+import com.example.demo.entity.OutboxSequence;
+import com.example.demo.entity.User;
+import com.example.demo.entity.UserOutboxEvent;
+import com.example.demo.repository.OutboxSequenceRepository;
+import com.example.demo.repository.UserOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class UserOutboxService {
+    
+    private static final int DEFAULT_FEED_LIMIT = 500;
+    private static final int MAX_FEED_LIMIT = 1000;
+    private static final String SEQUENCE_NAME = "user_outbox";
+    
+    private final UserOutboxRepository userOutboxRepository;
+    private final OutboxSequenceRepository outboxSequenceRepository;
+    
+    /**
+     * 사용자 변경 이벤트 기록 (호출한 쪽 트랜잭션 안에서만 기록)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(User user, UserOutboxEvent.EventType eventType) {
+        record(user.getId(), user.getStatus(), eventType);
+    }
+    
+    /**
+     * 사용자 변경 이벤트 기록 (엔티티 없이 ID와 상태로 기록)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(Long userId, User.UserStatus userStatus, UserOutboxEvent.EventType eventType) {
+        UserOutboxEvent event = UserOutboxEvent.builder()
+                .userId(userId)
+                .eventType(eventType)
+                .userStatus(userStatus)
+                .build();
+        userOutboxRepository.save(event);
+        log.debug("사용자 이벤트 기록 - 사용자 ID: {}, 유형: {}", userId, eventType);
+    }
+    
+    /**
+     * 커밋된 이벤트에 피드 순번 부여 (부여한 이벤트 수 반환)
+     * 순번 행을 잠근 채 커밋된 이벤트만 보고 이어서 번호를 매기므로, 나중에 커밋된 이벤트는 항상 더 큰 순번을 받는다.
+     * 따라서 소비 측이 순번 오프셋을 넘긴 뒤에 그보다 앞선 이벤트가 나타나는 일이 없다 (트랜잭션 길이, 서버 간 시계 차이와 무관).
+     */
+    @Transactional
+    public int assignSequence(int batchSize) {
+        OutboxSequence sequence = outboxSequenceRepository.findForUpdate(SEQUENCE_NAME)
+                .orElseThrow(() -> new IllegalStateException("아웃박스 순번 행이 없습니다: " + SEQUENCE_NAME));
+        List<UserOutboxEvent> events = userOutboxRepository.findUnsequenced(Limit.of(batchSize));
+        
+        long next = sequence.getLastSeq();
+        for (UserOutboxEvent event : events) {
+            event.setFeedSeq(++next);
+        }
+        sequence.setLastSeq(next);
+        return events.size();
+    }
+    
+    /**
+     * 이벤트 피드 조회 (after 이후 이벤트를 피드 순번 순으로, 순번이 부여된 이벤트만)
+     * 응답의 eventId는 피드 순번이다.
+     */
+    public List<UserEventResponse> getEvents(Long after, Integer limit) {
+        int feedLimit = limit == null ? DEFAULT_FEED_LIMIT : Math.max(1, Math.min(limit, MAX_FEED_LIMIT));
+        
+        return userOutboxRepository.findByFeedSeqGreaterThanOrderByFeedSeqAsc(after == null ? 0L : after, Limit.of(feedLimit))
+                .stream()
+                .map(event -> UserEventResponse.builder()
+                        .eventId(event.getFeedSeq())
+                        .userId(event.getUserId())
+                        .eventType(event.getEventType())
+                        .status(event.getUserStatus())
+                        .createdAt(event.getCreatedAt())
+                        .build())
+                .toList();
+    }
+}
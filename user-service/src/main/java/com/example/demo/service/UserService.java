@@ -1,17 +1,36 @@
 package com.example.demo.service;
 
+import com.example.demo.client.OrderServiceAsyncClient;
 import com.example.demo.client.OrderServiceClient;
+import com.example.demo.dto.CursorPageResponse;
 import com.example.demo.dto.OrderResponse;
 import com.example.demo.dto.UserRequest;
 import com.example.demo.dto.UserResponse;
+import com.example.demo.dto.UserSummaryResponse;
 import com.example.demo.entity.User;
+import com.example.demo.entity.UserOutboxEvent;
+import com.example.demo.event.UserStatusChangeEvent;
+import com.example.demo.exception.ResourceNotFoundException;
 import com.example.demo.repository.UserRepository;
+import com.example.demo.repository.UserStatusRow;
+import com.example.demo.repository.UserSpecifications;
+import feign.FeignException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple3;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Collectors;
 
 @Service
@@ -20,38 +39,88 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class UserService {
     
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_BATCH_SIZE = 100;
+    
     private final UserRepository userRepository;
     private final OrderServiceClient orderServiceClient;
+    private final OrderServiceAsyncClient orderServiceAsyncClient;
+    private final UserOutboxService userOutboxService;
+    private final UserStatusCounter userStatusCounter;
+    private final EmailExistenceFilter emailExistenceFilter;
+    private final ApplicationEventPublisher eventPublisher;
     
     /**
-     * 모든 사용자 조회
+     * 사용자 목록 조회 (ID 기반 커서 페이지네이션)
      */
-    public List<UserResponse> getAllUsers() {
-        log.info("모든 사용자 조회 요청");
-        return userRepository.findAll()
-                .stream()
-                .map(this::convertToResponseDto)
-                .collect(Collectors.toList());
+    public CursorPageResponse<UserResponse> getUsers(User.UserStatus status, Long cursor, Integer size) {
+        log.info("사용자 목록 조회 요청 - 상태: {}, 커서: {}, 크기: {}", status, cursor, size);
+        
+        int pageSize = resolvePageSize(size);
+        List<Specification<User>> specs = new ArrayList<>();
+        if (cursor != null) {
+            specs.add(UserSpecifications.idLessThan(cursor));
+        }
+        if (status != null) {
+            specs.add(UserSpecifications.hasStatus(status));
+        }
+        
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회 (COUNT 쿼리 없음, DTO로 바로 조회)
+        List<UserResponse> users = userRepository.findResponses(Specification.allOf(specs), pageSize + 1);
+        
+        boolean hasNext = users.size() > pageSize;
+        List<UserResponse> content = hasNext ? users.subList(0, pageSize) : users;
+        
+        return CursorPageResponse.<UserResponse>builder()
+                .content(content)
+                .size(content.size())
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? content.get(content.size() - 1).getId() : null)
+                .build();
     }
     
     /**
-     * ID로 사용자 조회
+     * ID로 사용자 조회 (2차 캐시 사용 시 엔티티 캐시에서, 아니면 DTO 프로젝션으로 조회)
      */
     public UserResponse getUserById(Long id) {
         log.info("사용자 조회 요청 - ID: {}", id);
-        User user = userRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다. ID: " + id));
-        return convertToResponseDto(user);
+        Optional<UserResponse> user = userRepository.isSecondLevelCacheEnabled()
+                ? userRepository.findById(id).map(UserService::convertToResponseDto)
+                : userRepository.findResponseById(id);
+        return user.orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다. ID: " + id));
     }
     
     /**
-     * 이메일로 사용자 조회
+     * 여러 사용자 일괄 조회 (단일 IN 쿼리, 2차 캐시 사용 시 캐시에 없는 ID만 조회, 없는 ID는 결과에서 제외)
+     */
+    public List<UserResponse> getUsersByIds(List<Long> ids) {
+        log.info("사용자 일괄 조회 요청 - {}건", ids.size());
+        
+        List<Long> distinctIds = ids.stream().distinct().collect(Collectors.toList());
+        if (distinctIds.size() > MAX_BATCH_SIZE) {
+            throw new RuntimeException("한 번에 조회할 수 있는 사용자는 최대 " + MAX_BATCH_SIZE + "명입니다");
+        }
+        
+        if (!userRepository.isSecondLevelCacheEnabled()) {
+            return userRepository.findResponsesByIds(distinctIds);
+        }
+        return userRepository.findAllByIdThroughCache(distinctIds)
+                .stream()
+                .map(UserService::convertToResponseDto)
+                .collect(Collectors.toList());
+    }
+    
+    /**
+     * 이메일로 사용자 조회 (2차 캐시 사용 시 natural id 캐시에서, 아니면 DTO 프로젝션으로 조회)
+     * 이메일 필터는 인스턴스마다 달라 "없음"을 믿을 수 없으므로 조회에는 쓰지 않는다.
      */
     public UserResponse getUserByEmail(String email) {
         log.info("사용자 조회 요청 - 이메일: {}", email);
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다. 이메일: " + email));
-        return convertToResponseDto(user);
+        Optional<UserResponse> user = userRepository.isSecondLevelCacheEnabled()
+                ? userRepository.findByEmailNaturalId(email).map(UserService::convertToResponseDto)
+                : userRepository.findResponseByEmail(email);
+        return user.orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다. 이메일: " + email));
     }
     
     /**
@@ -61,10 +130,11 @@ public class UserService {
     public UserResponse createUser(UserRequest requestDto) {
         log.info("사용자 생성 요청 - 이메일: {}", requestDto.getEmail());
         
-        // 이메일 중복 체크
-        if (userRepository.existsByEmail(requestDto.getEmail())) {
+        // 이메일 중복 체크 (필터에 없는 이메일은 DB 확인 생략, 동시 가입은 유니크 제약으로 막는다)
+        if (emailExistenceFilter.exists(requestDto.getEmail(), userRepository::existsByEmail)) {
             throw new RuntimeException("이미 존재하는 이메일입니다: " + requestDto.getEmail());
         }
+        emailExistenceFilter.add(requestDto.getEmail());
         
                 User user = User.builder()
                         .name(requestDto.getName())
@@ -72,7 +142,9 @@ public class UserService {
                         .status(requestDto.getStatus() != null ? requestDto.getStatus() : User.UserStatus.ACTIVE)
                         .build();
         
-        User savedUser = userRepository.save(user);
+        User savedUser = saveUniqueEmail(user);
+        userOutboxService.record(savedUser, UserOutboxEvent.EventType.CREATED);
+        eventPublisher.publishEvent(new UserStatusChangeEvent(savedUser.getId(), null, savedUser.getStatus()));
         log.info("사용자 생성 완료 - ID: {}", savedUser.getId());
         
         return convertToResponseDto(savedUser);
@@ -86,21 +158,27 @@ public class UserService {
         log.info("사용자 수정 요청 - ID: {}", id);
         
         User user = userRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다. ID: " + id));
+                .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다. ID: " + id));
         
         // 이메일 변경 시 중복 체크
-        if (!user.getEmail().equals(requestDto.getEmail()) && 
-            userRepository.existsByEmail(requestDto.getEmail())) {
+        boolean emailChanged = !user.getEmail().equals(requestDto.getEmail());
+        if (emailChanged && emailExistenceFilter.exists(requestDto.getEmail(), userRepository::existsByEmail)) {
             throw new RuntimeException("이미 존재하는 이메일입니다: " + requestDto.getEmail());
         }
+        if (emailChanged) {
+            emailExistenceFilter.add(requestDto.getEmail());
+        }
         
+        User.UserStatus beforeStatus = user.getStatus();
                 user.setName(requestDto.getName());
                 user.setEmail(requestDto.getEmail());
                 if (requestDto.getStatus() != null) {
                     user.setStatus(requestDto.getStatus());
                 }
         
-        User updatedUser = userRepository.save(user);
+        User updatedUser = emailChanged ? saveUniqueEmail(user) : userRepository.save(user);
+        userOutboxService.record(updatedUser, UserOutboxEvent.EventType.UPDATED);
+        eventPublisher.publishEvent(new UserStatusChangeEvent(updatedUser.getId(), beforeStatus, updatedUser.getStatus()));
         log.info("사용자 수정 완료 - ID: {}", updatedUser.getId());
         
         return convertToResponseDto(updatedUser);
@@ -113,21 +191,27 @@ public class UserService {
     public void deleteUser(Long id) {
         log.info("사용자 삭제 요청 - ID: {}", id);
         
-        User user = userRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다. ID: " + id));
+        // 조건부 UPDATE 한 번으로 비활성화, 변경된 행이 없으면 조회 결과로 사용자 없음(404)과 이미 비활성(변경 없음)을 구분
+        int updated = userRepository.updateStatusIfChanged(id, User.UserStatus.INACTIVE);
+        UserStatusRow row = userRepository.findStatusRowById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다. ID: " + id));
+        if (updated == 0) {
+            log.info("사용자 삭제 변경 없음 - ID: {}, 이미 비활성 상태", id);
+            return;
+        }
         
-        user.setStatus(User.UserStatus.INACTIVE);
-        userRepository.save(user);
+        userOutboxService.record(row.id(), row.status(), UserOutboxEvent.EventType.DELETED);
+        eventPublisher.publishEvent(new UserStatusChangeEvent(row.id(), row.previousStatus(), row.status()));
         
         log.info("사용자 삭제 완료 - ID: {}", id);
     }
     
     /**
-     * 활성 사용자 수 조회
+     * 활성 사용자 수 조회 (메모리 카운터)
      */
     public long getActiveUserCount() {
         log.info("활성 사용자 수 조회 요청");
-        return userRepository.countActiveUsers();
+        return userStatusCounter.getCount(User.UserStatus.ACTIVE);
     }
     
     /**
@@ -138,21 +222,89 @@ public class UserService {
         
         // 사용자 존재 여부 확인
         if (!userRepository.existsById(userId)) {
-            throw new RuntimeException("사용자를 찾을 수 없습니다. ID: " + userId);
+            throw new ResourceNotFoundException("사용자를 찾을 수 없습니다. ID: " + userId);
         }
         
+        // 호출할 수 없으면 ServiceUnavailableException(503)이 그대로 전달된다
         try {
             return orderServiceClient.getUserOrders(userId);
-        } catch (Exception e) {
+        } catch (FeignException e) {
             log.error("주문 서비스 호출 실패 - 사용자 ID: {}, 오류: {}", userId, e.getMessage());
             throw new RuntimeException("주문 정보를 조회할 수 없습니다: " + e.getMessage());
         }
     }
     
     /**
-     * Entity를 ResponseDto로 변환
+     * 사용자 요약 조회
+     * 사용자는 로컬에서 조회하고 주문 목록/주문 수/총 주문 금액은 order-service에 동시에 요청한다.
+     * 세 요청이 같은 제한 시간을 공유하므로 응답 시간은 가장 느린 호출(최대 제한 시간)에 맞춰지며,
+     * 제한 시간 안에 받지 못했거나 실패한 항목은 비워 둔 채 나머지 결과를 반환한다.
+     * 원격 응답을 기다리는 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행한다 (사용자 조회는 리포지토리 트랜잭션으로 바로 끝난다).
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public UserSummaryResponse getUserSummary(Long id) {
+        log.info("사용자 요약 조회 요청 - ID: {}", id);
+        
+        User user = userRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다. ID: " + id));
+        
+        List<String> failures = new CopyOnWriteArrayList<>();
+        
+        // zip이 세 요청을 동시에 구독하므로 호출마다 걸린 제한 시간이 곧 하나의 전체 제한 시간이 된다
+        Tuple3<Optional<List<OrderResponse>>, Optional<Long>, Optional<BigDecimal>> results = Mono.zip(
+                        emptyOnFailure("orders", orderServiceAsyncClient.getUserOrders(id), failures),
+                        emptyOnFailure("orderCount", orderServiceAsyncClient.getOrderCount(id), failures),
+                        emptyOnFailure("totalAmount", orderServiceAsyncClient.getTotalAmount(id), failures))
+                .block();
+        
+        return UserSummaryResponse.builder()
+                .user(convertToResponseDto(user))
+                .orders(results.getT1().orElse(null))
+                .orderCount(results.getT2().orElse(null))
+                .totalAmount(results.getT3().orElse(null))
+                .partial(!failures.isEmpty())
+                .failures(List.copyOf(failures))
+                .build();
+    }
+    
+    /**
+     * 제한 시간 초과, 호출 거절(서킷 열림/동시 호출 한도) 또는 실패 시 빈 값으로 대체하고 항목 이름을 기록
+     */
+    private <T> Mono<Optional<T>> emptyOnFailure(String part, Mono<T> call, List<String> failures) {
+        return call.map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .onErrorResume(e -> {
+                    log.warn("사용자 요약 항목 조회 실패 - 항목: {}, 오류: {}", part, e.toString());
+                    failures.add(part);
+                    return Mono.just(Optional.empty());
+                });
+    }
+    
+    /**
+     * 저장 후 바로 flush (이메일 유니크 제약 위반을 중복 이메일 오류로 변환)
+     */
+    private User saveUniqueEmail(User user) {
+        try {
+            return userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            throw new RuntimeException("이미 존재하는 이메일입니다: " + user.getEmail());
+        }
+    }
+    
+    /**
+     * 페이지 크기 보정 (1 ~ MAX_PAGE_SIZE)
+     */
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+    
+    /**
+     * Entity를 ResponseDto로 변환 (JMH 벤치마크에서 직접 호출하므로 package-private)
      */
-    private UserResponse convertToResponseDto(User user) {
+    static UserResponse convertToResponseDto(User user) {
         return UserResponse.builder()
                 .id(user.getId())
                 .name(user.getName())
@@ -0,0 +1,156 @@
+package com.example.demo.service;
+
+import com.example.demo.entity.User;
+import com.example.demo.event.UserStatusChangeEvent;
+import com.example.demo.repository.UserRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 상태별 사용자 수 메모리 카운터
+ * 시작 시 DB로 초기화하고 커밋된 상태 변경만 반영하므로, 상태별 사용자 수 조회가 DB를 거치지 않는다.
+ * 주기적으로 DB와 비교해 차이(drift)를 지표로 남기고 그 차이를 바로 반영한다.
+ * 이벤트는 자기 인스턴스의 커밋만 받으므로 여러 인스턴스로 실행하면 다른 인스턴스의 변경은 보정으로만 반영된다.
+ * 따라서 조회 값의 오차는 대략 보정 주기 동안의 다른 인스턴스 변경 수와 보정 시점에 반영 중이던 커밋 수로 제한된다.
+ */
+@Component
+@Slf4j
+public class UserStatusCounter {
+    
+    // 보정 중 카운터가 계속 바뀌면 이번 회차는 건너뛴다
+    private static final int MAX_SNAPSHOT_ATTEMPTS = 3;
+    
+    private final UserRepository userRepository;
+    private final Map<User.UserStatus, LongAdder> counters = new EnumMap<>(User.UserStatus.class);
+    private final Map<User.UserStatus, AtomicLong> drifts = new EnumMap<>(User.UserStatus.class);
+    private volatile boolean initialized;
+    
+    public UserStatusCounter(UserRepository userRepository, MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        for (User.UserStatus status : User.UserStatus.values()) {
+            LongAdder counter = new LongAdder();
+            AtomicLong drift = new AtomicLong();
+            counters.put(status, counter);
+            drifts.put(status, drift);
+            
+            Gauge.builder("users.status.count", counter, LongAdder::sum)
+                    .description("메모리 카운터 기준 상태별 사용자 수")
+                    .tag("status", status.name())
+                    .register(meterRegistry);
+            Gauge.builder("users.status.count.drift", drift, AtomicLong::get)
+                    .description("마지막 보정 시 DB와 메모리 카운터의 차이 (DB - 메모리)")
+                    .tag("status", status.name())
+                    .register(meterRegistry);
+        }
+    }
+    
+    /**
+     * 상태별 사용자 수 조회 (초기화 전에는 DB 조회)
+     */
+    public long getCount(User.UserStatus status) {
+        if (!initialized) {
+            return userRepository.countByStatus(status);
+        }
+        return counters.get(status).sum();
+    }
+    
+    /**
+     * 시작 시 DB 값으로 초기화
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        Map<User.UserStatus, Long> snapshot = null;
+        for (int attempt = 0; attempt < MAX_SNAPSHOT_ATTEMPTS && snapshot == null; attempt++) {
+            snapshot = snapshotDrift();
+        }
+        if (snapshot == null) {
+            // 변경이 계속 들어오는 중이면 마지막 값으로 초기화하고 다음 보정에 맡긴다
+            snapshot = computeDrift();
+        }
+        snapshot.forEach((status, drift) -> counters.get(status).add(drift));
+        initialized = true;
+        log.info("상태별 사용자 카운터 초기화 완료 - {}", currentCounts());
+    }
+    
+    /**
+     * 커밋된 상태 변경 반영 (롤백된 변경은 반영하지 않음)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onUserStatusChange(UserStatusChangeEvent event) {
+        if (event.getBefore() == event.getAfter()) {
+            return;
+        }
+        if (event.getBefore() != null) {
+            counters.get(event.getBefore()).decrement();
+        }
+        if (event.getAfter() != null) {
+            counters.get(event.getAfter()).increment();
+        }
+    }
+    
+    /**
+     * DB와 비교해 차이를 기록하고 바로 보정
+     * 차이는 DB 조회 전후로 카운터가 그대로인 스냅샷에서만 계산하므로 이 인스턴스에서 반영 중인 변경과 섞이지 않는다.
+     * 커밋됐지만 아직 이벤트를 반영하지 않은 변경이 있으면 잠시 이중으로 셀 수 있지만 다음 회차에 다시 맞춰진다.
+     */
+    @Scheduled(fixedDelayString = "${app.status-counter.reconcile-interval-ms:60000}",
+               initialDelayString = "${app.status-counter.reconcile-interval-ms:60000}")
+    public void reconcile() {
+        if (!initialized) {
+            return;
+        }
+        try {
+            Map<User.UserStatus, Long> current = snapshotDrift();
+            if (current == null) {
+                log.debug("상태별 사용자 카운터 보정 건너뜀 - 진행 중인 변경 있음");
+                return;
+            }
+            current.forEach((status, drift) -> {
+                drifts.get(status).set(drift);
+                if (drift != 0) {
+                    counters.get(status).add(drift);
+                    log.debug("상태별 사용자 카운터 보정 - 상태: {}, 차이: {}", status, drift);
+                }
+            });
+        } catch (Exception e) {
+            log.warn("상태별 사용자 카운터 보정 실패: {}", e.getMessage());
+        }
+    }
+    
+    /**
+     * DB 조회 전후로 카운터가 그대로일 때만 차이를 반환 (바뀌었으면 null)
+     */
+    private Map<User.UserStatus, Long> snapshotDrift() {
+        Map<User.UserStatus, Long> before = currentCounts();
+        Map<User.UserStatus, Long> drift = computeDrift();
+        return before.equals(currentCounts()) ? drift : null;
+    }
+    
+    private Map<User.UserStatus, Long> computeDrift() {
+        Map<User.UserStatus, Long> dbCounts = new EnumMap<>(User.UserStatus.class);
+        for (Object[] row : userRepository.countGroupByStatus()) {
+            dbCounts.put((User.UserStatus) row[0], (Long) row[1]);
+        }
+        Map<User.UserStatus, Long> drift = new EnumMap<>(User.UserStatus.class);
+        counters.forEach((status, counter) -> drift.put(status, dbCounts.getOrDefault(status, 0L) - counter.sum()));
+        return drift;
+    }
+    
+    private Map<User.UserStatus, Long> currentCounts() {
+        Map<User.UserStatus, Long> counts = new EnumMap<>(User.UserStatus.class);
+        counters.forEach((status, counter) -> counts.put(status, counter.sum()));
+        return counts;
+    }
+}
@@ -0,0 +1,12 @@
+-- 사용자 변경 이벤트 아웃박스 테이블 생성
+CREATE TABLE user_outbox (
+  id BIGINT AUTO_INCREMENT PRIMARY KEY,
+  user_id BIGINT NOT NULL,
+  event_type VARCHAR(20) NOT NULL,
+  user_status VARCHAR(20) NOT NULL,
+  created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+-- 기존 사용자 스냅샷 이벤트 적재 (소비 측 초기 동기화용)
+INSERT INTO user_outbox (user_id, event_type, user_status)
+SELECT id, 'SNAPSHOT', status FROM users ORDER BY id;
@@ -0,0 +1,15 @@
+-- 이벤트 피드 순번 (커밋된 이벤트에만 순번 작업이 커밋 순서대로 부여, 피드는 이 순번으로 제공)
+ALTER TABLE user_outbox ADD COLUMN feed_seq BIGINT;
+CREATE UNIQUE INDEX idx_user_outbox_feed_seq ON user_outbox(feed_seq);
+
+-- 기존 이벤트는 모두 커밋되어 있으므로 ID를 그대로 순번으로 사용 (소비 측 오프셋과 호환)
+UPDATE user_outbox SET feed_seq = id;
+
+-- 마지막으로 부여한 순번 (순번 작업이 이 행을 잠가 인스턴스 간 부여를 직렬화)
+CREATE TABLE outbox_sequence (
+  name VARCHAR(50) PRIMARY KEY,
+  last_seq BIGINT NOT NULL
+);
+
+INSERT INTO outbox_sequence (name, last_seq)
+SELECT 'user_outbox', COALESCE(MAX(id), 0) FROM user_outbox;
@@ -0,0 +1,72 @@
+package com.example.demo.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BloomFilterTest {
+    
+    @Test
+    void 추가한_값은_항상_있다고_답한다() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        List<String> emails = IntStream.range(0, 10_000)
+                .mapToObj(i -> "user" + i + "@example.com")
+                .toList();
+        
+        emails.forEach(filter::put);
+        
+        assertThat(emails).allMatch(filter::mightContain);
+    }
+    
+    @Test
+    void 예상_건수까지_넣으면_오탐률이_목표_근처에_머문다() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> filter.put("user" + i + "@example.com"));
+        
+        long falsePositives = IntStream.range(0, 100_000)
+                .filter(i -> filter.mightContain("other" + i + "@example.com"))
+                .count();
+        
+        assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+        assertThat(filter.estimatedFalsePositiveRate()).isLessThan(0.02);
+    }
+    
+    @Test
+    void 여러_스레드에서_동시에_추가해도_빠지는_값이_없다() throws Exception {
+        BloomFilter filter = new BloomFilter(40_000, 0.01);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> IntStream.range(0, 10_000)
+                        .forEach(i -> filter.put("t" + thread + "-" + i + "@example.com"))));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        
+        for (int t = 0; t < 4; t++) {
+            for (int i = 0; i < 10_000; i++) {
+                assertThat(filter.mightContain("t" + t + "-" + i + "@example.com")).isTrue();
+            }
+        }
+    }
+    
+    @Test
+    void 잘못된_설정은_거부한다() {
+        assertThatThrownBy(() -> new BloomFilter(0, 0.01)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new BloomFilter(100, 1.0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
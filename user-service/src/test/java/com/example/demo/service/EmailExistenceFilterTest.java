@@ -0,0 +1,72 @@
+package com.example.demo.service;
+
+import com.example.demo.config.EmailFilterProperties;
+import com.example.demo.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EmailExistenceFilterTest {
+    
+    private final UserRepository userRepository = mock(UserRepository.class);
+    
+    @SuppressWarnings("unchecked")
+    private final Predicate<String> verifier = mock(Predicate.class);
+    
+    @Test
+    void 적재_전에는_항상_DB를_확인한다() {
+        EmailExistenceFilter filter = newFilter();
+        when(verifier.test("a@example.com")).thenReturn(true);
+        
+        assertThat(filter.exists("a@example.com", verifier)).isTrue();
+        verify(verifier).test("a@example.com");
+    }
+    
+    @Test
+    void 필터에_없는_이메일은_DB_확인을_생략한다() {
+        when(userRepository.streamAllEmails()).thenReturn(Stream.of("a@example.com"));
+        EmailExistenceFilter filter = newFilter();
+        filter.initialize();
+        
+        assertThat(filter.exists("missing@example.com", verifier)).isFalse();
+        verify(verifier, never()).test(anyString());
+    }
+    
+    @Test
+    void 필터에_있는_이메일은_대소문자와_관계없이_DB로_확인한다() {
+        when(userRepository.streamAllEmails()).thenReturn(Stream.of("Alice@Example.com"));
+        EmailExistenceFilter filter = newFilter();
+        filter.initialize();
+        when(verifier.test("alice@example.COM")).thenReturn(true);
+        
+        assertThat(filter.exists("alice@example.COM", verifier)).isTrue();
+        verify(verifier).test("alice@example.COM");
+    }
+    
+    @Test
+    void 적재_후_추가한_이메일도_DB로_확인한다() {
+        when(userRepository.streamAllEmails()).thenReturn(Stream.empty());
+        EmailExistenceFilter filter = newFilter();
+        filter.initialize();
+        
+        filter.add("new@example.com");
+        
+        filter.exists("new@example.com", verifier);
+        verify(verifier).test("new@example.com");
+    }
+    
+    private EmailExistenceFilter newFilter() {
+        EmailFilterProperties properties = new EmailFilterProperties();
+        properties.setExpectedInsertions(1_000);
+        return new EmailExistenceFilter(userRepository, properties, new SimpleMeterRegistry());
+    }
+}
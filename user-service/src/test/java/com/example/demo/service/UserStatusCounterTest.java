@@ -0,0 +1,62 @@
+package com.example.demo.service;
+
+import com.example.demo.entity.User;
+import com.example.demo.event.UserStatusChangeEvent;
+import com.example.demo.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UserStatusCounterTest {
+    
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final UserStatusCounter counter = new UserStatusCounter(userRepository, meterRegistry);
+    
+    @Test
+    void 초기화_전에는_DB로_센다() {
+        when(userRepository.countByStatus(User.UserStatus.ACTIVE)).thenReturn(7L);
+        
+        assertThat(counter.getCount(User.UserStatus.ACTIVE)).isEqualTo(7);
+    }
+    
+    @Test
+    void DB_수로_초기화하고_커밋된_상태_변경을_반영한다() {
+        when(userRepository.countGroupByStatus()).thenReturn(List.<Object[]>of(new Object[]{User.UserStatus.ACTIVE, 2L}));
+        counter.initialize();
+        
+        counter.onUserStatusChange(new UserStatusChangeEvent(3L, null, User.UserStatus.ACTIVE));
+        counter.onUserStatusChange(new UserStatusChangeEvent(1L, User.UserStatus.ACTIVE, User.UserStatus.SUSPENDED));
+        
+        assertThat(counter.getCount(User.UserStatus.ACTIVE)).isEqualTo(2);
+        assertThat(counter.getCount(User.UserStatus.SUSPENDED)).isEqualTo(1);
+    }
+    
+    @Test
+    void 보정은_한_번에_DB와의_차이를_반영한다() {
+        when(userRepository.countGroupByStatus())
+                .thenReturn(List.<Object[]>of(new Object[]{User.UserStatus.ACTIVE, 2L}))
+                // 다른 인스턴스에서 가입한 사용자 3명은 이 인스턴스의 이벤트로 들어오지 않는다
+                .thenReturn(List.<Object[]>of(new Object[]{User.UserStatus.ACTIVE, 5L}));
+        counter.initialize();
+        
+        counter.reconcile();
+        
+        assertThat(counter.getCount(User.UserStatus.ACTIVE)).isEqualTo(5);
+        assertThat(drift(User.UserStatus.ACTIVE)).isEqualTo(3);
+        
+        counter.reconcile();
+        
+        assertThat(counter.getCount(User.UserStatus.ACTIVE)).isEqualTo(5);
+        assertThat(drift(User.UserStatus.ACTIVE)).isZero();
+    }
+    
+    private double drift(User.UserStatus status) {
+        return meterRegistry.get("users.status.count.drift").tag("status", status.name()).gauge().value();
+    }
+}